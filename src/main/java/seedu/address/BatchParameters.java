@@ -0,0 +1,170 @@
+package seedu.address;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Objects;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.BatchCommandRunner.OutputFormat;
+
+/**
+ * Represents the parsed command-line parameters given to the application when it runs commands in batch mode.
+ * Batch mode is chosen with {@code --batch} to read commands from standard input, or {@code --batch=FILE}
+ * to read them from a file. The other parameters are {@code --config=FILE}, {@code --save-every=N}
+ * and {@code --output=text|json}.
+ */
+public class BatchParameters {
+    public static final String BATCH_PARAMETER = "--batch";
+    public static final String STANDARD_INPUT = "-";
+
+    private static final String CONFIG_PARAMETER = "--config=";
+    private static final String SAVE_INTERVAL_PARAMETER = "--save-every=";
+    private static final String OUTPUT_FORMAT_PARAMETER = "--output=";
+
+    private static final Logger logger = LogsCenter.getLogger(BatchParameters.class);
+
+    private Path configPath;
+    private Path commandFilePath;
+    private int saveInterval;
+    private OutputFormat outputFormat = OutputFormat.TEXT;
+
+    public Path getConfigPath() {
+        return configPath;
+    }
+
+    public void setConfigPath(Path configPath) {
+        this.configPath = configPath;
+    }
+
+    /**
+     * Returns the file to read commands from, or null if they are read from standard input.
+     */
+    public Path getCommandFilePath() {
+        return commandFilePath;
+    }
+
+    public void setCommandFilePath(Path commandFilePath) {
+        this.commandFilePath = commandFilePath;
+    }
+
+    /**
+     * Returns the number of commands after which changes are saved, or 0 if they are only saved at the end.
+     */
+    public int getSaveInterval() {
+        return saveInterval;
+    }
+
+    public void setSaveInterval(int saveInterval) {
+        this.saveInterval = saveInterval;
+    }
+
+    public OutputFormat getOutputFormat() {
+        return outputFormat;
+    }
+
+    public void setOutputFormat(OutputFormat outputFormat) {
+        this.outputFormat = outputFormat;
+    }
+
+    /**
+     * Returns true if {@code args} ask for commands to be run in batch mode instead of launching the GUI.
+     */
+    public static boolean isBatchMode(List<String> args) {
+        return args.stream().anyMatch(arg -> arg.equals(BATCH_PARAMETER) || arg.startsWith(BATCH_PARAMETER + "="));
+    }
+
+    /**
+     * Parses the application command-line parameters for batch mode.
+     * Invalid values are logged and replaced by their defaults.
+     */
+    public static BatchParameters parse(List<String> args) {
+        BatchParameters batchParameters = new BatchParameters();
+        for (String arg : args) {
+            if (arg.startsWith(BATCH_PARAMETER + "=")) {
+                batchParameters.setCommandFilePath(parseCommandFilePath(arg.substring(BATCH_PARAMETER.length() + 1)));
+            } else if (arg.startsWith(CONFIG_PARAMETER)) {
+                batchParameters.setConfigPath(parseConfigPath(arg.substring(CONFIG_PARAMETER.length())));
+            } else if (arg.startsWith(SAVE_INTERVAL_PARAMETER)) {
+                batchParameters.setSaveInterval(parseSaveInterval(arg.substring(SAVE_INTERVAL_PARAMETER.length())));
+            } else if (arg.startsWith(OUTPUT_FORMAT_PARAMETER)) {
+                batchParameters.setOutputFormat(parseOutputFormat(arg.substring(OUTPUT_FORMAT_PARAMETER.length())));
+            } else if (!arg.equals(BATCH_PARAMETER)) {
+                logger.warning("Ignoring unknown parameter " + arg);
+            }
+        }
+        return batchParameters;
+    }
+
+    private static Path parseCommandFilePath(String value) {
+        if (value.equals(STANDARD_INPUT)) {
+            return null;
+        }
+        if (!FileUtil.isValidPath(value)) {
+            logger.warning("Invalid command file path " + value + ". Reading commands from standard input.");
+            return null;
+        }
+        return Paths.get(value);
+    }
+
+    private static Path parseConfigPath(String value) {
+        if (!FileUtil.isValidPath(value)) {
+            logger.warning("Invalid config path " + value + ". Using default config path.");
+            return null;
+        }
+        return Paths.get(value);
+    }
+
+    private static int parseSaveInterval(String value) {
+        if (!value.matches("\\d{1,9}")) {
+            logger.warning("Invalid save interval " + value + ". Saving only after the last command.");
+            return 0;
+        }
+        return Integer.parseInt(value);
+    }
+
+    private static OutputFormat parseOutputFormat(String value) {
+        for (OutputFormat outputFormat : OutputFormat.values()) {
+            if (outputFormat.name().equalsIgnoreCase(value)) {
+                return outputFormat;
+            }
+        }
+        logger.warning("Invalid output format " + value + ". Writing results as text.");
+        return OutputFormat.TEXT;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof BatchParameters otherBatchParameters)) {
+            return false;
+        }
+
+        return Objects.equals(configPath, otherBatchParameters.configPath)
+                && Objects.equals(commandFilePath, otherBatchParameters.commandFilePath)
+                && saveInterval == otherBatchParameters.saveInterval
+                && outputFormat == otherBatchParameters.outputFormat;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(configPath, commandFilePath, saveInterval, outputFormat);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("configPath", configPath)
+                .add("commandFilePath", commandFilePath)
+                .add("saveInterval", saveInterval)
+                .add("outputFormat", outputFormat)
+                .toString();
+    }
+}
@@ -0,0 +1,108 @@
+package seedu.address;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.BatchCommandRunner;
+import seedu.address.logic.LogicManager;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.JournaledAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.UserPrefsStorage;
+
+/**
+ * Runs the application without the GUI, executing commands read from a file or standard input.
+ * Uses the same config, preferences and data file as the GUI.
+ */
+public class HeadlessApp {
+
+    /** Every command succeeded. */
+    public static final int EXIT_SUCCESS = 0;
+    /** At least one command failed, but the others were run and saved. */
+    public static final int EXIT_COMMAND_FAILED = 1;
+    /** The data file or the commands could not be read, or the changes could not be saved. */
+    public static final int EXIT_ERROR = 2;
+
+    private static final Logger logger = LogsCenter.getLogger(HeadlessApp.class);
+
+    private final BatchParameters parameters;
+
+    public HeadlessApp(BatchParameters parameters) {
+        this.parameters = parameters;
+    }
+
+    /**
+     * Runs the commands read from {@code in}, or from the command file if one was given,
+     * writing their results to {@code out}.
+     *
+     * @return The exit code, one of {@code EXIT_SUCCESS}, {@code EXIT_COMMAND_FAILED} or {@code EXIT_ERROR}.
+     */
+    public int run(InputStream in, PrintStream out) {
+        logger.info("=========================[ Running INcontact in batch mode ]=========================");
+        Config config = MainApp.initConfig(parameters.getConfigPath());
+        LogsCenter.init(config);
+
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = MainApp.initPrefs(userPrefsStorage);
+        AddressBookStorage addressBookStorage = MainApp.initAddressBookStorage(config, userPrefs);
+        Storage storage = new StorageManager(addressBookStorage, userPrefsStorage);
+
+        try {
+            // Unlike the GUI, never start from an empty address book when the data file cannot be read,
+            // as saving at the end would then overwrite the data file
+            ReadOnlyAddressBook initialData = storage.readAddressBook().orElseGet(AddressBook::new);
+            LogicManager logic = new LogicManager(new ModelManager(initialData, userPrefs), storage);
+            BatchCommandRunner runner = new BatchCommandRunner(logic, parameters.getSaveInterval(),
+                    parameters.getOutputFormat(), out);
+
+            int failedCount;
+            try (BufferedReader reader = openCommandReader(in)) {
+                failedCount = runner.run(reader);
+            }
+            return failedCount == 0 ? EXIT_SUCCESS : EXIT_COMMAND_FAILED;
+        } catch (DataLoadingException e) {
+            logger.severe("Data file at " + storage.getAddressBookFilePath() + " could not be loaded: "
+                    + StringUtil.getDetails(e));
+            return EXIT_ERROR;
+        } catch (IOException e) {
+            logger.severe("Batch run stopped: " + StringUtil.getDetails(e));
+            return EXIT_ERROR;
+        } finally {
+            closeStorage(addressBookStorage);
+        }
+    }
+
+    private static void closeStorage(AddressBookStorage addressBookStorage) {
+        if (!(addressBookStorage instanceof JournaledAddressBookStorage journaledStorage)) {
+            return;
+        }
+        try {
+            journaledStorage.close();
+        } catch (IOException e) {
+            logger.warning("Failed to close the journal " + StringUtil.getDetails(e));
+        }
+    }
+
+    private BufferedReader openCommandReader(InputStream in) throws IOException {
+        if (parameters.getCommandFilePath() == null) {
+            return new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        }
+        return Files.newBufferedReader(parameters.getCommandFilePath(), StandardCharsets.UTF_8);
+    }
+}
@@ -1,5 +1,7 @@
 package seedu.address;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
@@ -20,6 +22,8 @@ import seedu.address.commons.core.LogsCenter;
  *
  * By having a separate main class (Main) that doesn't extend Application
  * to be the entry point of the application, we avoid this issue.
+ *
+ * Given {@code --batch}, runs commands without the GUI instead, see {@link BatchParameters}.
  */
 public class Main {
     private static Logger logger = LogsCenter.getLogger(Main.class);
@@ -35,6 +39,12 @@ public class Main {
         // the user (if looking at the log output) that the said warning appearing in the log
         // can be ignored.
 
+        List<String> argList = Arrays.asList(args);
+        if (BatchParameters.isBatchMode(argList)) {
+            int exitCode = new HeadlessApp(BatchParameters.parse(argList)).run(System.in, System.out);
+            System.exit(exitCode);
+        }
+
         logger.warning("The warning about Unsupported JavaFX configuration below (if any) can be ignored.");
         Application.launch(MainApp.class, args);
     }
@@ -6,8 +6,11 @@ import java.util.Optional;
 import java.util.logging.Logger;
 
 import javafx.application.Application;
+import javafx.application.Platform;
 import javafx.stage.Stage;
+import seedu.address.api.ApiServer;
 import seedu.address.commons.core.Config;
+import seedu.address.commons.core.Config.DataFileFormat;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.core.Version;
 import seedu.address.commons.exceptions.DataLoadingException;
@@ -15,6 +18,8 @@ import seedu.address.commons.util.ConfigUtil;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
+import seedu.address.logic.ProgressiveAddressBookLoader;
+import seedu.address.logic.parser.DateParserUtil;
 import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
@@ -22,7 +27,10 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.AddressBookSaveScheduler;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JournaledAddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
 import seedu.address.storage.Storage;
@@ -43,28 +51,69 @@ public class MainApp extends Application {
     protected Ui ui;
     protected Logic logic;
     protected Storage storage;
+    protected AddressBookSaveScheduler saveScheduler;
+    protected AddressBookStorage addressBookStorage;
     protected Model model;
     protected Config config;
+    // Loads the data file after the main window is shown, or null if it was loaded before
+    protected ProgressiveAddressBookLoader loader;
+    // Serves the address book over HTTP, or null if the API is not enabled
+    protected ApiServer apiServer;
 
     @Override
     public void init() throws Exception {
         logger.info("=============================[ Initializing INcontact ]===========================");
         super.init();
 
+        // Loads the natural language date parser while the rest of the app starts up
+        DateParserUtil.startWarmUp();
+
         AppParameters appParameters = AppParameters.parse(getParameters());
         config = initConfig(appParameters.getConfigPath());
         initLogging(config);
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        addressBookStorage = initAddressBookStorage(config, userPrefs);
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
-        model = initModelManager(storage, userPrefs);
+        if (config.isProgressiveStartup()) {
+            model = new ModelManager(new AddressBook(), userPrefs);
+            loader = new ProgressiveAddressBookLoader(() -> readInitialData(storage), model, Platform::runLater);
+        } else {
+            model = initModelManager(storage, userPrefs);
+        }
 
-        logic = new LogicManager(model, storage);
+        saveScheduler = new AddressBookSaveScheduler(storage);
+        logic = new LogicManager(model, storage, saveScheduler);
+        if (loader != null) {
+            // The loaded data is already in the data file
+            loader.addCompletionHandler(logic::markAddressBookSaved);
+        }
+
+        if (config.getApiSettings().isEnabled()) {
+            // The token file is kept next to the config file, where the user's other settings are
+            Path configFilePath = Optional.ofNullable(appParameters.getConfigPath()).orElse(Config.DEFAULT_CONFIG_FILE);
+            apiServer = new ApiServer(config.getApiSettings(), model, logic, Platform::runLater,
+                    ApiServer.getTokenFilePath(configFilePath));
+        }
 
-        ui = new UiManager(logic);
+        ui = new UiManager(logic, loader);
+    }
+
+    /**
+     * Returns the storage for the address book file in {@code userPrefs}, which keeps a journal of changes
+     * if journaling is enabled in {@code config}, or else keeps the data in the data file format in {@code config}.
+     */
+    static AddressBookStorage initAddressBookStorage(Config config, ReadOnlyUserPrefs userPrefs) {
+        if (config.getJournalSettings().isEnabled()) {
+            logger.info("Journaling changes to the data file with settings " + config.getJournalSettings());
+            return new JournaledAddressBookStorage(userPrefs.getAddressBookFilePath(), config.getJournalSettings());
+        }
+        if (config.getDataFileFormat() == DataFileFormat.BINARY) {
+            return new BinaryAddressBookStorage(userPrefs.getAddressBookFilePath());
+        }
+        return new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
     }
 
     /**
@@ -73,6 +122,14 @@ public class MainApp extends Application {
      * or an empty address book will be used instead if errors occur when reading {@code storage}'s address book.
      */
     private Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs) {
+        return new ModelManager(readInitialData(storage), userPrefs);
+    }
+
+    /**
+     * Returns the data from {@code storage}'s address book, or the sample address book if it is not found,
+     * or an empty address book if errors occur when reading it.
+     */
+    private static ReadOnlyAddressBook readInitialData(Storage storage) {
         logger.info("Using data file : " + storage.getAddressBookFilePath());
 
         Optional<ReadOnlyAddressBook> addressBookOptional;
@@ -90,7 +147,7 @@ public class MainApp extends Application {
             initialData = new AddressBook();
         }
 
-        return new ModelManager(initialData, userPrefs);
+        return initialData;
     }
 
     private void initLogging(Config config) {
@@ -102,7 +159,7 @@ public class MainApp extends Application {
      * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
      * if {@code configFilePath} is null.
      */
-    protected Config initConfig(Path configFilePath) {
+    protected static Config initConfig(Path configFilePath) {
         Config initializedConfig;
         Path configFilePathUsed;
 
@@ -141,7 +198,7 @@ public class MainApp extends Application {
      * or a new {@code UserPrefs} with default configuration if errors occur when
      * reading from the file.
      */
-    protected UserPrefs initPrefs(UserPrefsStorage storage) {
+    protected static UserPrefs initPrefs(UserPrefsStorage storage) {
         Path prefsFilePath = storage.getUserPrefsFilePath();
         logger.info("Using preference file : " + prefsFilePath);
 
@@ -172,14 +229,59 @@ public class MainApp extends Application {
     public void start(Stage primaryStage) {
         logger.info("Starting INcontact " + MainApp.VERSION);
         ui.start(primaryStage);
+        if (loader != null) {
+            // Only serve the address book once all of it has been loaded
+            loader.addCompletionHandler(this::startApiServer);
+            loader.start();
+        } else {
+            startApiServer();
+        }
+    }
+
+    private void startApiServer() {
+        if (apiServer == null) {
+            return;
+        }
+        try {
+            apiServer.start();
+        } catch (IOException e) {
+            logger.warning("Failed to start the API server: " + StringUtil.getDetails(e));
+            apiServer = null;
+        }
     }
 
     @Override
     public void stop() {
         logger.info("============================ [ Stopping INcontact ] =============================");
+        if (apiServer != null) {
+            apiServer.stop();
+        }
+        // The address book is saved first, so that failing to save the preferences cannot lose changes to it
+        try {
+            // Saving data that is still being loaded, or that failed to load, would drop what was not loaded
+            if (loader == null || loader.isFinished() && !loader.hasFailed()) {
+                // Skipped if nothing changed since the last save, else merged with any save still pending and written
+                logic.saveAddressBook();
+            }
+        } catch (IOException e) {
+            logger.severe("Failed to save address book " + StringUtil.getDetails(e));
+        }
+        try {
+            // Writes any save still pending, e.g. while the address book was still being loaded
+            saveScheduler.shutdown();
+        } catch (IOException e) {
+            logger.severe("Failed to save address book " + StringUtil.getDetails(e));
+        }
+        if (addressBookStorage instanceof JournaledAddressBookStorage journaledStorage) {
+            try {
+                journaledStorage.close();
+            } catch (IOException e) {
+                logger.severe("Failed to close the journal " + StringUtil.getDetails(e));
+            }
+        }
+
         try {
             storage.saveUserPrefs(model.getUserPrefs());
-            storage.saveAddressBook(model.getAddressBook());
         } catch (IOException e) {
             logger.severe("Failed to save preferences " + StringUtil.getDetails(e));
         }
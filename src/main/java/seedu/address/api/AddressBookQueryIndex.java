@@ -0,0 +1,218 @@
+package seedu.address.api;
+
+import static java.util.Objects.requireNonNull;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Person;
+import seedu.address.model.relationship.Relationship;
+import seedu.address.model.search.SearchField;
+import seedu.address.model.search.TrigramIndex;
+
+/**
+ * Indexes a snapshot of the address book for the queries served by the API.
+ * Guarantees: its results never change, and it can be queried from any number of threads at once.
+ *
+ * Results are returned a page at a time. The cursor for the next page identifies the last item returned,
+ * so a page is found by walking the index from that item onwards, without collecting the results before it.
+ * A cursor from an older index continues from the same place in a newer one.
+ */
+class AddressBookQueryIndex {
+
+    private static final Comparator<EventKey> EVENT_ORDER =
+            Comparator.comparing(EventKey::date).thenComparing(EventKey::id);
+
+    private final NavigableMap<String, Person> personsById = new TreeMap<>();
+    private final Map<String, List<Relationship>> relationshipsByPersonId = new HashMap<>();
+    private final NavigableMap<EventKey, Event> eventsByDate = new TreeMap<>(EVENT_ORDER);
+    // Guarded by this index, and never changed once built
+    private final Map<SearchField, TrigramIndex<String>> searchIndexes = new EnumMap<>(SearchField.class);
+
+    /**
+     * Indexes {@code snapshot}, which must not change afterwards.
+     */
+    AddressBookQueryIndex(ReadOnlyAddressBook snapshot) {
+        requireNonNull(snapshot);
+        // As in the address book, the first person in the list holds an ID that more than one person hashes to
+        for (Person person : snapshot.getPersonList()) {
+            personsById.putIfAbsent(person.getId(), person);
+        }
+        for (Relationship relationship : snapshot.getRelationshipList()) {
+            relationshipsByPersonId.computeIfAbsent(relationship.getFirstUserId(), id -> new ArrayList<>())
+                    .add(relationship);
+            if (!relationship.getFirstUserId().equals(relationship.getSecondUserId())) {
+                relationshipsByPersonId.computeIfAbsent(relationship.getSecondUserId(), id -> new ArrayList<>())
+                        .add(relationship);
+            }
+        }
+        for (Event event : snapshot.getEventList()) {
+            eventsByDate.put(new EventKey(LocalDateTime.parse(event.getDate()), event.getId()), event);
+        }
+    }
+
+    /**
+     * Returns the person with the given ID, if any.
+     */
+    Optional<Person> getPerson(String id) {
+        return Optional.ofNullable(personsById.get(id));
+    }
+
+    /**
+     * Returns the relationships that the person with the given ID is in.
+     */
+    List<Relationship> getRelationshipsOf(String personId) {
+        return Collections.unmodifiableList(relationshipsByPersonId.getOrDefault(personId, List.of()));
+    }
+
+    /**
+     * Returns a page of the persons, ordered by ID, whose {@code field} contains any of {@code keywords}
+     * ignoring case, starting after {@code cursor}, or from the first person if {@code cursor} is null.
+     * Only the candidates found in the trigram index of the field are checked, unless some keyword is too short
+     * to be looked up in it.
+     */
+    Page<Person> findPersons(SearchField field, List<String> keywords, String cursor, int limit) {
+        List<String> lowerCaseKeywords = StringUtil.toLowerCase(keywords);
+        Predicate<Person> predicate = person ->
+                StringUtil.containsAnySubstring(field.getSearchKey(person), lowerCaseKeywords);
+        String lastId = cursor == null ? null : decodeCursor(cursor);
+
+        Optional<Set<String>> candidateIds = findCandidateIds(field, keywords);
+        if (candidateIds.isEmpty()) {
+            NavigableMap<String, Person> remaining = lastId == null ? personsById : personsById.tailMap(lastId, false);
+            return Page.of(remaining.values(), predicate, limit, person -> encodeCursor(person.getId()));
+        }
+        List<Person> remainingCandidates = candidateIds.get().stream()
+                .filter(id -> lastId == null || id.compareTo(lastId) > 0)
+                .sorted()
+                .map(personsById::get)
+                .toList();
+        return Page.of(remainingCandidates, predicate, limit, person -> encodeCursor(person.getId()));
+    }
+
+    /**
+     * Returns the IDs of the persons whose {@code field} may contain any of {@code keywords}, ignoring case,
+     * or an empty {@code Optional} if some keyword is too short to be looked up in the trigram index.
+     */
+    private Optional<Set<String>> findCandidateIds(SearchField field, List<String> keywords) {
+        TrigramIndex<String> index = getSearchIndex(field);
+        Set<String> candidateIds = new HashSet<>();
+        for (String keyword : keywords) {
+            Optional<Set<String>> keywordCandidateIds = index.findCandidates(keyword);
+            if (keywordCandidateIds.isEmpty()) {
+                return Optional.empty();
+            }
+            candidateIds.addAll(keywordCandidateIds.get());
+        }
+        return Optional.of(candidateIds);
+    }
+
+    /**
+     * Returns the trigram index of {@code field}, building it on its first use. Fields that are never searched
+     * are never indexed, so serving the other queries does not wait for the trigram indexes to be built.
+     */
+    private synchronized TrigramIndex<String> getSearchIndex(SearchField field) {
+        return searchIndexes.computeIfAbsent(field, unused -> {
+            TrigramIndex<String> index = new TrigramIndex<>();
+            for (Person person : personsById.values()) {
+                index.add(person.getId(), field.getText(person));
+            }
+            return index;
+        });
+    }
+
+    /**
+     * Returns a page of the events from {@code from} to {@code to} inclusive, ordered by date,
+     * starting after {@code cursor}, or from the first such event if {@code cursor} is null.
+     *
+     * @throws IllegalArgumentException if {@code cursor} is not a cursor returned for an earlier page of events.
+     */
+    Page<Event> findEventsBetween(LocalDateTime from, LocalDateTime to, String cursor, int limit) {
+        if (from.isAfter(to)) {
+            return new Page<>(List.of(), null);
+        }
+        NavigableMap<EventKey, Event> inRange =
+                eventsByDate.subMap(new EventKey(from, ""), true, new EventKey(to, "\uffff"), true);
+        NavigableMap<EventKey, Event> remaining = cursor == null
+                ? inRange
+                : inRange.tailMap(EventKey.fromCursorValue(decodeCursor(cursor)), false);
+        return Page.of(remaining.values(), event -> true, limit, event ->
+                encodeCursor(new EventKey(LocalDateTime.parse(event.getDate()), event.getId()).toCursorValue()));
+    }
+
+    private static String encodeCursor(String value) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decodeCursor(String cursor) {
+        return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Orders events by date, then by ID for events on the same date.
+     */
+    private record EventKey(LocalDateTime date, String id) {
+        private static final String SEPARATOR = "|";
+
+        String toCursorValue() {
+            return date + SEPARATOR + id;
+        }
+
+        static EventKey fromCursorValue(String value) {
+            int separatorIndex = value.indexOf(SEPARATOR);
+            if (separatorIndex < 0) {
+                throw new IllegalArgumentException("Invalid cursor");
+            }
+            try {
+                return new EventKey(LocalDateTime.parse(value.substring(0, separatorIndex)),
+                        value.substring(separatorIndex + 1));
+            } catch (DateTimeParseException e) {
+                throw new IllegalArgumentException("Invalid cursor", e);
+            }
+        }
+    }
+
+    /**
+     * A page of results, and the cursor for the next page if there are more results.
+     */
+    record Page<T>(List<T> items, String nextCursor) {
+
+        /**
+         * Returns the first {@code limit} of {@code candidates} that satisfy {@code predicate}, looking at no more
+         * candidates than needed to find them and to tell whether there are more.
+         */
+        static <T> Page<T> of(Iterable<T> candidates, Predicate<T> predicate, int limit,
+                Function<T, String> cursorOf) {
+            List<T> items = new ArrayList<>();
+            for (T candidate : candidates) {
+                if (!predicate.test(candidate)) {
+                    continue;
+                }
+                if (items.size() == limit) {
+                    return new Page<>(items, cursorOf.apply(items.get(limit - 1)));
+                }
+                items.add(candidate);
+            }
+            return new Page<>(items, null);
+        }
+    }
+}
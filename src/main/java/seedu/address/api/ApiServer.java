@@ -0,0 +1,493 @@
+package seedu.address.api;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import seedu.address.commons.core.ApiSettings;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.Model;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Person;
+import seedu.address.model.relationship.Relationship;
+import seedu.address.model.search.SearchField;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Serves the address book over HTTP on the loopback address, so that other tools on the same machine can query
+ * and change it while the app runs. Requests and responses are JSON, except for the command text posted to
+ * {@code /commands}.
+ *
+ * <ul>
+ * <li>{@code GET /persons/ID} returns the person with the given ID.</li>
+ * <li>{@code GET /persons/ID/relationships} returns the relationships of that person.</li>
+ * <li>{@code GET /persons?field=FIELD&keyword=KEYWORD...} returns a page of the persons whose field contains
+ *     any of the keywords, ignoring case.</li>
+ * <li>{@code GET /events?from=DATE&to=DATE} returns a page of the events in that range, ordered by date.</li>
+ * <li>{@code POST /commands} runs the command in the request body, as if it had been entered in the app.</li>
+ * </ul>
+ * Pages take an optional {@code limit}, and the {@code cursor} returned with the previous page.
+ *
+ * Every request must carry the token written to the token file at startup, as {@code Authorization: Bearer TOKEN},
+ * so that only programs that can read the user's files can use the API. Requests with an {@code Origin} header are
+ * refused, as they come from web pages, and commands must be posted as {@code text/plain}.
+ *
+ * Requests are served by a pool of threads. Reads are answered from an index of a snapshot of the address book.
+ * The version of the address book is checked on the request thread, and only when it has changed since the last
+ * index is a snapshot taken on the model thread. The first read to see a version builds its index, which all the
+ * reads of that version then share. Commands are run on the model thread, one at a time.
+ */
+public class ApiServer {
+
+    public static final int DEFAULT_PAGE_SIZE = 50;
+    public static final int MAX_PAGE_SIZE = 1000;
+    public static final String TOKEN_FILE_NAME = "api-token";
+
+    private static final Logger logger = LogsCenter.getLogger(ApiServer.class);
+
+    private static final String PERSONS_PATH = "/persons";
+    private static final String EVENTS_PATH = "/events";
+    private static final String COMMANDS_PATH = "/commands";
+    private static final String RELATIONSHIPS_SUFFIX = "/relationships";
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final int TOKEN_BYTES = 32;
+
+    private final ApiSettings settings;
+    private final Model model;
+    private final Logic logic;
+    private final Executor modelExecutor;
+    private final Path tokenFilePath;
+
+    private HttpServer server;
+    private byte[] token;
+    private ExecutorService requestExecutor;
+    private final AtomicReference<IndexBuild> latestIndexBuild = new AtomicReference<>();
+
+    /**
+     * Creates a server for {@code model}, that runs commands through {@code logic}.
+     * The model is only read and changed through {@code modelExecutor}, i.e. on the thread that owns it.
+     * The token that requests must carry is written to {@code tokenFilePath} each time the server starts.
+     */
+    public ApiServer(ApiSettings settings, Model model, Logic logic, Executor modelExecutor, Path tokenFilePath) {
+        requireAllNonNull(settings, model, logic, modelExecutor, tokenFilePath);
+        this.settings = settings;
+        this.model = model;
+        this.logic = logic;
+        this.modelExecutor = modelExecutor;
+        this.tokenFilePath = tokenFilePath;
+    }
+
+    /**
+     * Returns the path of the token file kept next to the config file at {@code configFilePath}.
+     */
+    public static Path getTokenFilePath(Path configFilePath) {
+        return configFilePath.resolveSibling(TOKEN_FILE_NAME);
+    }
+
+    /**
+     * Generates a new token, writes it to the token file, and starts listening for requests.
+     *
+     * @throws IOException if the token file could not be written or the server could not listen on the
+     *     configured port.
+     */
+    public void start() throws IOException {
+        byte[] tokenBytes = new byte[TOKEN_BYTES];
+        new SecureRandom().nextBytes(tokenBytes);
+        String tokenText = Base64.getUrlEncoder().withoutPadding().encodeToString(tokenBytes);
+        writeTokenFile(tokenFilePath, tokenText);
+        token = tokenText.getBytes(StandardCharsets.US_ASCII);
+
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), settings.getPort()), 0);
+        AtomicInteger threadCount = new AtomicInteger();
+        requestExecutor = Executors.newFixedThreadPool(Math.max(1, settings.getReadThreadCount()), runnable -> {
+            Thread thread = new Thread(runnable, "api-request-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        server.setExecutor(requestExecutor);
+        server.createContext(PERSONS_PATH, exchange -> handle(exchange, this::handlePersons));
+        server.createContext(EVENTS_PATH, exchange -> handle(exchange, this::handleEvents));
+        server.createContext(COMMANDS_PATH, exchange -> handle(exchange, this::handleCommand));
+        server.start();
+        logger.info("Serving the API at http://" + server.getAddress().getHostString() + ":" + getPort());
+    }
+
+    /**
+     * Returns the port the server is listening on.
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Stops listening for requests, waiting briefly for requests being served to finish.
+     */
+    public void stop() {
+        if (server == null) {
+            return;
+        }
+        server.stop(1);
+        server = null;
+        requestExecutor.shutdownNow();
+        try {
+            Files.deleteIfExists(tokenFilePath);
+        } catch (IOException e) {
+            logger.warning("Failed to delete the API token file " + tokenFilePath + ": " + e);
+        }
+    }
+
+    /**
+     * Writes {@code token} to {@code file}, readable only by the user where the file system supports it.
+     */
+    private static void writeTokenFile(Path file, String token) throws IOException {
+        FileUtil.createParentDirsOfFile(file);
+        Files.deleteIfExists(file);
+        if (file.getFileSystem().supportedFileAttributeViews().contains("posix")) {
+            Files.createFile(file, PosixFilePermissions.asFileAttribute(PosixFilePermissions.fromString("rw-------")));
+        }
+        FileUtil.writeToFile(file, token);
+    }
+
+    private void handle(HttpExchange exchange, RequestHandler handler) throws IOException {
+        int status = 200;
+        Object response;
+        try {
+            authorize(exchange);
+            response = handler.handle(exchange);
+        } catch (ApiException e) {
+            status = e.status;
+            response = Map.of("error", e.getMessage());
+        } catch (RuntimeException e) {
+            logger.warning("Failed to serve " + exchange.getRequestURI() + ": " + StringUtil.getDetails(e));
+            status = 500;
+            response = Map.of("error", "Internal error");
+        }
+
+        byte[] body = JsonUtil.toCompactJsonString(response).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        exchange.sendResponseHeaders(status, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    /**
+     * Refuses requests from web pages, and requests that do not carry the token.
+     */
+    private void authorize(HttpExchange exchange) throws ApiException {
+        // Browsers add an Origin to cross-origin requests, which other programs have no reason to send
+        if (exchange.getRequestHeaders().containsKey("Origin")) {
+            throw new ApiException(403, "Requests from web pages are not allowed");
+        }
+        String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+        if (authorization == null || !authorization.startsWith(BEARER_PREFIX)
+                || !MessageDigest.isEqual(token, authorization.substring(BEARER_PREFIX.length())
+                        .getBytes(StandardCharsets.US_ASCII))) {
+            throw new ApiException(401, "The token in " + TOKEN_FILE_NAME + " is required");
+        }
+    }
+
+    private Object handlePersons(HttpExchange exchange) throws ApiException {
+        requireMethod(exchange, "GET");
+        String path = exchange.getRequestURI().getPath();
+        Map<String, List<String>> query = parseQuery(exchange.getRequestURI().getRawQuery());
+        AddressBookQueryIndex currentIndex = getIndex();
+
+        if (path.equals(PERSONS_PATH) || path.equals(PERSONS_PATH + "/")) {
+            SearchField field = parseSearchField(getSingle(query, "field"));
+            List<String> keywords = query.getOrDefault("keyword", List.of());
+            if (keywords.isEmpty()) {
+                throw new ApiException(400, "At least one keyword is required");
+            }
+            try {
+                return toJson(currentIndex.findPersons(field, keywords, getSingle(query, "cursor"),
+                        parseLimit(getSingle(query, "limit"))), ApiServer::toJson);
+            } catch (IllegalArgumentException e) {
+                throw new ApiException(400, "Invalid cursor");
+            }
+        }
+
+        if (!path.startsWith(PERSONS_PATH + "/")) {
+            throw new ApiException(404, "Not found: " + path);
+        }
+        String personId = path.substring(PERSONS_PATH.length() + 1);
+        if (personId.endsWith(RELATIONSHIPS_SUFFIX)) {
+            personId = personId.substring(0, personId.length() - RELATIONSHIPS_SUFFIX.length());
+            requirePerson(currentIndex, personId);
+            List<Object> relationships = new ArrayList<>();
+            currentIndex.getRelationshipsOf(personId).forEach(relationship -> relationships.add(toJson(relationship)));
+            return Map.of("items", relationships);
+        }
+        return toJson(requirePerson(currentIndex, personId));
+    }
+
+    private Object handleEvents(HttpExchange exchange) throws ApiException {
+        requireMethod(exchange, "GET");
+        Map<String, List<String>> query = parseQuery(exchange.getRequestURI().getRawQuery());
+        LocalDateTime from = parseDateTime(getSingle(query, "from"), LocalDateTime.MIN);
+        LocalDateTime to = parseDateTime(getSingle(query, "to"), LocalDateTime.MAX);
+        try {
+            return toJson(getIndex().findEventsBetween(from, to, getSingle(query, "cursor"),
+                    parseLimit(getSingle(query, "limit"))), ApiServer::toJson);
+        } catch (IllegalArgumentException e) {
+            throw new ApiException(400, "Invalid cursor");
+        }
+    }
+
+    private Object handleCommand(HttpExchange exchange) throws ApiException, IOException {
+        requireMethod(exchange, "POST");
+        String contentType = exchange.getRequestHeaders().getFirst("Content-Type");
+        if (contentType == null || !contentType.split(";")[0].trim().equalsIgnoreCase("text/plain")) {
+            throw new ApiException(415, "Commands must be posted as text/plain");
+        }
+        String commandText;
+        try (InputStream in = exchange.getRequestBody()) {
+            commandText = new String(in.readAllBytes(), StandardCharsets.UTF_8).trim();
+        }
+        if (commandText.isEmpty()) {
+            throw new ApiException(400, "A command is required");
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("command", commandText);
+        Object outcome = callOnModelThread(() -> {
+            try {
+                return logic.execute(commandText);
+            } catch (CommandException | ParseException e) {
+                return e;
+            }
+        });
+        if (outcome instanceof CommandResult commandResult) {
+            result.put("success", true);
+            result.put("feedback", commandResult.getFeedbackToUser());
+        } else {
+            result.put("success", false);
+            result.put("feedback", ((Exception) outcome).getMessage());
+        }
+        return result;
+    }
+
+    /**
+     * Returns an index of the address book as it is now, reusing the last index if nothing has changed since.
+     */
+    private AddressBookQueryIndex getIndex() {
+        // The version can be read on any thread, so an unchanged address book costs no trip to the model thread
+        long version = model.getAddressBook().getVersion();
+        while (true) {
+            IndexBuild latest = latestIndexBuild.get();
+            if (latest != null && latest.minVersion() >= version) {
+                return join(latest.index());
+            }
+            IndexBuild build = new IndexBuild(version, new CompletableFuture<>());
+            if (latestIndexBuild.compareAndSet(latest, build)) {
+                buildIndex(build);
+                return join(build.index());
+            }
+            // Another read started building an index first, which may be of an older version than this one needs
+        }
+    }
+
+    private void buildIndex(IndexBuild build) {
+        try {
+            AddressBookSnapshot snapshot = callOnModelThread(() -> AddressBookSnapshot.of(model.getAddressBook()));
+            // Indexing is done on this thread, so that the model thread only has to take the snapshot
+            build.index().complete(new AddressBookQueryIndex(snapshot));
+        } catch (RuntimeException | Error e) {
+            // Reads waiting for this index must not wait forever, and the next read may try again
+            latestIndexBuild.compareAndSet(build, null);
+            build.index().completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException runtimeException ? runtimeException : e;
+        }
+    }
+
+    private <T> T callOnModelThread(Supplier<T> task) {
+        return join(CompletableFuture.supplyAsync(task, modelExecutor));
+    }
+
+    private static void requireMethod(HttpExchange exchange, String method) throws ApiException {
+        if (!exchange.getRequestMethod().equals(method)) {
+            throw new ApiException(405, "Method not allowed: " + exchange.getRequestMethod());
+        }
+    }
+
+    private static Person requirePerson(AddressBookQueryIndex index, String personId) throws ApiException {
+        return index.getPerson(personId)
+                .orElseThrow(() -> new ApiException(404, "No person with ID " + personId));
+    }
+
+    private static Map<String, List<String>> parseQuery(String rawQuery) {
+        Map<String, List<String>> query = new LinkedHashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return query;
+        }
+        for (String parameter : rawQuery.split("&")) {
+            int equalsIndex = parameter.indexOf('=');
+            String name = equalsIndex < 0 ? parameter : parameter.substring(0, equalsIndex);
+            String value = equalsIndex < 0 ? "" : parameter.substring(equalsIndex + 1);
+            query.computeIfAbsent(URLDecoder.decode(name, StandardCharsets.UTF_8), key -> new ArrayList<>())
+                    .add(URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return query;
+    }
+
+    private static String getSingle(Map<String, List<String>> query, String name) {
+        List<String> values = query.get(name);
+        return values == null || values.isEmpty() ? null : values.get(0);
+    }
+
+    private static SearchField parseSearchField(String value) throws ApiException {
+        if (value == null) {
+            throw new ApiException(400, "A field is required");
+        }
+        for (SearchField field : SearchField.values()) {
+            if (field.name().equals(value.toUpperCase(Locale.ROOT))) {
+                return field;
+            }
+        }
+        throw new ApiException(400, "Unknown field: " + value);
+    }
+
+    private static int parseLimit(String value) throws ApiException {
+        if (value == null) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        if (!value.matches("\\d{1,9}") || Integer.parseInt(value) < 1 || Integer.parseInt(value) > MAX_PAGE_SIZE) {
+            throw new ApiException(400, "The limit must be from 1 to " + MAX_PAGE_SIZE);
+        }
+        return Integer.parseInt(value);
+    }
+
+    private static LocalDateTime parseDateTime(String value, LocalDateTime defaultValue) throws ApiException {
+        if (value == null) {
+            return defaultValue;
+        }
+        try {
+            return LocalDateTime.parse(value);
+        } catch (DateTimeParseException e) {
+            throw new ApiException(400, "Invalid date-time, expected e.g. 2026-10-20T14:00: " + value);
+        }
+    }
+
+    private static <T> Map<String, Object> toJson(AddressBookQueryIndex.Page<T> page,
+            Function<T, Map<String, Object>> itemToJson) {
+        List<Object> items = new ArrayList<>(page.items().size());
+        page.items().forEach(item -> items.add(itemToJson.apply(item)));
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("items", items);
+        json.put("nextCursor", page.nextCursor());
+        return json;
+    }
+
+    private static Map<String, Object> toJson(Person person) {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("id", person.getId());
+        json.put("name", person.getName().fullName);
+        json.put("phone", person.getPhone().value);
+        json.put("email", person.getEmail().value);
+        json.put("address", person.getAddress().value);
+        json.put("socials", person.getSocials().stream().map(social -> social.value).sorted().toList());
+        json.put("tags", toJson(person.getTags()));
+        return json;
+    }
+
+    private static Map<String, Object> toJson(Relationship relationship) {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("firstUserId", relationship.getFirstUserId());
+        json.put("secondUserId", relationship.getSecondUserId());
+        json.put("forwardName", relationship.getForwardName());
+        json.put("reverseName", relationship.getReverseName());
+        json.put("tags", toJson(relationship.getTags()));
+        return json;
+    }
+
+    private static Map<String, Object> toJson(Event event) {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("id", event.getId());
+        json.put("name", event.getName());
+        json.put("date", event.getDate());
+        json.put("location", event.getLocation());
+        json.put("description", event.getDescription());
+        json.put("tags", toJson(event.getTags()));
+        json.put("contactIds", new ArrayList<>(event.getContactIds()));
+        return json;
+    }
+
+    private static List<String> toJson(Set<Tag> tags) {
+        return tags.stream().map(tag -> tag.tagName).sorted().toList();
+    }
+
+    /**
+     * The index of a snapshot taken once the address book was at least at {@code minVersion},
+     * which completes when it has been built.
+     */
+    private record IndexBuild(long minVersion, CompletableFuture<AddressBookQueryIndex> index) {}
+
+    /**
+     * Handles a request, returning the object to be sent back as JSON.
+     */
+    @FunctionalInterface
+    private interface RequestHandler {
+        Object handle(HttpExchange exchange) throws ApiException, IOException;
+    }
+
+    /**
+     * Signals that a request cannot be served, with the HTTP status to respond with.
+     */
+    private static class ApiException extends Exception {
+        private final int status;
+
+        ApiException(int status, String message) {
+            super(message);
+            this.status = status;
+        }
+    }
+}
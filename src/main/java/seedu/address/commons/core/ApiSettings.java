@@ -0,0 +1,81 @@
+package seedu.address.commons.core;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Settings for the local HTTP API that lets other tools query and change the address book while the app runs.
+ * The API only listens on the loopback address.
+ * Guarantees: immutable.
+ */
+public class ApiSettings {
+
+    private static final int DEFAULT_PORT = 7423;
+    private static final int DEFAULT_READ_THREAD_COUNT = 4;
+
+    private final boolean isEnabled;
+    private final int port;
+    private final int readThreadCount;
+
+    /**
+     * Constructs an {@code ApiSettings} with the API turned off and the default port and thread count.
+     */
+    public ApiSettings() {
+        this(false, DEFAULT_PORT, DEFAULT_READ_THREAD_COUNT);
+    }
+
+    /**
+     * Constructs an {@code ApiSettings} with the given values.
+     *
+     * @param port The port to listen on, or 0 to use any free port.
+     * @param readThreadCount The number of requests that can be served at the same time.
+     */
+    public ApiSettings(boolean isEnabled, int port, int readThreadCount) {
+        this.isEnabled = isEnabled;
+        this.port = port;
+        this.readThreadCount = readThreadCount;
+    }
+
+    public boolean isEnabled() {
+        return isEnabled;
+    }
+
+    public int getPort() {
+        return port;
+    }
+
+    public int getReadThreadCount() {
+        return readThreadCount;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ApiSettings otherApiSettings)) {
+            return false;
+        }
+
+        return isEnabled == otherApiSettings.isEnabled
+                && port == otherApiSettings.port
+                && readThreadCount == otherApiSettings.readThreadCount;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(isEnabled, port, readThreadCount);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("isEnabled", isEnabled)
+                .add("port", port)
+                .add("readThreadCount", readThreadCount)
+                .toString();
+    }
+}
@@ -14,9 +14,23 @@ public class Config {
 
     public static final Path DEFAULT_CONFIG_FILE = Paths.get("config.json");
 
+    /**
+     * The format that the address book data file is kept in.
+     */
+    public enum DataFileFormat {
+        /** Human-readable JSON. */
+        JSON,
+        /** A binary format that is faster to load, kept next to the JSON data file. */
+        BINARY
+    }
+
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private DataFileFormat dataFileFormat = DataFileFormat.JSON;
+    private JournalSettings journalSettings = new JournalSettings();
+    private boolean progressiveStartup = false;
+    private ApiSettings apiSettings = new ApiSettings();
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +48,42 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    public DataFileFormat getDataFileFormat() {
+        return dataFileFormat;
+    }
+
+    public void setDataFileFormat(DataFileFormat dataFileFormat) {
+        this.dataFileFormat = dataFileFormat;
+    }
+
+    public JournalSettings getJournalSettings() {
+        return journalSettings;
+    }
+
+    public void setJournalSettings(JournalSettings journalSettings) {
+        this.journalSettings = journalSettings;
+    }
+
+    /**
+     * Returns true if the main window should be shown before the data file is loaded,
+     * with the data loaded into it in the background.
+     */
+    public boolean isProgressiveStartup() {
+        return progressiveStartup;
+    }
+
+    public void setProgressiveStartup(boolean progressiveStartup) {
+        this.progressiveStartup = progressiveStartup;
+    }
+
+    public ApiSettings getApiSettings() {
+        return apiSettings;
+    }
+
+    public void setApiSettings(ApiSettings apiSettings) {
+        this.apiSettings = apiSettings;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -46,12 +96,17 @@ public class Config {
         }
 
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && dataFileFormat == otherConfig.dataFileFormat
+                && Objects.equals(journalSettings, otherConfig.journalSettings)
+                && progressiveStartup == otherConfig.progressiveStartup
+                && Objects.equals(apiSettings, otherConfig.apiSettings);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, dataFileFormat, journalSettings, progressiveStartup,
+                apiSettings);
     }
 
     @Override
@@ -59,6 +114,10 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("dataFileFormat", dataFileFormat)
+                .add("journalSettings", journalSettings)
+                .add("progressiveStartup", progressiveStartup)
+                .add("apiSettings", apiSettings)
                 .toString();
     }
 
@@ -0,0 +1,112 @@
+package seedu.address.commons.core;
+
+import java.util.Objects;
+
+import seedu.address.commons.util.ToStringBuilder;
+
+/**
+ * Settings for saving the address book as a journal of changes instead of rewriting the whole data file.
+ * Guarantees: immutable.
+ */
+public class JournalSettings {
+
+    /**
+     * When changes appended to the journal are forced to disk.
+     */
+    public enum SyncPolicy {
+        /** After every save, so no saved change is lost if the machine crashes. */
+        PER_COMMAND,
+        /** At most once per group commit interval, covering every save made in the meantime. */
+        GROUP_COMMIT,
+        /** Whenever the operating system flushes its file cache. */
+        OS_MANAGED
+    }
+
+    private static final long DEFAULT_GROUP_COMMIT_INTERVAL_MILLIS = 200;
+    private static final long DEFAULT_COMPACTION_THRESHOLD_BYTES = 4L * 1024 * 1024;
+    private static final long DEFAULT_COMPACTION_INTERVAL_SECONDS = 10 * 60;
+
+    private final boolean isEnabled;
+    private final SyncPolicy syncPolicy;
+    private final long groupCommitIntervalMillis;
+    private final long compactionThresholdBytes;
+    private final long compactionIntervalSeconds;
+
+    /**
+     * Constructs a {@code JournalSettings} with journaling turned off and the default policies.
+     */
+    public JournalSettings() {
+        this(false, SyncPolicy.GROUP_COMMIT, DEFAULT_GROUP_COMMIT_INTERVAL_MILLIS,
+                DEFAULT_COMPACTION_THRESHOLD_BYTES, DEFAULT_COMPACTION_INTERVAL_SECONDS);
+    }
+
+    /**
+     * Constructs a {@code JournalSettings} with the given policies.
+     *
+     * @param compactionThresholdBytes The journal size above which the full data file is rewritten.
+     * @param compactionIntervalSeconds The age of the full data file above which it is rewritten.
+     */
+    public JournalSettings(boolean isEnabled, SyncPolicy syncPolicy, long groupCommitIntervalMillis,
+            long compactionThresholdBytes, long compactionIntervalSeconds) {
+        this.isEnabled = isEnabled;
+        this.syncPolicy = syncPolicy;
+        this.groupCommitIntervalMillis = groupCommitIntervalMillis;
+        this.compactionThresholdBytes = compactionThresholdBytes;
+        this.compactionIntervalSeconds = compactionIntervalSeconds;
+    }
+
+    public boolean isEnabled() {
+        return isEnabled;
+    }
+
+    public SyncPolicy getSyncPolicy() {
+        return syncPolicy;
+    }
+
+    public long getGroupCommitIntervalMillis() {
+        return groupCommitIntervalMillis;
+    }
+
+    public long getCompactionThresholdBytes() {
+        return compactionThresholdBytes;
+    }
+
+    public long getCompactionIntervalSeconds() {
+        return compactionIntervalSeconds;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof JournalSettings otherJournalSettings)) {
+            return false;
+        }
+
+        return isEnabled == otherJournalSettings.isEnabled
+                && syncPolicy == otherJournalSettings.syncPolicy
+                && groupCommitIntervalMillis == otherJournalSettings.groupCommitIntervalMillis
+                && compactionThresholdBytes == otherJournalSettings.compactionThresholdBytes
+                && compactionIntervalSeconds == otherJournalSettings.compactionIntervalSeconds;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(isEnabled, syncPolicy, groupCommitIntervalMillis, compactionThresholdBytes,
+                compactionIntervalSeconds);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("isEnabled", isEnabled)
+                .add("syncPolicy", syncPolicy)
+                .add("groupCommitIntervalMillis", groupCommitIntervalMillis)
+                .add("compactionThresholdBytes", compactionThresholdBytes)
+                .add("compactionIntervalSeconds", compactionIntervalSeconds)
+                .toString();
+    }
+}
@@ -0,0 +1,278 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable list whose "changes" return a new list that shares everything but the changed path with the old one.
+ * Guarantees: immutable, elements are non-null, and can be read from any number of threads at once.
+ *
+ * The elements are held in a balanced tree ordered by position, so reading, replacing, inserting or removing
+ * an element takes O(log n) time and copies O(log n) nodes, while keeping an old version of the list costs nothing.
+ */
+public final class PersistentList<E> extends AbstractList<E> {
+
+    private static final PersistentList<?> EMPTY = new PersistentList<>(null);
+
+    private final Node<E> root;
+
+    private PersistentList(Node<E> root) {
+        this.root = root;
+    }
+
+    /**
+     * Returns an empty list.
+     */
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentList<E> empty() {
+        return (PersistentList<E>) EMPTY;
+    }
+
+    /**
+     * Returns a list of the elements of {@code elements}, in iteration order. Takes O(n) time.
+     */
+    public static <E> PersistentList<E> copyOf(Collection<? extends E> elements) {
+        requireNonNull(elements);
+        if (elements instanceof PersistentList<?>) {
+            @SuppressWarnings("unchecked")
+            PersistentList<E> persistentList = (PersistentList<E>) elements;
+            return persistentList;
+        }
+        Object[] array = elements.toArray();
+        for (Object element : array) {
+            requireNonNull(element);
+        }
+        return new PersistentList<>(Node.build(array, 0, array.length));
+    }
+
+    @Override
+    public int size() {
+        return Node.size(root);
+    }
+
+    @Override
+    public E get(int index) {
+        checkIndex(index, size());
+        Node<E> node = root;
+        while (true) {
+            int leftSize = Node.size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.element;
+            }
+        }
+    }
+
+    /**
+     * Returns this list with the element at {@code index} replaced by {@code element}.
+     */
+    public PersistentList<E> withReplaced(int index, E element) {
+        requireNonNull(element);
+        checkIndex(index, size());
+        return new PersistentList<>(Node.replace(root, index, element));
+    }
+
+    /**
+     * Returns this list with {@code element} inserted at {@code index}, shifting later elements along.
+     */
+    public PersistentList<E> withInserted(int index, E element) {
+        requireNonNull(element);
+        checkIndex(index, size() + 1);
+        return new PersistentList<>(Node.insert(root, index, element));
+    }
+
+    /**
+     * Returns this list with the elements of {@code elements} inserted at {@code index}, in iteration order.
+     */
+    public PersistentList<E> withInsertedAll(int index, Collection<? extends E> elements) {
+        requireNonNull(elements);
+        checkIndex(index, size() + 1);
+        if (root == null) {
+            return copyOf(elements);
+        }
+        Node<E> updatedRoot = root;
+        for (E element : elements) {
+            updatedRoot = Node.insert(updatedRoot, index++, requireNonNull(element));
+        }
+        return new PersistentList<>(updatedRoot);
+    }
+
+    /**
+     * Returns this list without the element at {@code index}.
+     */
+    public PersistentList<E> withRemoved(int index) {
+        checkIndex(index, size());
+        return new PersistentList<>(Node.remove(root, index));
+    }
+
+    /**
+     * Returns this list without the elements from {@code fromIndex}, inclusive, to {@code toIndex}, exclusive.
+     */
+    public PersistentList<E> withRemovedRange(int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size() || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException("Range [" + fromIndex + ", " + toIndex + ") of size " + size());
+        }
+        if (fromIndex == 0 && toIndex == size()) {
+            return empty();
+        }
+        Node<E> updatedRoot = root;
+        for (int i = fromIndex; i < toIndex; i++) {
+            updatedRoot = Node.remove(updatedRoot, fromIndex);
+        }
+        return new PersistentList<>(updatedRoot);
+    }
+
+    @Override
+    public Iterator<E> iterator() {
+        return new InOrderIterator<>(root);
+    }
+
+    private static void checkIndex(int index, int bound) {
+        if (index < 0 || index >= bound) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + bound);
+        }
+    }
+
+    /**
+     * A node of an AVL tree ordered by position, which also records the number of elements under it.
+     * Nodes are never changed, so a changed tree is built from new nodes along the changed path and
+     * the unchanged subtrees of the old tree.
+     */
+    private static final class Node<E> {
+        private final E element;
+        private final Node<E> left;
+        private final Node<E> right;
+        private final int size;
+        private final int height;
+
+        private Node(E element, Node<E> left, Node<E> right) {
+            this.element = element;
+            this.left = left;
+            this.right = right;
+            this.size = size(left) + size(right) + 1;
+            this.height = Math.max(height(left), height(right)) + 1;
+        }
+
+        private static int size(Node<?> node) {
+            return node == null ? 0 : node.size;
+        }
+
+        private static int height(Node<?> node) {
+            return node == null ? 0 : node.height;
+        }
+
+        @SuppressWarnings("unchecked")
+        private static <E> Node<E> build(Object[] elements, int from, int to) {
+            if (from >= to) {
+                return null;
+            }
+            int middle = (from + to) >>> 1;
+            return new Node<>((E) elements[middle], build(elements, from, middle), build(elements, middle + 1, to));
+        }
+
+        private static <E> Node<E> replace(Node<E> node, int index, E element) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                return new Node<>(node.element, replace(node.left, index, element), node.right);
+            } else if (index > leftSize) {
+                return new Node<>(node.element, node.left, replace(node.right, index - leftSize - 1, element));
+            }
+            return new Node<>(element, node.left, node.right);
+        }
+
+        private static <E> Node<E> insert(Node<E> node, int index, E element) {
+            if (node == null) {
+                return new Node<>(element, null, null);
+            }
+            int leftSize = size(node.left);
+            if (index <= leftSize) {
+                return balance(node.element, insert(node.left, index, element), node.right);
+            }
+            return balance(node.element, node.left, insert(node.right, index - leftSize - 1, element));
+        }
+
+        private static <E> Node<E> remove(Node<E> node, int index) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                return balance(node.element, remove(node.left, index), node.right);
+            } else if (index > leftSize) {
+                return balance(node.element, node.left, remove(node.right, index - leftSize - 1));
+            } else if (node.left == null) {
+                return node.right;
+            } else if (node.right == null) {
+                return node.left;
+            }
+            Node<E> successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            return balance(successor.element, node.left, remove(node.right, 0));
+        }
+
+        /**
+         * Returns a node for {@code element} over {@code left} and {@code right}, rotated so that the heights of
+         * its subtrees differ by at most one. The heights of {@code left} and {@code right} must differ by at most 2.
+         */
+        private static <E> Node<E> balance(E element, Node<E> left, Node<E> right) {
+            if (height(left) > height(right) + 1) {
+                if (height(left.left) >= height(left.right)) {
+                    return new Node<>(left.element, left.left, new Node<>(element, left.right, right));
+                }
+                Node<E> pivot = left.right;
+                return new Node<>(pivot.element, new Node<>(left.element, left.left, pivot.left),
+                        new Node<>(element, pivot.right, right));
+            }
+            if (height(right) > height(left) + 1) {
+                if (height(right.right) >= height(right.left)) {
+                    return new Node<>(right.element, new Node<>(element, left, right.left), right.right);
+                }
+                Node<E> pivot = right.left;
+                return new Node<>(pivot.element, new Node<>(element, left, pivot.left),
+                        new Node<>(right.element, pivot.right, right.right));
+            }
+            return new Node<>(element, left, right);
+        }
+    }
+
+    /**
+     * Iterates over the elements of a tree in O(n) time overall, instead of looking up each position from the root.
+     */
+    private static final class InOrderIterator<E> implements Iterator<E> {
+        private final Deque<Node<E>> path = new ArrayDeque<>();
+
+        private InOrderIterator(Node<E> root) {
+            pushLeftSpine(root);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return !path.isEmpty();
+        }
+
+        @Override
+        public E next() {
+            if (path.isEmpty()) {
+                throw new NoSuchElementException();
+            }
+            Node<E> node = path.pop();
+            pushLeftSpine(node.right);
+            return node.element;
+        }
+
+        private void pushLeftSpine(Node<E> node) {
+            for (Node<E> current = node; current != null; current = current.left) {
+                path.push(current);
+            }
+        }
+    }
+}
@@ -5,7 +5,10 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.io.PrintWriter;
 import java.io.StringWriter;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
 
 /**
  * Helper functions for handling strings.
@@ -38,6 +41,42 @@ public class StringUtil {
         return Arrays.stream(wordsInPreppedSentence).anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns the lower-case forms of {@code strings}, in iteration order.
+     *
+     * @param strings cannot be null
+     */
+    public static List<String> toLowerCase(Collection<String> strings) {
+        requireNonNull(strings);
+        List<String> lowerCaseStrings = new ArrayList<>(strings.size());
+        for (String string : strings) {
+            lowerCaseStrings.add(string.toLowerCase());
+        }
+        return lowerCaseStrings;
+    }
+
+    /**
+     * Returns true if {@code text} contains any of {@code keywords} as a substring.
+     *   Both are expected to be case-folded already, so no copies of either are made.
+     *   <br>examples:<pre>
+     *       containsAnySubstring("alice pauline", List.of("bob", "paul")) == true
+     *       containsAnySubstring("alice pauline", List.of("bob")) == false
+     *       </pre>
+     *
+     * @param text cannot be null
+     * @param keywords cannot be null
+     */
+    public static boolean containsAnySubstring(String text, List<String> keywords) {
+        requireNonNull(text);
+        requireNonNull(keywords);
+        for (int i = 0; i < keywords.size(); i++) {
+            if (text.contains(keywords.get(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
@@ -0,0 +1,122 @@
+package seedu.address.logic;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Runs commands read from a file or standard input without the GUI, e.g. to import data in bulk.
+ * Commands are separated by new lines or by {@value #COMMAND_SEPARATOR}. A command that fails is reported and
+ * the remaining commands are still run, until an exit command is reached.
+ *
+ * Instead of saving after every command that changes the address book, changes are saved once every given
+ * number of commands, and once more after the last command.
+ */
+public class BatchCommandRunner {
+
+    /**
+     * How the result of each command is written out.
+     */
+    public enum OutputFormat {
+        /** The feedback to the user, or the error message, as the GUI would show it. */
+        TEXT,
+        /** One JSON object per command, giving the command, whether it succeeded and the feedback to the user. */
+        JSON
+    }
+
+    public static final String COMMAND_SEPARATOR = ";";
+
+    public static final String ERROR_PREFIX = "Error: ";
+
+    private static final Logger logger = LogsCenter.getLogger(BatchCommandRunner.class);
+
+    private final LogicManager logic;
+    private final int saveInterval;
+    private final OutputFormat outputFormat;
+    private final PrintStream out;
+
+    /**
+     * Creates a runner that executes commands with {@code logic} and writes their results to {@code out}.
+     *
+     * @param saveInterval The number of commands after which changes are saved, or 0 to only save them
+     *     after the last command.
+     */
+    public BatchCommandRunner(LogicManager logic, int saveInterval, OutputFormat outputFormat, PrintStream out) {
+        requireAllNonNull(logic, outputFormat, out);
+        if (saveInterval < 0) {
+            throw new IllegalArgumentException("Save interval must not be negative: " + saveInterval);
+        }
+        this.logic = logic;
+        this.saveInterval = saveInterval;
+        this.outputFormat = outputFormat;
+        this.out = out;
+    }
+
+    /**
+     * Runs every command read from {@code reader}, then saves the address book if it has changed.
+     *
+     * @return The number of commands that failed.
+     * @throws IOException if the commands could not be read, or the address book could not be saved.
+     */
+    public int run(BufferedReader reader) throws IOException {
+        logic.setSavingAfterEachCommand(false);
+
+        int commandCount = 0;
+        int failedCount = 0;
+        boolean isExit = false;
+        String line;
+        while (!isExit && (line = reader.readLine()) != null) {
+            for (String separatedText : line.split(COMMAND_SEPARATOR)) {
+                String commandText = separatedText.trim();
+                if (commandText.isEmpty()) {
+                    continue;
+                }
+
+                commandCount++;
+                try {
+                    CommandResult commandResult = logic.execute(commandText);
+                    printResult(commandText, true, commandResult.getFeedbackToUser());
+                    isExit = commandResult.isExit();
+                } catch (CommandException | ParseException e) {
+                    failedCount++;
+                    printResult(commandText, false, e.getMessage());
+                }
+
+                if (saveInterval > 0 && commandCount % saveInterval == 0) {
+                    logic.saveAddressBook();
+                }
+                if (isExit) {
+                    break;
+                }
+            }
+        }
+
+        logic.saveAddressBook();
+        logger.info("Ran " + commandCount + " commands, of which " + failedCount + " failed");
+        return failedCount;
+    }
+
+    private void printResult(String commandText, boolean isSuccessful, String feedback) throws IOException {
+        if (outputFormat == OutputFormat.TEXT) {
+            out.println(isSuccessful ? feedback : ERROR_PREFIX + feedback);
+            return;
+        }
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("command", commandText);
+        result.put("success", isSuccessful);
+        result.put("feedback", feedback);
+        out.println(JsonUtil.toCompactJsonString(result));
+    }
+}
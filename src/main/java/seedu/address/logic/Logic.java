@@ -1,6 +1,8 @@
 package seedu.address.logic;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -26,6 +28,25 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Sets the handler to be given the error message when saving the address book in the background fails.
+     * The handler may be called on a thread other than the one executing commands.
+     */
+    void setSaveFailureHandler(Consumer<String> handler);
+
+    /**
+     * Treats the address book as it is now as already saved, e.g. after it has been loaded from the data file,
+     * so that it is only saved again once it changes.
+     */
+    void markAddressBookSaved();
+
+    /**
+     * Saves the address book to storage now, unless nothing has changed since it was last saved.
+     *
+     * @throws IOException if the address book could not be saved.
+     */
+    void saveAddressBook() throws IOException;
+
     /**
      * Returns the AddressBook.
      *
@@ -1,8 +1,11 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -19,6 +22,7 @@ import seedu.address.model.commandhistory.CommandHistory;
 import seedu.address.model.event.Event;
 import seedu.address.model.person.Person;
 import seedu.address.model.relationship.Relationship;
+import seedu.address.storage.AddressBookSaveScheduler;
 import seedu.address.storage.Storage;
 
 /**
@@ -30,19 +34,46 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    // Never the version of an address book, so that the next save is not skipped
+    private static final long UNSAVED_VERSION = Long.MIN_VALUE;
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
     private final Storage storage;
+    private final AddressBookSaveScheduler saveScheduler;
     private final AddressBookParser addressBookParser;
+    // Version of the address book when it was last saved or scheduled to be saved.
+    // Reset by the saving thread when a background save fails, so that the next command saves again.
+    private volatile long savedVersion;
+    private volatile Consumer<String> saveFailureHandler = message -> { };
+    private boolean isSavingAfterEachCommand = true;
 
     /**
-     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}
+     * that saves the address book before returning from each command.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, null);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}
+     * that saves the address book in the background through {@code saveScheduler}.
+     * If {@code saveScheduler} is null, the address book is saved before returning from each command.
+     */
+    public LogicManager(Model model, Storage storage, AddressBookSaveScheduler saveScheduler) {
         this.model = model;
         this.storage = storage;
+        this.saveScheduler = saveScheduler;
         addressBookParser = new AddressBookParser();
+        savedVersion = model.getAddressBook().getVersion();
+        if (saveScheduler != null) {
+            saveScheduler.setFailureHandler(ioe -> {
+                savedVersion = UNSAVED_VERSION;
+                saveFailureHandler.accept(getSaveErrorMessage(ioe));
+            });
+        }
     }
 
     @Override
@@ -55,17 +86,84 @@ public class LogicManager implements Logic {
 
         CommandHistory.addCommandToHistory(previousCommandText);
 
+        if (!isSavingAfterEachCommand) {
+            return commandResult;
+        }
+
+        ReadOnlyAddressBook addressBook = model.getAddressBook();
+        long version = addressBook.getVersion();
+        if (version == savedVersion) {
+            // Nothing changed since the last save, e.g. the command only looked up or filtered persons
+            return commandResult;
+        }
+
+        if (saveScheduler != null) {
+            // Recorded before scheduling, so that a failure of this save always resets it afterwards
+            savedVersion = version;
+            saveScheduler.scheduleSave(addressBook);
+            return commandResult;
+        }
+
         try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
+            storage.saveAddressBook(addressBook);
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            throw new CommandException(getSaveErrorMessage(ioe), ioe);
         }
+        savedVersion = version;
 
         return commandResult;
     }
 
+    /**
+     * Sets whether the address book is saved after each command that changes it.
+     * If not, changes are only saved by {@link #saveAddressBook()}.
+     */
+    public void setSavingAfterEachCommand(boolean isSavingAfterEachCommand) {
+        this.isSavingAfterEachCommand = isSavingAfterEachCommand;
+    }
+
+    @Override
+    public void saveAddressBook() throws IOException {
+        ReadOnlyAddressBook addressBook = model.getAddressBook();
+        long version = addressBook.getVersion();
+        if (version == savedVersion) {
+            return;
+        }
+
+        if (saveScheduler == null) {
+            storage.saveAddressBook(addressBook);
+            savedVersion = version;
+            return;
+        }
+
+        savedVersion = version;
+        try {
+            saveScheduler.scheduleSave(addressBook);
+            saveScheduler.flush();
+        } catch (IOException ioe) {
+            savedVersion = UNSAVED_VERSION;
+            throw ioe;
+        }
+    }
+
+    @Override
+    public void setSaveFailureHandler(Consumer<String> handler) {
+        requireNonNull(handler);
+        saveFailureHandler = handler;
+    }
+
+    @Override
+    public void markAddressBookSaved() {
+        savedVersion = model.getAddressBook().getVersion();
+    }
+
+    private static String getSaveErrorMessage(IOException ioe) {
+        if (ioe instanceof AccessDeniedException) {
+            return String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage());
+        }
+        return String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage());
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
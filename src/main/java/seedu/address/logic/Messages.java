@@ -5,6 +5,7 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 import seedu.address.logic.parser.Prefix;
+import seedu.address.model.Model;
 import seedu.address.model.event.Event;
 import seedu.address.model.person.Person;
 
@@ -54,9 +55,9 @@ public class Messages {
     }
 
     /**
-     * Formats the {@code event} for display to the user.
+     * Formats the {@code event} for display to the user, naming its contacts as they are in {@code model}.
      */
-    public static String format(Event event) {
+    public static String format(Event event, Model model) {
         final StringBuilder builder = new StringBuilder();
         builder.append("Event Name: ")
                 .append(event.getName())
@@ -67,7 +68,7 @@ public class Messages {
                 .append("; Description: ")
                 .append(event.getDescription())
                 .append("; Contacts: ")
-                .append(event.getContacts());
+                .append(event.getContactsAsString(model::getPersonById));
         if (!event.getTags().isEmpty()) {
             builder.append("; Tags: ");
             event.getTags().forEach(builder::append);
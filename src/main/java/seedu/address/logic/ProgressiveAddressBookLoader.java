@@ -0,0 +1,168 @@
+package seedu.address.logic;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Loads the address book into a {@code Model} in the background, so that the app can be shown before its data
+ * has been read.
+ *
+ * The data is read on a background thread, then added to the model in batches of persons, then relationships,
+ * then events, so that persons are in place before anything that refers to them. Every change to the model is
+ * made through the given model executor (the JavaFX application thread in the app), and the next batch is
+ * only handed over once the previous one has been added, so that the UI stays responsive in between.
+ *
+ * If the data cannot be read or added, the model is left with an empty address book, as when the data file
+ * cannot be read at startup, and loading still finishes so that the app can be used.
+ */
+public class ProgressiveAddressBookLoader {
+
+    /** Number of items added to the model at a time. */
+    public static final int BATCH_SIZE = 500;
+
+    public static final String MESSAGE_LOADING_PROGRESS = "Loading %1$s... (%2$d/%3$d)";
+    public static final String MESSAGE_LOADED = "Loaded %1$d persons, %2$d relationships and %3$d events";
+    public static final String MESSAGE_LOADING_FAILED =
+            "Could not load the data file, starting with an empty address book: %1$s";
+
+    private static final Logger logger = LogsCenter.getLogger(ProgressiveAddressBookLoader.class);
+
+    private final Supplier<ReadOnlyAddressBook> dataSource;
+    private final Model model;
+    private final Executor modelExecutor;
+    private final List<Consumer<String>> progressHandlers = new CopyOnWriteArrayList<>();
+    private final List<Runnable> completionHandlers = new CopyOnWriteArrayList<>();
+    private volatile boolean isFinished;
+    private volatile boolean hasFailed;
+
+    /**
+     * Creates a loader that adds the address book from {@code dataSource} to {@code model},
+     * changing the model only through {@code modelExecutor}.
+     */
+    public ProgressiveAddressBookLoader(Supplier<ReadOnlyAddressBook> dataSource, Model model,
+                                        Executor modelExecutor) {
+        requireAllNonNull(dataSource, model, modelExecutor);
+        this.dataSource = dataSource;
+        this.model = model;
+        this.modelExecutor = modelExecutor;
+    }
+
+    /**
+     * Adds a handler that is given a status message on the model executor each time loading progresses.
+     */
+    public void addProgressHandler(Consumer<String> handler) {
+        progressHandlers.add(handler);
+    }
+
+    /**
+     * Adds a handler that is run on the model executor once all the data has been added to the model.
+     */
+    public void addCompletionHandler(Runnable handler) {
+        completionHandlers.add(handler);
+    }
+
+    /**
+     * Returns true once all the data has been added to the model, or loading has failed,
+     * and the completion handlers have run.
+     */
+    public boolean isFinished() {
+        return isFinished;
+    }
+
+    /**
+     * Returns true if loading finished without the data, leaving the model with an empty address book.
+     */
+    public boolean hasFailed() {
+        return hasFailed;
+    }
+
+    /**
+     * Starts loading on a background thread.
+     */
+    public void start() {
+        Thread loaderThread = new Thread(this::load, "address-book-loader");
+        loaderThread.setDaemon(true);
+        loaderThread.start();
+    }
+
+    /**
+     * Loads the data into the model on the calling thread, waiting for each batch to be added before the next.
+     */
+    void load() {
+        long startTime = System.nanoTime();
+        String message;
+        boolean isLoaded;
+        try {
+            message = addData();
+            isLoaded = true;
+        } catch (RuntimeException e) {
+            // A batch that failed on the model executor is rethrown here wrapped in a CompletionException
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            logger.severe("Failed to load the address book " + StringUtil.getDetails(cause));
+            message = String.format(MESSAGE_LOADING_FAILED, cause.getMessage());
+            isLoaded = false;
+        }
+        finish(message, isLoaded);
+        logger.info(message + " in " + (System.nanoTime() - startTime) / 1_000_000 + " ms");
+    }
+
+    /**
+     * Reads the data and adds it to the model in batches.
+     *
+     * @return the message reporting what was loaded.
+     */
+    private String addData() {
+        ReadOnlyAddressBook data = dataSource.get();
+
+        addInBatches("persons", data.getPersonList(), model::addPersons);
+        addInBatches("relationships", data.getRelationshipList(), model::addRelationships);
+        addInBatches("events", data.getEventList(), model::addEvents);
+
+        return String.format(MESSAGE_LOADED, data.getPersonList().size(),
+                data.getRelationshipList().size(), data.getEventList().size());
+    }
+
+    private void finish(String message, boolean isLoaded) {
+        runOnModelExecutor(() -> {
+            if (!isLoaded) {
+                // Part of the data may have been added, which must not be mistaken for the whole address book
+                model.setAddressBook(new AddressBook());
+                hasFailed = true;
+            }
+            isFinished = true;
+            completionHandlers.forEach(Runnable::run);
+            progressHandlers.forEach(handler -> handler.accept(message));
+        });
+    }
+
+    private <T> void addInBatches(String itemsName, List<T> items, Consumer<List<T>> adder) {
+        for (int start = 0; start < items.size(); start += BATCH_SIZE) {
+            int end = Math.min(start + BATCH_SIZE, items.size());
+            List<T> batch = new ArrayList<>(items.subList(start, end));
+            String message = String.format(MESSAGE_LOADING_PROGRESS, itemsName, end, items.size());
+            runOnModelExecutor(() -> {
+                adder.accept(batch);
+                progressHandlers.forEach(handler -> handler.accept(message));
+            });
+        }
+    }
+
+    private void runOnModelExecutor(Runnable task) {
+        CompletableFuture.runAsync(task, modelExecutor).join();
+    }
+}
@@ -3,6 +3,7 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.event.Event;
@@ -12,7 +13,7 @@ import seedu.address.model.person.Person;
  * Adds a contact to an event in the address book.
  * <p>
  * The event is identified by its index in the filtered event list.
- * The specified contact (a Person) is added to the event’s contacts.
+ * The specified contact is looked up in the address book by name, and its ID is added to the event’s contacts.
  * </p>
  */
 public class AddContactToEventCommand extends Command {
@@ -51,19 +52,20 @@ public class AddContactToEventCommand extends Command {
             throw new CommandException(MESSAGE_EVENT_NOT_FOUND);
         }
         // Check that the contact exists in the address book.
-        if (!model.hasPerson(contact)) {
+        Person person = model.getPersonByName(contact.getName());
+        if (person == null) {
             throw new CommandException(String.format(MESSAGE_CONTACT_NOT_FOUND, contact.getName().fullName));
         }
         Event originalEvent = model.getFilteredEventList().get(eventIndex.getZeroBased());
         // Check if the contact already exists in the event.
-        if (originalEvent.getContacts().stream().anyMatch(p -> p.equals(contact))) {
+        if (originalEvent.hasContact(person)) {
             throw new CommandException(MESSAGE_CONTACT_ALREADY_EXISTS);
         }
-        // Add the contact to the event.
-        originalEvent.addContact(contact);
-        // Notify the model that the event has been updated (force UI refresh).
-        model.updateEvent(originalEvent, originalEvent);
-        return new CommandResult(String.format(MESSAGE_ADD_CONTACT_SUCCESS, originalEvent));
+        // Add the contact to a copy of the event, as events in the model are not changed in place.
+        Event updatedEvent = new Event(originalEvent);
+        updatedEvent.addContact(person);
+        model.updateEvent(originalEvent, updatedEvent);
+        return new CommandResult(String.format(MESSAGE_ADD_CONTACT_SUCCESS, Messages.format(updatedEvent, model)));
     }
 
     @Override
@@ -8,9 +8,11 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_EVENT_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_LOCATION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.event.Event;
@@ -89,21 +91,24 @@ public class AddEventCommand extends Command {
             throw new CommandException(MESSAGE_DUPLICATE_EVENT);
         }
 
-        // Check that all provided contacts exist in the model
+        // Check that all provided contacts exist in the model, resolving them to the stored persons
+        List<Person> resolvedContacts = new ArrayList<>();
         for (Person contact : contactsToAdd) {
-            if (!model.hasPerson(contact)) {
+            Person person = model.getPersonByName(contact.getName());
+            if (person == null) {
                 throw new CommandException(String.format(MESSAGE_CONTACT_NOT_FOUND, contact.getName().fullName));
             }
+            resolvedContacts.add(person);
         }
 
-        model.addEvent(toAdd);
-
-        // Add each provided contact to the event
-        for (Person contact : contactsToAdd) {
-            toAdd.addContact(contact);
+        // Add each provided contact to the event before it is added, so that the model indexes its contacts
+        for (Person person : resolvedContacts) {
+            toAdd.addContact(person);
         }
 
-        return new CommandResult(String.format(MESSAGE_SUCCESS, toAdd));
+        model.addEvent(toAdd);
+
+        return new CommandResult(String.format(MESSAGE_SUCCESS, Messages.format(toAdd, model)));
     }
 
     @Override
@@ -3,6 +3,7 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.event.Event;
@@ -53,7 +54,7 @@ public class AddTagToEventCommand extends Command {
         }
         Event updatedEvent = event.withAddedTag(tag);
         model.updateEvent(event, updatedEvent);
-        return new CommandResult(String.format(MESSAGE_ADD_TAG_SUCCESS, updatedEvent));
+        return new CommandResult(String.format(MESSAGE_ADD_TAG_SUCCESS, Messages.format(updatedEvent, model)));
     }
 
     @Override
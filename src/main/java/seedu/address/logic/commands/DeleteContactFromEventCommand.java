@@ -3,6 +3,7 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.event.Event;
@@ -12,7 +13,8 @@ import seedu.address.model.person.Person;
  * Deletes a contact from an event in the address book.
  * <p>
  * The event is identified by its index in the filtered event list.
- * The specified contact is removed from the event’s contacts using the event's {@code deleteContact} method.
+ * The specified contact is looked up in the address book by name and removed from the event’s contacts using the
+ * event's {@code deleteContact} method.
  * </p>
  */
 public class DeleteContactFromEventCommand extends Command {
@@ -50,13 +52,16 @@ public class DeleteContactFromEventCommand extends Command {
         }
         Event event = model.getFilteredEventList().get(eventIndex.getZeroBased());
         // Check if the contact exists in the event.
-        if (event.getContacts().stream().noneMatch(p -> p.equals(contact))) {
+        Person person = model.getPersonByName(contact.getName());
+        if (person == null || !event.hasContact(person)) {
             throw new CommandException(MESSAGE_CONTACT_NOT_FOUND);
         }
-        event.deleteContact(contact);
+        // Events in the model are not changed in place, so remove the contact from a copy.
+        Event updatedEvent = new Event(event);
+        updatedEvent.deleteContact(person);
 
-        model.updateEvent(event, event);
-        return new CommandResult(String.format(MESSAGE_DELETE_CONTACT_SUCCESS, event));
+        model.updateEvent(event, updatedEvent);
+        return new CommandResult(String.format(MESSAGE_DELETE_CONTACT_SUCCESS, Messages.format(updatedEvent, model)));
     }
 
     @Override
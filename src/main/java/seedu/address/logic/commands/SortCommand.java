@@ -1,5 +1,6 @@
 package seedu.address.logic.commands;
 
+import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 
@@ -7,6 +8,8 @@ import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.person.Person;
+import seedu.address.model.sort.PersonSortComparator;
+import seedu.address.model.sort.SortField;
 
 /**
  * Sorts the address book by one or more fields.
@@ -37,8 +40,10 @@ public class SortCommand extends Command {
 
     @Override
     public CommandResult execute(Model model) throws CommandException {
-        Comparator<Person> comparator = createComparator(fields);
+        PersonSortComparator sortComparator = createComparator(fields);
+        sortComparator.rank(model.getAddressBook().getPersonList());
 
+        Comparator<Person> comparator = sortComparator;
         if (isReverse) {
             comparator = comparator.reversed();
         }
@@ -54,42 +59,12 @@ public class SortCommand extends Command {
      * @param fields The fields to sort by
      * @return A comparator for sorting
      */
-    private Comparator<Person> createComparator(List<String> fields) {
-        Comparator<Person> comparator;
-
-        String firstField = fields.get(0).toLowerCase();
-        comparator = switch (firstField) {
-            case "name" -> (p1, p2) -> p1.getName().toString().compareToIgnoreCase(p2.getName().toString());
-            case "phone" -> (p1, p2) -> p1.getPhone().toString().compareToIgnoreCase(p2.getPhone().toString());
-            case "email" -> (p1, p2) -> p1.getEmail().toString().compareToIgnoreCase(p2.getEmail().toString());
-            case "address" -> (p1, p2) -> p1.getAddress().toString().compareToIgnoreCase(p2.getAddress().toString());
-            case "tags" -> (p1, p2) -> p1.getTags().toString().compareToIgnoreCase(p2.getTags().toString());
-            case "socials" -> (p1, p2) -> p1.getSocials().toString().compareToIgnoreCase(p2.getSocials().toString());
-            default -> null;
-        };
-
-        for (int i = 1; i < fields.size(); i++) {
-            String field = fields.get(i).toLowerCase();
-            comparator = switch (field) {
-                case "name" ->
-                        comparator.thenComparing((p1, p2) -> p1.getName().toString()
-                                .compareToIgnoreCase(p2.getName().toString()));
-                case "phone" ->
-                        comparator.thenComparing((p1, p2) -> p1.getPhone().toString()
-                                .compareToIgnoreCase(p2.getPhone().toString()));
-                case "email" ->
-                        comparator.thenComparing((p1, p2) -> p1.getEmail().toString()
-                                .compareToIgnoreCase(p2.getEmail().toString()));
-                case "address" ->
-                        comparator.thenComparing((p1, p2) -> p1.getAddress().toString()
-                                .compareToIgnoreCase(p2.getAddress().toString()));
-                case "tags" -> comparator.thenComparingInt(p -> p.getTags().size());
-                case "socials" -> comparator.thenComparingInt(p -> p.getSocials().size());
-                default -> null;
-            };
+    private PersonSortComparator createComparator(List<String> fields) {
+        List<SortField> sortFields = new ArrayList<>(fields.size());
+        for (String field : fields) {
+            sortFields.add(SortField.fromName(field));
         }
-
-        return comparator;
+        return new PersonSortComparator(sortFields);
     }
 
     @Override
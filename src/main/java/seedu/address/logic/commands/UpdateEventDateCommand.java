@@ -5,6 +5,7 @@ import static java.util.Objects.requireNonNull;
 import java.time.LocalDateTime;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.event.Event;
@@ -48,7 +49,7 @@ public class UpdateEventDateCommand extends Command {
         Event originalEvent = model.getFilteredEventList().get(eventIndex.getZeroBased());
         Event updatedEvent = originalEvent.withUpdatedDate(newDate);
         model.updateEvent(originalEvent, updatedEvent);
-        return new CommandResult(String.format(MESSAGE_UPDATE_DATE_SUCCESS, updatedEvent));
+        return new CommandResult(String.format(MESSAGE_UPDATE_DATE_SUCCESS, Messages.format(updatedEvent, model)));
     }
 
     @Override
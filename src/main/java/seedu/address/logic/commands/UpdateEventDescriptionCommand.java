@@ -3,6 +3,7 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.event.Event;
@@ -46,7 +47,8 @@ public class UpdateEventDescriptionCommand extends Command {
         Event originalEvent = model.getFilteredEventList().get(eventIndex.getZeroBased());
         Event updatedEvent = originalEvent.withUpdatedDescription(newDescription);
         model.updateEvent(originalEvent, updatedEvent);
-        return new CommandResult(String.format(MESSAGE_UPDATE_DESCRIPTION_SUCCESS, updatedEvent));
+        return new CommandResult(
+                String.format(MESSAGE_UPDATE_DESCRIPTION_SUCCESS, Messages.format(updatedEvent, model)));
     }
 
     @Override
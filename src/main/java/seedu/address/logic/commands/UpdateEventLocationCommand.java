@@ -3,6 +3,7 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 
 import seedu.address.commons.core.index.Index;
+import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.event.Event;
@@ -46,7 +47,7 @@ public class UpdateEventLocationCommand extends Command {
         Event originalEvent = model.getFilteredEventList().get(eventIndex.getZeroBased());
         Event updatedEvent = originalEvent.withUpdatedLocation(newLocation);
         model.updateEvent(originalEvent, updatedEvent);
-        return new CommandResult(String.format(MESSAGE_UPDATE_LOCATION_SUCCESS, updatedEvent));
+        return new CommandResult(String.format(MESSAGE_UPDATE_LOCATION_SUCCESS, Messages.format(updatedEvent, model)));
     }
 
     @Override
@@ -9,6 +9,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_LOCATION;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 
@@ -17,7 +18,6 @@ import seedu.address.logic.commands.AddEventCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.event.Event;
 import seedu.address.model.person.Person;
-import seedu.address.model.person.UniquePersonList;
 import seedu.address.model.tag.Tag;
 
 /**
@@ -55,7 +55,7 @@ public class AddEventCommandParser implements Parser<AddEventCommand> {
         List<Person> contactsToAdd = ParserUtil.parseContacts(argMultimap.getAllValues(PREFIX_CONTACT));
 
         // Create an event with an empty contacts list.
-        Event event = new Event(eventName, date, location, description, tagList, new UniquePersonList());
+        Event event = new Event(eventName, date, location, description, tagList, new LinkedHashSet<>());
         return new AddEventCommand(event, contactsToAdd);
     }
 }
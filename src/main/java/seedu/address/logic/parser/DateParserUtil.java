@@ -2,11 +2,22 @@ package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.YearMonth;
 import java.time.ZoneId;
 import java.time.format.DateTimeFormatter;
+import java.util.Collections;
 import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import org.joda.time.DateTime;
 
@@ -20,40 +31,63 @@ import seedu.address.logic.parser.exceptions.ParseException;
 
 /**
  * Contains a utility method used for parsing dates.
+ *
+ * Natural language dates are parsed with Hawking, whose model takes about a second to load. The model is loaded
+ * the first time it is needed, or ahead of time on a background thread by {@link #startWarmUp()}.
+ * ISO and common explicit date formats are parsed without it, so they never wait for the model to load.
+ * Natural language dates that do not depend on the time of day are cached per day, as parsing them is slow.
  */
 public class DateParserUtil {
 
-    private static final HawkingTimeParser HAWKING_TIME_PARSER;
+    private static final String MESSAGE_UNPARSEABLE_DATE = "Unable to parse date/time: %1$s";
 
-    private static final HawkingConfiguration HAWKING_CONFIGURATION;
+    // A date without a time is taken as the end of the day, as natural language parsing takes it
+    private static final LocalTime DATE_ONLY_TIME = LocalTime.of(23, 59, 59);
 
-    private static final String HAWKING_LANGUAGE;
+    private static final String TIME_FORMAT =
+            "(?<hour>\\d{1,2}):(?<minute>\\d{2})(?::(?<second>\\d{2})(?:\\.(?<fraction>\\d{1,9}))?)?";
 
-    static {
-        HAWKING_TIME_PARSER = new HawkingTimeParser();
+    // yyyy-MM-dd, optionally followed by a time after a "T" as in ISO, or after a space
+    private static final Pattern YEAR_FIRST_FORMAT = Pattern.compile(
+            "(?<year>\\d{4})-(?<month>\\d{1,2})-(?<day>\\d{1,2})(?:[T ]" + TIME_FORMAT + ")?");
 
-        HAWKING_CONFIGURATION = new HawkingConfiguration();
+    // d/M/yyyy, optionally followed by a time after a space
+    private static final Pattern DAY_FIRST_FORMAT = Pattern.compile(
+            "(?<day>\\d{1,2})/(?<month>\\d{1,2})/(?<year>\\d{4})(?: " + TIME_FORMAT + ")?");
 
-        HAWKING_LANGUAGE = "eng";
+    // Natural language dates with these words depend on the time of day, so they cannot be cached per day
+    private static final Pattern TIME_OF_DAY_RELATIVE_WORDS =
+            Pattern.compile("\\b(now|hours?|hrs?|minutes?|mins?|seconds?|secs?)\\b", Pattern.CASE_INSENSITIVE);
 
-        ZoneId systemDefaultTimeZone = ZoneId.systemDefault();
-        String timeZoneId = systemDefaultTimeZone.getId();
-        HAWKING_CONFIGURATION.setTimeZone(timeZoneId);
+    private static final int RELATIVE_DATE_CACHE_SIZE = 512;
 
-        // only parse one date
-        HAWKING_CONFIGURATION.setMaxParseDate(1);
+    private static final Map<RelativeDateKey, LocalDateTime> RELATIVE_DATE_CACHE =
+            Collections.synchronizedMap(new BoundedCache<>(RELATIVE_DATE_CACHE_SIZE));
 
-        // dummy sentence to load parser model into RAM first for faster parsing later
-        String inputSentence = "what are you doing tomorrow?";
+    private static final AtomicBoolean IS_LOADING_STARTED = new AtomicBoolean();
 
-        Date referenceDate = new Date();
+    private static final CompletableFuture<NaturalLanguageParser> NATURAL_LANGUAGE_PARSER = new CompletableFuture<>();
+
+    /**
+     * Starts loading the natural language parsing model on a low-priority background thread,
+     * unless it has already started loading.
+     */
+    public static void startWarmUp() {
+        if (!IS_LOADING_STARTED.compareAndSet(false, true)) {
+            return;
+        }
+        Thread warmUpThread = new Thread(DateParserUtil::loadNaturalLanguageParser, "date-parser-warm-up");
+        warmUpThread.setDaemon(true);
+        warmUpThread.setPriority(Thread.MIN_PRIORITY);
+        warmUpThread.start();
+    }
 
-        HAWKING_TIME_PARSER.parse(
-                inputSentence,
-                referenceDate,
-                HAWKING_CONFIGURATION,
-                HAWKING_LANGUAGE
-        );
+    /**
+     * Returns true if the natural language parsing model has finished loading,
+     * so that parsing a natural language date will not wait for it.
+     */
+    public static boolean isNaturalLanguageParserReady() {
+        return NATURAL_LANGUAGE_PARSER.isDone();
     }
 
     /**
@@ -72,27 +106,96 @@ public class DateParserUtil {
     public static LocalDateTime parseDate(String date) throws ParseException {
         requireNonNull(date);
 
+        String trimmedDate = date.trim();
+        Optional<LocalDateTime> explicitDateTime = parseExplicitDate(trimmedDate);
+        if (explicitDateTime.isPresent()) {
+            return explicitDateTime.get();
+        }
+
+        // If that fails, try natural language parsing
+        Date referenceDate = new Date();
+        if (TIME_OF_DAY_RELATIVE_WORDS.matcher(trimmedDate).find()) {
+            return parseNaturalLanguageDate(trimmedDate, referenceDate);
+        }
+
+        RelativeDateKey key = new RelativeDateKey(trimmedDate,
+                LocalDate.ofInstant(referenceDate.toInstant(), ZoneId.systemDefault()));
+        LocalDateTime cachedDateTime = RELATIVE_DATE_CACHE.get(key);
+        if (cachedDateTime != null) {
+            return cachedDateTime;
+        }
+        LocalDateTime dateTime = parseNaturalLanguageDate(trimmedDate, referenceDate);
+        RELATIVE_DATE_CACHE.put(key, dateTime);
+        return dateTime;
+    }
+
+    private static LocalDateTime parseNaturalLanguageDate(String date, Date referenceDate) throws ParseException {
         try {
-            // First try to parse as ISO date-time
-            return LocalDateTime.parse(date);
-        } catch (Exception e) {
-            // If that fails, try natural language parsing
-            try {
-                Date referenceDate = new Date();
-                DatesFound datesFound = HAWKING_TIME_PARSER.parse(
-                        date,
-                        referenceDate,
-                        HAWKING_CONFIGURATION,
-                        HAWKING_LANGUAGE
-                );
-
-                DateTime jodaDateTime = getJodaDateTime(date, datesFound);
-
-                return LocalDateTime.parse(jodaDateTime.toString(), DateTimeFormatter.ISO_DATE_TIME);
-            } catch (Exception ex) {
-                throw new ParseException("Unable to parse date/time: " + date);
+            DatesFound datesFound = getNaturalLanguageParser().parse(date, referenceDate);
+
+            DateTime jodaDateTime = getJodaDateTime(date, datesFound);
+
+            return LocalDateTime.parse(jodaDateTime.toString(), DateTimeFormatter.ISO_DATE_TIME);
+        } catch (Exception ex) {
+            throw new ParseException(String.format(MESSAGE_UNPARSEABLE_DATE, date));
+        }
+    }
+
+    /**
+     * Parses {@code date} if it is in ISO or one of the explicit date formats.
+     * Matches the formats directly rather than trying each one in turn, so that no exceptions are thrown.
+     */
+    private static Optional<LocalDateTime> parseExplicitDate(String date) {
+        Matcher matcher = YEAR_FIRST_FORMAT.matcher(date);
+        if (!matcher.matches()) {
+            matcher = DAY_FIRST_FORMAT.matcher(date);
+            if (!matcher.matches()) {
+                return Optional.empty();
             }
         }
+
+        int year = Integer.parseInt(matcher.group("year"));
+        int month = Integer.parseInt(matcher.group("month"));
+        int day = Integer.parseInt(matcher.group("day"));
+        if (month < 1 || month > 12 || day < 1 || day > YearMonth.of(year, month).lengthOfMonth()) {
+            return Optional.empty();
+        }
+        if (matcher.group("hour") == null) {
+            return Optional.of(LocalDate.of(year, month, day).atTime(DATE_ONLY_TIME));
+        }
+
+        int hour = Integer.parseInt(matcher.group("hour"));
+        int minute = Integer.parseInt(matcher.group("minute"));
+        int second = matcher.group("second") == null ? 0 : Integer.parseInt(matcher.group("second"));
+        String fraction = matcher.group("fraction");
+        int nanoOfSecond = fraction == null ? 0 : Integer.parseInt((fraction + "00000000").substring(0, 9));
+        if (hour > 23 || minute > 59 || second > 59) {
+            return Optional.empty();
+        }
+        return Optional.of(LocalDateTime.of(year, month, day, hour, minute, second, nanoOfSecond));
+    }
+
+    /**
+     * Returns the natural language parser, loading it on the calling thread if nothing has started loading it,
+     * or else waiting for it to finish loading.
+     */
+    private static NaturalLanguageParser getNaturalLanguageParser() {
+        if (IS_LOADING_STARTED.compareAndSet(false, true)) {
+            loadNaturalLanguageParser();
+        }
+        return NATURAL_LANGUAGE_PARSER.join();
+    }
+
+    /**
+     * Loads the natural language parser. Any failure, including an {@code Error}, fails the parser so that
+     * callers waiting for it see a {@code ParseException} instead of waiting forever.
+     */
+    private static void loadNaturalLanguageParser() {
+        try {
+            NATURAL_LANGUAGE_PARSER.complete(new NaturalLanguageParser());
+        } catch (Throwable e) {
+            NATURAL_LANGUAGE_PARSER.completeExceptionally(e);
+        }
     }
 
     /**
@@ -107,7 +210,7 @@ public class DateParserUtil {
         List<ParserOutput> parserOutputs = datesFound.getParserOutputs();
 
         if (parserOutputs.isEmpty()) {
-            throw new ParseException("Unable to parse date/time: " + date);
+            throw new ParseException(String.format(MESSAGE_UNPARSEABLE_DATE, date));
         }
 
         ParserOutput parserOutput = parserOutputs.get(0);
@@ -119,4 +222,50 @@ public class DateParserUtil {
         }
         return jodaDateTime;
     }
+
+    /**
+     * Parses natural language dates with Hawking, whose model is loaded when this is constructed.
+     */
+    private static class NaturalLanguageParser {
+        private static final String HAWKING_LANGUAGE = "eng";
+
+        private final HawkingTimeParser hawkingTimeParser = new HawkingTimeParser();
+        private final HawkingConfiguration hawkingConfiguration = new HawkingConfiguration();
+
+        NaturalLanguageParser() {
+            hawkingConfiguration.setTimeZone(ZoneId.systemDefault().getId());
+
+            // only parse one date
+            hawkingConfiguration.setMaxParseDate(1);
+
+            // dummy sentence to load parser model into RAM first for faster parsing later
+            parse("what are you doing tomorrow?", new Date());
+        }
+
+        DatesFound parse(String date, Date referenceDate) {
+            return hawkingTimeParser.parse(date, referenceDate, hawkingConfiguration, HAWKING_LANGUAGE);
+        }
+    }
+
+    /**
+     * Identifies a natural language date parsed on a given day.
+     */
+    private record RelativeDateKey(String date, LocalDate referenceDay) {}
+
+    /**
+     * A map that drops its least recently used entry once it holds more than a given number of entries.
+     */
+    private static class BoundedCache<K, V> extends LinkedHashMap<K, V> {
+        private final int maxSize;
+
+        BoundedCache(int maxSize) {
+            super(16, 0.75f, true);
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+            return size() > maxSize;
+        }
+    }
 }
@@ -3,24 +3,40 @@ package seedu.address.model;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.PersistentList;
 import seedu.address.commons.util.ToStringBuilder;
-import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBookChangeLog.Edit;
+import seedu.address.model.AddressBookChangeLog.ListName;
 import seedu.address.model.event.Event;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.UniquePersonList;
 import seedu.address.model.relationship.Relationship;
 import seedu.address.model.relationship.UniqueRelationshipList;
 import seedu.address.model.relationship.exceptions.RelationshipNotFoundException;
+import seedu.address.model.search.PersonSearchIndex;
+import seedu.address.model.search.SearchField;
 
 /**
  * Wraps all data at the address-book level
  * Duplicates are not allowed (by .isSamePerson comparison)
+ *
+ * Persons, relationships and events are never changed in place once they are in the address book; changing one
+ * replaces it with a changed copy. This lets {@link #snapshot()} share them with the snapshots it returns.
  */
 public class AddressBook implements ReadOnlyAddressBook {
 
@@ -28,6 +44,23 @@ public class AddressBook implements ReadOnlyAddressBook {
     private final UniqueRelationshipList relationships;
     // Changed events field to use a standard ObservableList instead of UniqueEventList.
     private final ObservableList<Event> events;
+    private final Map<String, Event> eventsById = new HashMap<>();
+    // Position in the events list of each event in eventsById, so that an event can be replaced without a scan
+    private final Map<String, Integer> eventPositionsById = new HashMap<>();
+    // Reverse index from person ID to the IDs of the events the person attends, and the forward snapshot
+    // used to unindex events whose contacts were changed in place.
+    private final Map<String, Set<String>> eventIdsByPersonId = new HashMap<>();
+    private final Map<String, Set<String>> personIdsByEventId = new HashMap<>();
+    private final PersonSearchIndex personSearchIndex = new PersonSearchIndex();
+    // Incremented by every change, so that savers can tell whether anything changed since the last save.
+    // Only the owning thread changes it, but it can be read from any thread.
+    private volatile long version;
+    // Persistent copies of the lists, kept in step with every change so that taking a snapshot copies nothing
+    private PersistentList<Person> personSnapshot = PersistentList.empty();
+    private PersistentList<Relationship> relationshipSnapshot = PersistentList.empty();
+    private PersistentList<Event> eventSnapshot = PersistentList.empty();
+    // The position after the last edit to the lists, so that savers can tell what changed between two snapshots
+    private AddressBookChangeLog changeLog = AddressBookChangeLog.start();
 
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
@@ -37,6 +70,12 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons = new UniquePersonList();
         relationships = new UniqueRelationshipList();
         events = FXCollections.observableArrayList();
+        persons.asUnmodifiableObservableList().addListener((ListChangeListener<Person>) change ->
+                personSnapshot = applyChange(personSnapshot, ListName.PERSONS, change));
+        relationships.asUnmodifiableObservableList().addListener((ListChangeListener<Relationship>) change ->
+                relationshipSnapshot = applyChange(relationshipSnapshot, ListName.RELATIONSHIPS, change));
+        events.addListener((ListChangeListener<Event>) change ->
+                eventSnapshot = applyChange(eventSnapshot, ListName.EVENTS, change));
     }
 
     public AddressBook() {}
@@ -57,6 +96,8 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setPersons(List<Person> persons) {
         this.persons.setPersons(persons);
+        personSearchIndex.setPersons(persons);
+        version++;
     }
 
     /**
@@ -65,6 +106,18 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setEvents(List<Event> events) {
         this.events.setAll(events);
+        eventsById.clear();
+        eventPositionsById.clear();
+        eventIdsByPersonId.clear();
+        personIdsByEventId.clear();
+        for (int i = 0; i < this.events.size(); i++) {
+            Event event = this.events.get(i);
+            if (eventsById.putIfAbsent(event.getId(), event) == null) {
+                eventPositionsById.put(event.getId(), i);
+            }
+        }
+        eventsById.values().forEach(this::indexEventContacts);
+        version++;
     }
 
     /**
@@ -93,6 +146,18 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addPerson(Person p) {
         persons.add(p);
+        personSearchIndex.add(p);
+        version++;
+    }
+
+    /**
+     * Adds all of {@code toAdd} to the address book in one batch.
+     * None of the persons may already exist in the address book.
+     */
+    public void addPersons(List<Person> toAdd) {
+        persons.addAll(toAdd);
+        toAdd.forEach(personSearchIndex::add);
+        version++;
     }
 
     /**
@@ -103,6 +168,12 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void setPerson(Person target, Person editedPerson) {
         requireNonNull(editedPerson);
         persons.setPerson(target, editedPerson);
+        personSearchIndex.remove(target);
+        personSearchIndex.add(editedPerson);
+        if (!target.getId().equals(editedPerson.getId())) {
+            replacePersonInEvents(target, editedPerson);
+        }
+        version++;
     }
 
     /**
@@ -111,8 +182,10 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removePerson(Person key) {
         persons.remove(key);
+        personSearchIndex.remove(key);
         deleteRelationshipsInvolvingPerson(key);
         removePersonFromEvents(key);
+        version++;
     }
 
     /**
@@ -130,19 +203,41 @@ public class AddressBook implements ReadOnlyAddressBook {
      * @param person The person to remove from events.
      */
     private void removePersonFromEvents(Person person) {
-        for (Event event : events) {
-            event.deleteContact(person);
+        Set<String> eventIds = eventIdsByPersonId.remove(person.getId());
+        if (eventIds == null) {
+            return;
+        }
+        for (String eventId : eventIds) {
+            Event stored = eventsById.get(eventId);
+            Event updated = new Event(stored);
+            updated.deleteContact(person);
+            events.set(positionOfStoredEvent(stored), updated);
+            eventsById.put(eventId, updated);
+            personIdsByEventId.get(eventId).remove(person.getId());
         }
     }
 
     /**
-     * Sorts the person list using the provided comparator.
-     *
-     * @param comparator The comparator to use for sorting.
+     * Replaces {@code target} with {@code editedPerson} in the contacts of the events that {@code target} attends,
+     * as the ID of a person changes when their name or phone is edited.
      */
-    public void sortPersons(Comparator<? super Person> comparator) throws CommandException {
-        requireNonNull(comparator);
-        persons.sortPersons(comparator);
+    private void replacePersonInEvents(Person target, Person editedPerson) {
+        Set<String> eventIds = eventIdsByPersonId.remove(target.getId());
+        if (eventIds == null) {
+            return;
+        }
+        for (String eventId : eventIds) {
+            Event stored = eventsById.get(eventId);
+            Event updated = new Event(stored);
+            updated.deleteContact(target);
+            updated.addContact(editedPerson);
+            events.set(positionOfStoredEvent(stored), updated);
+            eventsById.put(eventId, updated);
+            Set<String> personIds = personIdsByEventId.get(eventId);
+            personIds.remove(target.getId());
+            personIds.add(editedPerson.getId());
+        }
+        eventIdsByPersonId.computeIfAbsent(editedPerson.getId(), id -> new LinkedHashSet<>()).addAll(eventIds);
     }
 
     //// Relationship-level operations
@@ -177,6 +272,16 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addRelationship(Relationship r) {
         relationships.add(r);
+        version++;
+    }
+
+    /**
+     * Adds all of {@code toAdd} to the address book in one batch.
+     * None of the relationships may already exist in the address book.
+     */
+    public void addRelationships(List<Relationship> toAdd) {
+        relationships.addAll(toAdd);
+        version++;
     }
 
     /**
@@ -186,6 +291,7 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void removeRelationship(String userId1, String userId2, String relationshipName)
             throws RelationshipNotFoundException {
         relationships.remove(userId1, userId2, relationshipName);
+        version++;
     }
 
     /**
@@ -193,10 +299,42 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public Person getPersonById(String id) {
         requireNonNull(id);
-        return persons.asUnmodifiableObservableList().stream()
-                .filter(p -> p.getId().equals(id))
-                .findFirst()
-                .orElse(null);
+        return persons.getPersonById(id);
+    }
+
+    /**
+     * Returns the person with the given name, or null if not found.
+     */
+    public Person getPersonByName(Name name) {
+        requireNonNull(name);
+        return persons.getPersonByName(name);
+    }
+
+    /**
+     * Returns the names of the persons whose {@code field} may contain any of {@code keywords}, ignoring case.
+     * Candidates must still be verified against the field. Returns an empty {@code Optional} if the search index
+     * cannot narrow down the candidates, in which case every person is a candidate.
+     */
+    public Optional<Set<Name>> findSearchCandidates(SearchField field, List<String> keywords) {
+        requireAllNonNull(field, keywords);
+        return personSearchIndex.findCandidates(field, keywords);
+    }
+
+    /**
+     * Returns the names of the persons with a tag whose name contains any of {@code keywords}, ignoring case.
+     */
+    public Set<Name> findPersonsWithTagContaining(Collection<String> keywords) {
+        requireNonNull(keywords);
+        return personSearchIndex.findPersonsWithTagContaining(keywords);
+    }
+
+    /**
+     * Returns the IDs of the persons whose role in some relationship contains any of {@code keywords},
+     * ignoring case.
+     */
+    public Set<String> findPersonIdsWithRelationshipRoleContaining(Collection<String> keywords) {
+        requireNonNull(keywords);
+        return relationships.findUserIdsWithRoleContaining(keywords);
     }
 
     /**
@@ -213,7 +351,7 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public boolean hasEvent(Event event) {
         requireNonNull(event);
-        return events.stream().anyMatch(event::equals);
+        return event.equals(eventsById.get(event.getId()));
     }
 
     /**
@@ -222,6 +360,29 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addEvent(Event event) {
         events.add(event);
+        if (eventsById.putIfAbsent(event.getId(), event) == null) {
+            eventPositionsById.put(event.getId(), events.size() - 1);
+            indexEventContacts(event);
+        }
+        version++;
+    }
+
+    /**
+     * Adds all of {@code toAdd} to the address book in one batch.
+     * None of the events may already exist in the address book.
+     */
+    public void addEvents(List<Event> toAdd) {
+        requireAllNonNull(toAdd);
+        int position = events.size();
+        events.addAll(toAdd);
+        for (Event event : toAdd) {
+            if (eventsById.putIfAbsent(event.getId(), event) == null) {
+                eventPositionsById.put(event.getId(), position);
+                indexEventContacts(event);
+            }
+            position++;
+        }
+        version++;
     }
 
     /**
@@ -229,7 +390,48 @@ public class AddressBook implements ReadOnlyAddressBook {
      * The event must exist in the address book.
      */
     public void deleteEvent(Event event) {
-        events.remove(event);
+        requireNonNull(event);
+        Event stored = eventsById.get(event.getId());
+        if (stored == null || !stored.equals(event)) {
+            return;
+        }
+        int position = positionOfStoredEvent(stored);
+        events.remove(position);
+        eventsById.remove(stored.getId());
+        eventPositionsById.remove(stored.getId());
+        // Removing from the list shifts the later events anyway, so updating their positions costs no more
+        for (int i = position; i < events.size(); i++) {
+            Event shifted = events.get(i);
+            if (eventsById.get(shifted.getId()) == shifted) {
+                eventPositionsById.put(shifted.getId(), i);
+            }
+        }
+        unindexEventContacts(stored.getId());
+        version++;
+    }
+
+    /**
+     * Returns the event with the given ID, or null if there is no such event in the address book.
+     */
+    public Event getEventById(String id) {
+        requireNonNull(id);
+        return eventsById.get(id);
+    }
+
+    /**
+     * Returns the events that {@code person} attends, in the order they were indexed.
+     */
+    public List<Event> getEventsForPerson(Person person) {
+        requireNonNull(person);
+        Set<String> eventIds = eventIdsByPersonId.get(person.getId());
+        if (eventIds == null) {
+            return Collections.emptyList();
+        }
+        List<Event> attendedEvents = new ArrayList<>(eventIds.size());
+        for (String eventId : eventIds) {
+            attendedEvents.add(eventsById.get(eventId));
+        }
+        return Collections.unmodifiableList(attendedEvents);
     }
 
     /**
@@ -250,11 +452,100 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void setEvent(Event target, Event editedEvent) {
         requireAllNonNull(target, editedEvent);
-        int index = events.indexOf(target);
-        if (index == -1) {
+        Event stored = eventsById.get(target.getId());
+        if (stored == null || !stored.equals(target)) {
             throw new IllegalArgumentException("Target event not found in address book.");
         }
-        events.set(index, editedEvent);
+        int position = positionOfStoredEvent(stored);
+        events.set(position, editedEvent);
+        eventsById.remove(stored.getId());
+        eventPositionsById.remove(stored.getId());
+        unindexEventContacts(stored.getId());
+        if (eventsById.putIfAbsent(editedEvent.getId(), editedEvent) == null) {
+            eventPositionsById.put(editedEvent.getId(), position);
+            indexEventContacts(editedEvent);
+        }
+        version++;
+    }
+
+    /**
+     * Returns the position of {@code stored}, an event in {@code eventsById}, in the events list.
+     */
+    private int positionOfStoredEvent(Event stored) {
+        Integer position = eventPositionsById.get(stored.getId());
+        if (position == null || events.get(position) != stored) {
+            throw new IllegalStateException("Event index is out of sync with the events list.");
+        }
+        return position;
+    }
+
+    /**
+     * Records the contacts of {@code event} in the person-to-events index.
+     */
+    private void indexEventContacts(Event event) {
+        Set<String> personIds = new LinkedHashSet<>(event.getContactIds());
+        for (String personId : personIds) {
+            eventIdsByPersonId.computeIfAbsent(personId, id -> new LinkedHashSet<>()).add(event.getId());
+        }
+        personIdsByEventId.put(event.getId(), personIds);
+    }
+
+    /**
+     * Removes the event with ID {@code eventId} from the person-to-events index.
+     */
+    private void unindexEventContacts(String eventId) {
+        Set<String> personIds = personIdsByEventId.remove(eventId);
+        if (personIds == null) {
+            return;
+        }
+        for (String personId : personIds) {
+            Set<String> eventIds = eventIdsByPersonId.get(personId);
+            eventIds.remove(eventId);
+            if (eventIds.isEmpty()) {
+                eventIdsByPersonId.remove(personId);
+            }
+        }
+    }
+
+    //// Snapshot operations
+
+    /**
+     * Returns an immutable copy of the current contents of this address book, which can be read on any thread
+     * while this address book keeps changing. Takes O(1) time, as the copy shares all its data with this one.
+     */
+    public AddressBookSnapshot snapshot() {
+        return new AddressBookSnapshot(personSnapshot, relationshipSnapshot, eventSnapshot, version, changeLog);
+    }
+
+    /**
+     * Returns {@code list} with {@code change} to the list it mirrors applied to it, and records the change
+     * in the change log. Changes that replace most of the list, or reorder it, rebuild the copy from the changed
+     * list instead, and are recorded as a reset of the list.
+     */
+    private <E> PersistentList<E> applyChange(PersistentList<E> list, ListName listName,
+            ListChangeListener.Change<? extends E> change) {
+        PersistentList<E> updatedList = list;
+        while (change.next()) {
+            if (change.wasPermutated() || change.getRemovedSize() + change.getAddedSize() > updatedList.size() / 2) {
+                changeLog = changeLog.append(Edit.reset(listName));
+                return PersistentList.copyOf(change.getList());
+            }
+            int from = change.getFrom();
+            if (change.wasRemoved()) {
+                updatedList = updatedList.withRemovedRange(from, from + change.getRemovedSize());
+                for (int i = 0; i < change.getRemovedSize(); i++) {
+                    changeLog = changeLog.append(Edit.removal(listName, from));
+                }
+            }
+            if (change.wasAdded()) {
+                List<? extends E> added = change.getAddedSubList();
+                updatedList = updatedList.withInsertedAll(from, added);
+                for (int i = 0; i < added.size(); i++) {
+                    changeLog = changeLog.append(Edit.insertion(listName, from + i, added.get(i)));
+                }
+            }
+        }
+        return updatedList;
     }
 
     //// Util methods
@@ -268,6 +559,11 @@ public class AddressBook implements ReadOnlyAddressBook {
                 .toString();
     }
 
+    @Override
+    public long getVersion() {
+        return version;
+    }
+
     @Override
     public ObservableList<Person> getPersonList() {
         return persons.asUnmodifiableObservableList();
@@ -298,9 +594,11 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     public void updateRelationship(Relationship target, Relationship updatedRelationship) {
         relationships.setRelationship(target, updatedRelationship);
+        version++;
     }
 
     public void setRelationships(List<Relationship> relationships) {
         this.relationships.setRelationships(relationships);
+        version++;
     }
 }
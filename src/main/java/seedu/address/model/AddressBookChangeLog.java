@@ -0,0 +1,108 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * A position in the sequence of edits made to the lists of an {@code AddressBook}.
+ * Each snapshot of the address book holds the position it was taken at, so that the edits between two snapshots
+ * can be listed without comparing their contents, e.g. to append only those edits to a journal.
+ * Guarantees: the edits after a position never change once they are recorded, and can be read from any thread.
+ *
+ * Positions only link to the position after them, so the edits before the oldest position still held by
+ * a snapshot can be garbage collected.
+ */
+public final class AddressBookChangeLog {
+
+    /**
+     * The lists of an address book.
+     */
+    public enum ListName {
+        PERSONS, RELATIONSHIPS, EVENTS
+    }
+
+    // Identifies the address book whose edits this records, so that positions in different logs are not compared
+    private final Object owner;
+    private final long sequence;
+    private final Edit edit;
+    private volatile AddressBookChangeLog next;
+
+    private AddressBookChangeLog(Object owner, long sequence, Edit edit) {
+        this.owner = owner;
+        this.sequence = sequence;
+        this.edit = edit;
+    }
+
+    /**
+     * Returns the first position of a new log.
+     */
+    static AddressBookChangeLog start() {
+        return new AddressBookChangeLog(new Object(), 0, null);
+    }
+
+    /**
+     * Records {@code edit} after this position, which must be the last one in its log.
+     *
+     * @return the position after {@code edit}.
+     */
+    AddressBookChangeLog append(Edit edit) {
+        requireNonNull(edit);
+        assert next == null : "Edits can only be appended to the last position";
+        AddressBookChangeLog position = new AddressBookChangeLog(owner, sequence + 1, edit);
+        next = position;
+        return position;
+    }
+
+    /**
+     * Returns the edits that lead from this position to {@code later}, in order.
+     * Returns an empty {@code Optional} if {@code later} is not at or after this position in the same log,
+     * or if some of the edits were not recorded one by one.
+     */
+    public Optional<List<Edit>> getEditsUntil(AddressBookChangeLog later) {
+        requireNonNull(later);
+        if (later.owner != owner || later.sequence < sequence) {
+            return Optional.empty();
+        }
+        List<Edit> edits = new ArrayList<>((int) Math.min(later.sequence - sequence, Integer.MAX_VALUE));
+        AddressBookChangeLog position = this;
+        while (position != later) {
+            position = position.next;
+            if (position == null || position.edit.isReset()) {
+                return Optional.empty();
+            }
+            edits.add(position.edit);
+        }
+        return Optional.of(edits);
+    }
+
+    /**
+     * An edit to one list: the insertion of {@code item} at {@code index}, or the removal of the item at
+     * {@code index} if {@code item} is null. An edit with a negative index stands for edits that were not
+     * recorded one by one, e.g. the reordering of a list.
+     */
+    public record Edit(ListName list, int index, Object item) {
+
+        static Edit insertion(ListName list, int index, Object item) {
+            return new Edit(list, index, requireNonNull(item));
+        }
+
+        static Edit removal(ListName list, int index) {
+            return new Edit(list, index, null);
+        }
+
+        static Edit reset(ListName list) {
+            return new Edit(list, -1, null);
+        }
+
+        public boolean isInsertion() {
+            return item != null;
+        }
+
+        public boolean isReset() {
+            return index < 0;
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.util.PersistentList;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Person;
+import seedu.address.model.relationship.Relationship;
+
+/**
+ * A copy of an address book's contents that is unaffected by later changes to the address book,
+ * so that it can be read on another thread, e.g. to save it in the background.
+ * Guarantees: immutable.
+ *
+ * The lists are persistent, so a snapshot of an {@code AddressBook} shares them with the address book
+ * and with its other snapshots instead of copying them.
+ */
+public class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final PersistentList<Person> persons;
+    private final PersistentList<Relationship> relationships;
+    private final PersistentList<Event> events;
+    private final long version;
+    private final AddressBookChangeLog changeLogPosition;
+
+    AddressBookSnapshot(PersistentList<Person> persons, PersistentList<Relationship> relationships,
+            PersistentList<Event> events, long version, AddressBookChangeLog changeLogPosition) {
+        this.persons = persons;
+        this.relationships = relationships;
+        this.events = events;
+        this.version = version;
+        this.changeLogPosition = changeLogPosition;
+    }
+
+    /**
+     * Returns a snapshot of the current contents of {@code addressBook}.
+     * Takes O(1) time for an {@code AddressBook} or a snapshot, and copies the lists of any other address book.
+     */
+    public static AddressBookSnapshot of(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        if (addressBook instanceof AddressBookSnapshot snapshot) {
+            return snapshot;
+        }
+        if (addressBook instanceof AddressBook mutableAddressBook) {
+            return mutableAddressBook.snapshot();
+        }
+        // Other address books may change their events in place
+        List<Event> events = new ArrayList<>(addressBook.getEventList().size());
+        for (Event event : addressBook.getEventList()) {
+            events.add(new Event(event));
+        }
+        return new AddressBookSnapshot(PersistentList.copyOf(addressBook.getPersonList()),
+                PersistentList.copyOf(addressBook.getRelationshipList()), PersistentList.copyOf(events),
+                addressBook.getVersion(), null);
+    }
+
+    /**
+     * Returns the position in the change log of the address book that this snapshot was taken at,
+     * or an empty {@code Optional} if the address book does not keep a change log.
+     */
+    public Optional<AddressBookChangeLog> getChangeLogPosition() {
+        return Optional.ofNullable(changeLogPosition);
+    }
+
+    @Override
+    public ObservableList<Person> getPersonList() {
+        return FXCollections.unmodifiableObservableList(FXCollections.observableList(persons));
+    }
+
+    @Override
+    public ObservableList<Relationship> getRelationshipList() {
+        return FXCollections.unmodifiableObservableList(FXCollections.observableList(relationships));
+    }
+
+    @Override
+    public ObservableList<Event> getEventList() {
+        return FXCollections.unmodifiableObservableList(FXCollections.observableList(events));
+    }
+
+    @Override
+    public long getVersion() {
+        return version;
+    }
+}
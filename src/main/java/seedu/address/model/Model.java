@@ -2,12 +2,14 @@ package seedu.address.model;
 
 import java.nio.file.Path;
 import java.util.Comparator;
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.event.Event;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.relationship.Relationship;
 import seedu.address.model.relationship.exceptions.RelationshipNotFoundException;
@@ -80,6 +82,12 @@ public interface Model {
      */
     void addPerson(Person person);
 
+    /**
+     * Adds all of the given persons in one batch.
+     * None of {@code persons} may already exist in the address book.
+     */
+    void addPersons(List<Person> persons);
+
     /**
      * Replaces the given person {@code target} with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -106,7 +114,8 @@ public interface Model {
     void updateFilteredPersonList(Predicate<Person> predicate);
 
     /**
-     * Updates the sorting order of the filtered person list.
+     * Updates the sorting order of the sorted person list.
+     * The order of the persons in the address book is unchanged.
      *
      * @throws NullPointerException if {@code comparator} is null.
      */
@@ -117,6 +126,11 @@ public interface Model {
      */
     Person getPersonById(String id);
 
+    /**
+     * Returns the person with the given name, or null if not found.
+     */
+    Person getPersonByName(Name name);
+
     /**
      * Returns true if a relationship with the same identity fields exists in the address book.
      */
@@ -141,6 +155,12 @@ public interface Model {
      */
     void addRelationship(Relationship relationship);
 
+    /**
+     * Adds all of the given relationships in one batch.
+     * None of {@code relationships} may already exist in the address book.
+     */
+    void addRelationships(List<Relationship> relationships);
+
     /**
      * Deletes the relationship with the given user IDs and name.
      * The relationship must exist in the address book.
@@ -162,6 +182,12 @@ public interface Model {
      */
     void addEvent(Event event);
 
+    /**
+     * Adds all of the given events in one batch.
+     * None of {@code events} may already exist in the address book.
+     */
+    void addEvents(List<Event> events);
+
     /**
      * Deletes the given event.
      * The event must exist in the address book.
@@ -182,9 +208,15 @@ public interface Model {
 
     /**
      * Returns the event with the given ID, or null if not found.
+     * The lookup covers all events in the address book, regardless of the current event filter.
      */
     Event getEventById(String id);
 
+    /**
+     * Returns the events that the given person attends.
+     */
+    List<Event> getEventsForPerson(Person person);
+
     /**
      * Replaces the given event {@code target} with {@code updatedEvent}.
      * {@code target} must exist in the address book.
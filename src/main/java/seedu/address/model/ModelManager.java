@@ -5,16 +5,24 @@ import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.event.Event;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
+import seedu.address.model.predicate.RelationshipContainsKeywordsAsSubstringPredicate;
+import seedu.address.model.predicate.SubstringSearchPredicate;
+import seedu.address.model.predicate.TagContainsKeywordsAsSubstringPredicate;
 import seedu.address.model.relationship.Relationship;
 import seedu.address.model.relationship.exceptions.RelationshipNotFoundException;
 
@@ -27,11 +35,10 @@ public class ModelManager implements Model {
     private final AddressBook addressBook;
     private final UserPrefs userPrefs;
     private final FilteredList<Person> filteredPersons;
+    private final SortedList<Person> sortedPersons;
     private final FilteredList<Relationship> filteredRelationships;
     private final FilteredList<Event> filteredEvents;
 
-    private Comparator<Person> sortComparator;
-
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
      */
@@ -43,9 +50,9 @@ public class ModelManager implements Model {
         this.addressBook = new AddressBook(addressBook);
         this.userPrefs = new UserPrefs(userPrefs);
         filteredPersons = new FilteredList<>(this.addressBook.getPersonList());
+        sortedPersons = new SortedList<>(filteredPersons);
         filteredRelationships = new FilteredList<>(this.addressBook.getRelationshipList());
         filteredEvents = new FilteredList<>(this.addressBook.getEventList()); // Initialize event list
-        sortComparator = (person1, person2) -> 0;
     }
 
     public ModelManager() {
@@ -116,6 +123,12 @@ public class ModelManager implements Model {
         updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
+    @Override
+    public void addPersons(List<Person> persons) {
+        addressBook.addPersons(persons);
+        updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+    }
+
     @Override
     public void setPerson(Person target, Person editedPerson) {
         requireAllNonNull(target, editedPerson);
@@ -136,18 +149,64 @@ public class ModelManager implements Model {
 
     @Override
     public ObservableList<Person> getSortedFilteredPersonList() {
-        return filteredPersons;
+        return sortedPersons;
     }
 
     @Override
     public void updateFilteredPersonList(Predicate<Person> predicate) {
         requireNonNull(predicate);
-        filteredPersons.setPredicate(predicate);
+        filteredPersons.setPredicate(narrowWithSearchIndex(predicate));
+    }
+
+    /**
+     * Returns a predicate equivalent to {@code predicate} that is answered with the help of the search index,
+     * if {@code predicate} is a search the index supports.
+     */
+    private Predicate<Person> narrowWithSearchIndex(Predicate<Person> predicate) {
+        if (predicate instanceof TagContainsKeywordsAsSubstringPredicate tagPredicate) {
+            List<String> tagKeywords = tagPredicate.getKeywords().stream().map(tag -> tag.tagName).toList();
+            Set<Name> matchingNames = addressBook.findPersonsWithTagContaining(tagKeywords);
+            return person -> matchingNames.contains(person.getName());
+        }
+        if (predicate instanceof RelationshipContainsKeywordsAsSubstringPredicate relationshipPredicate
+                && isShowingAllRelationships()) {
+            Set<String> matchingIds =
+                    addressBook.findPersonIdsWithRelationshipRoleContaining(relationshipPredicate.getKeywords());
+            return person -> matchingIds.contains(person.getId());
+        }
+        if (!(predicate instanceof SubstringSearchPredicate searchPredicate)) {
+            return predicate;
+        }
+        Optional<Set<Name>> candidates = addressBook.findSearchCandidates(
+                searchPredicate.getSearchField(), searchPredicate.getKeywords());
+        if (candidates.isEmpty()) {
+            return predicate;
+        }
+        Set<Name> candidateNames = candidates.get();
+        return person -> candidateNames.contains(person.getName()) && predicate.test(person);
+    }
+
+    /**
+     * Returns true if the filtered relationship list currently shows every relationship.
+     * Relationship searches match against the filtered list, so the role index only applies in that case.
+     */
+    private boolean isShowingAllRelationships() {
+        Predicate<? super Relationship> relationshipPredicate = filteredRelationships.getPredicate();
+        return relationshipPredicate == null || relationshipPredicate == PREDICATE_SHOW_ALL_RELATIONSHIPS;
     }
 
     @Override
     public void updateSortedPersonList(Comparator<Person> comparator) throws CommandException {
-        this.addressBook.sortPersons(comparator);
+        requireNonNull(comparator);
+        Comparator<? super Person> previousComparator = sortedPersons.getComparator();
+        try {
+            sortedPersons.setComparator(comparator);
+        } catch (RuntimeException e) {
+            sortedPersons.setComparator(previousComparator);
+            throw new CommandException("An error occurred while sorting the persons list: "
+                    + "Possible error is one of the sorting fields in some person is null. "
+                    + "Please add sufficient value to sort properly.", e);
+        }
     }
 
     //=========== Relationship ================================================================================
@@ -157,6 +216,12 @@ public class ModelManager implements Model {
         return addressBook.getPersonById(id);
     }
 
+    @Override
+    public Person getPersonByName(Name name) {
+        requireNonNull(name);
+        return addressBook.getPersonByName(name);
+    }
+
     @Override
     public boolean hasRelationship(Relationship relationship) {
         requireNonNull(relationship);
@@ -181,6 +246,12 @@ public class ModelManager implements Model {
         updateFilteredRelationshipList(PREDICATE_SHOW_ALL_RELATIONSHIPS);
     }
 
+    @Override
+    public void addRelationships(List<Relationship> relationships) {
+        addressBook.addRelationships(relationships);
+        updateFilteredRelationshipList(PREDICATE_SHOW_ALL_RELATIONSHIPS);
+    }
+
     @Override
     public Relationship getRelationship(String userId1, String userId2, String relationshipName) {
         return addressBook.getRelationship(userId1, userId2, relationshipName);
@@ -225,6 +296,12 @@ public class ModelManager implements Model {
         updateFilteredEventList(Model.PREDICATE_SHOW_ALL_EVENTS);
     }
 
+    @Override
+    public void addEvents(List<Event> events) {
+        addressBook.addEvents(events);
+        updateFilteredEventList(Model.PREDICATE_SHOW_ALL_EVENTS);
+    }
+
     @Override
     public void updateEvent(Event target, Event updatedEvent) {
         requireAllNonNull(target, updatedEvent);
@@ -251,12 +328,13 @@ public class ModelManager implements Model {
     @Override
     public Event getEventById(String id) {
         requireNonNull(id);
-        for (Event event : filteredEvents) {
-            if (event.getId().equals(id)) {
-                return event;
-            }
-        }
-        return null;
+        return addressBook.getEventById(id);
+    }
+
+    @Override
+    public List<Event> getEventsForPerson(Person person) {
+        requireNonNull(person);
+        return addressBook.getEventsForPerson(person);
     }
 
     @Override
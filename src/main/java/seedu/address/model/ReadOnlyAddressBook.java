@@ -26,4 +26,10 @@ public interface ReadOnlyAddressBook {
      * This list will not contain any duplicate events.
      */
     ObservableList<Event> getEventList();
+
+    /**
+     * Returns the modification count of the address book, which increases every time its contents change.
+     * Two reads that return the same version saw the same contents.
+     */
+    long getVersion();
 }
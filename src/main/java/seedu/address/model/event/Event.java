@@ -6,18 +6,23 @@ import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
-import javafx.collections.ObservableList;
 import seedu.address.model.person.Person;
-import seedu.address.model.person.UniquePersonList;
 import seedu.address.model.tag.Tag;
 
 /**
  * Represents an Event in the address book.
  * <p>
+ * Contacts are stored as the IDs of persons in the address book, in the order they were added,
+ * and are resolved through the address book when their details are needed.
+ * </p>
+ * <p>
  * Guarantees: details are present and not null, field values are validated, and the class is immutable.
  * </p>
  */
@@ -33,7 +38,7 @@ public class Event {
     private final String location;
     private final String description;
     private final Set<Tag> tags = new HashSet<>();
-    private final UniquePersonList contacts;
+    private final Set<String> contactIds = new LinkedHashSet<>();
 
     /**
      * Constructs an {@code Event} with the given details.
@@ -43,13 +48,13 @@ public class Event {
      * @param location    The location of the event (can be empty).
      * @param description The event description (can be empty).
      * @param tags        A set of tags associated with the event.
-     * @param contacts    A {@code UniquePersonList} of contacts associated with the event.
+     * @param contactIds  The IDs of the persons associated with the event.
      */
     public Event(String name, LocalDateTime date, String location, String description, Set<Tag> tags,
-                 UniquePersonList contacts) {
+                 Set<String> contactIds) {
         requireNonNull(name, "Event name is required");
         requireNonNull(date, "Event date is required");
-        requireNonNull(contacts, "Event contacts are required");
+        requireNonNull(contactIds, "Event contacts are required");
         if (name.trim().isEmpty()) {
             throw new IllegalArgumentException(MESSAGE_CONSTRAINTS_NAME);
         }
@@ -63,26 +68,35 @@ public class Event {
         if (tags != null) {
             this.tags.addAll(tags);
         }
-        this.contacts = contacts;
+        this.contactIds.addAll(contactIds);
     }
 
     /**
      * Public constructor used for creating an updated version of an event.
      */
     public Event(String id, String name, LocalDateTime date, String location, String description, Set<Tag> tags,
-                 UniquePersonList contacts) {
+                 Set<String> contactIds) {
         this.id = id;
         this.name = name;
         this.date = date;
         this.location = location;
         this.description = description;
         this.tags.addAll(tags);
-        this.contacts = contacts;
+        this.contactIds.addAll(contactIds);
 
         int numericId = Integer.parseInt(id);
         this.COUNTER.updateAndGet(current -> Math.max(current, numericId + 1));
     }
 
+    /**
+     * Creates a copy of {@code toBeCopied} with its own set of contacts,
+     * so that later changes to either event's contacts do not affect the other.
+     */
+    public Event(Event toBeCopied) {
+        this(toBeCopied.id, toBeCopied.name, toBeCopied.date, toBeCopied.location, toBeCopied.description,
+                toBeCopied.tags, toBeCopied.contactIds);
+    }
+
     /**
      * Returns the unique identifier of this event.
      *
@@ -138,7 +152,7 @@ public class Event {
         requireNonNull(tag);
         Set<Tag> newTags = new HashSet<>(this.tags);
         newTags.add(tag);
-        return new Event(this.id, this.name, this.date, this.location, this.description, newTags, this.contacts);
+        return new Event(this.id, this.name, this.date, this.location, this.description, newTags, this.contactIds);
     }
 
     /**
@@ -151,7 +165,7 @@ public class Event {
         requireNonNull(tag);
         Set<Tag> newTags = new HashSet<>(this.tags);
         newTags.remove(tag);
-        return new Event(this.id, this.name, this.date, this.location, this.description, newTags, this.contacts);
+        return new Event(this.id, this.name, this.date, this.location, this.description, newTags, this.contactIds);
     }
 
     /**
@@ -162,7 +176,7 @@ public class Event {
      */
     public Event withUpdatedDescription(String newDescription) {
         requireNonNull(newDescription);
-        return new Event(this.id, this.name, this.date, this.location, newDescription, this.tags, this.contacts);
+        return new Event(this.id, this.name, this.date, this.location, newDescription, this.tags, this.contactIds);
     }
 
     /**
@@ -173,7 +187,7 @@ public class Event {
      */
     public Event withUpdatedLocation(String newLocation) {
         requireNonNull(newLocation);
-        return new Event(this.id, this.name, this.date, newLocation, this.description, this.tags, this.contacts);
+        return new Event(this.id, this.name, this.date, newLocation, this.description, this.tags, this.contactIds);
     }
 
     /**
@@ -184,7 +198,7 @@ public class Event {
      */
     public Event withUpdatedDate(LocalDateTime newDate) {
         requireNonNull(newDate);
-        return new Event(this.id, this.name, newDate, this.location, this.description, this.tags, this.contacts);
+        return new Event(this.id, this.name, newDate, this.location, this.description, this.tags, this.contactIds);
     }
 
     /**
@@ -201,46 +215,64 @@ public class Event {
     }
 
     /**
-     * Returns an unmodifiable view of the contacts associated with this event.
+     * Returns an unmodifiable view of the IDs of the contacts associated with this event.
      *
-     * @return an observable list of persons.
+     * @return the contact IDs, in the order they were added.
      */
-    public ObservableList<Person> getContacts() {
-        return contacts.asUnmodifiableObservableList();
+    public Set<String> getContactIds() {
+        return Collections.unmodifiableSet(contactIds);
+    }
+
+    /**
+     * Returns true if {@code person} is a contact of this event.
+     *
+     * @param person the person to check; must not be null.
+     */
+    public boolean hasContact(Person person) {
+        requireNonNull(person, "Person cannot be null");
+        return contactIds.contains(person.getId());
     }
 
     /**
-     * Adds a person to the contacts list.
+     * Adds a person to the contacts of this event.
      *
      * @param person the person to add; must not be null.
      */
     public void addContact(Person person) {
         requireNonNull(person, "Person cannot be null");
-        contacts.add(person);
+        contactIds.add(person.getId());
     }
 
     /**
-     * Deletes a person from the contacts list.
+     * Deletes a person from the contacts of this event.
      *
      * @param person the person to remove; must not be null.
+     * @return true if the person was a contact of this event.
      */
-    public void deleteContact(Person person) {
+    public boolean deleteContact(Person person) {
         requireNonNull(person, "Person cannot be null");
-        contacts.remove(person);
+        return contactIds.remove(person.getId());
     }
 
     /**
-     * Returns a comma-separated string of the full names of all contacts associated with this event.
+     * Returns a comma-separated string of all contacts associated with this event, by name and ID.
+     * Each contact is looked up by its ID with {@code personById}, and is named "Unknown" if it is not found.
      * If no contacts exist, returns "None".
      *
+     * @param personById finds the person with a given ID, or returns null if there is none.
      * @return a formatted string of contacts.
      */
-    public String getContactsAsString() {
-        return getContacts().isEmpty()
+    public String getContactsAsString(Function<String, Person> personById) {
+        requireNonNull(personById);
+        return contactIds.isEmpty()
                 ? "None"
-                : getContacts().stream()
-                               .map(person -> person.getName().fullName + " (ID: " + person.getId() + ")")
-                               .collect(java.util.stream.Collectors.joining(", "));
+                : contactIds.stream()
+                            .map(contactId -> {
+                                Person person = personById.apply(contactId);
+                                String name = person == null ? "Unknown" : person.getName().fullName;
+                                return name + " (ID: " + contactId + ")";
+                            })
+                            .collect(Collectors.joining(", "));
     }
 
     @Override
@@ -257,12 +289,12 @@ public class Event {
                 && location.equals(otherEvent.location)
                 && description.equals(otherEvent.description)
                 && tags.equals(otherEvent.tags)
-                && contacts.equals(otherEvent.contacts);
+                && contactIds.equals(otherEvent.contactIds);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(id, name, date, location, description, tags, contacts);
+        return Objects.hash(id, name, date, location, description, tags, contactIds);
     }
 
     @Override
@@ -280,7 +312,8 @@ public class Event {
             builder.append("; Tags: ");
             tags.forEach(tag -> builder.append(tag.toString()).append(" "));
         }
-        builder.append("; Contacts: ").append(getContactsAsString());
+        // Contacts are only known here by ID; Messages#format(Event, Model) names them for display
+        builder.append("; Contact IDs: ").append(contactIds.isEmpty() ? "None" : String.join(", ", contactIds));
         builder.append("; Event ID: ").append(id);
         return builder.toString();
     }
@@ -26,6 +26,7 @@ public class Person {
     private final Address address;
     private final Set<Social> socials = new HashSet<>();
     private final Set<Tag> tags = new HashSet<>();
+    private final PersonSearchKeys searchKeys;
 
     /**
      * Every field must be present and not null, except for ID.
@@ -46,6 +47,7 @@ public class Person {
         this.socials.addAll(socials);
         this.tags.addAll(tags);
         this.id = id != null ? id : generateId(name, phone); // Use provided ID or generate one
+        this.searchKeys = new PersonSearchKeys(name, phone, email, address, this.socials, this.tags);
     }
 
     public Name getName() {
@@ -76,6 +78,13 @@ public class Person {
         return Collections.unmodifiableSet(tags);
     }
 
+    /**
+     * Returns the case-folded forms of this person's searchable fields.
+     */
+    public PersonSearchKeys getSearchKeys() {
+        return searchKeys;
+    }
+
     /**
      * Returns true if both persons have the same name.
      * This defines a weaker notion of equality between two persons.
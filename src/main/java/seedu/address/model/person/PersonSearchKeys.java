@@ -0,0 +1,62 @@
+package seedu.address.model.person;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.model.tag.Tag;
+
+/**
+ * The case-folded forms of a {@code Person}'s searchable fields, computed once when the person is created
+ * so that substring searches do not allocate a lower-case copy of every field they test.
+ */
+public class PersonSearchKeys {
+
+    private final String name;
+    private final String phone;
+    private final String email;
+    private final String address;
+    private final String socials;
+    private final List<String> tagNames;
+
+    /**
+     * Creates the search keys for the given person fields.
+     */
+    PersonSearchKeys(Name name, Phone phone, Email email, Address address, Set<Social> socials, Set<Tag> tags) {
+        this.name = name.fullName.toLowerCase();
+        this.phone = phone.value.toLowerCase();
+        this.email = email.value.toLowerCase();
+        this.address = address.value.toLowerCase();
+        this.socials = socials.toString().toLowerCase();
+        List<String> lowerCaseTagNames = new ArrayList<>(tags.size());
+        for (Tag tag : tags) {
+            lowerCaseTagNames.add(tag.tagName.toLowerCase());
+        }
+        this.tagNames = Collections.unmodifiableList(lowerCaseTagNames);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getPhone() {
+        return phone;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public String getAddress() {
+        return address;
+    }
+
+    public String getSocials() {
+        return socials;
+    }
+
+    public List<String> getTagNames() {
+        return tagNames;
+    }
+}
@@ -3,13 +3,16 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
-import java.util.Comparator;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
-import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 
@@ -22,6 +25,11 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * An index from person ID to person is kept in sync with the list so that persons can be looked up by ID
+ * without scanning the list. IDs are derived from a hash, so more than one person may hold the same ID; the index
+ * keeps every holder of an ID in list order, and a lookup returns the first of them. A second index keyed on the identity used by {@code Person#isSamePerson(Person)}
+ * (currently the {@code Name}) keeps duplicate detection constant-time.
+ *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
@@ -29,13 +37,15 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<String, List<Person>> personsById = new HashMap<>();
+    private final Map<Name, Person> personsByName = new HashMap<>();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return personsByName.containsKey(toCheck.getName());
     }
 
     /**
@@ -48,6 +58,28 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
         internalList.add(toAdd);
+        addToIdIndex(toAdd);
+        personsByName.put(toAdd.getName(), toAdd);
+    }
+
+    /**
+     * Appends all of {@code toAdd} to the list with a single list change.
+     * None of the persons may already exist in the list, and {@code toAdd} must not contain duplicate persons.
+     */
+    public void addAll(List<Person> toAdd) {
+        requireAllNonNull(toAdd);
+        Set<Name> namesToAdd = new HashSet<>();
+        for (Person person : toAdd) {
+            if (contains(person) || !namesToAdd.add(person.getName())) {
+                throw new DuplicatePersonException();
+            }
+        }
+
+        internalList.addAll(toAdd);
+        for (Person person : toAdd) {
+            addToIdIndex(person);
+            personsByName.put(person.getName(), person);
+        }
     }
 
     /**
@@ -67,7 +99,10 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
+        Person replaced = internalList.set(index, editedPerson);
+        replaceInIdIndex(replaced, editedPerson, index);
+        personsByName.remove(replaced.getName());
+        personsByName.put(editedPerson.getName(), editedPerson);
     }
 
     /**
@@ -79,11 +114,14 @@ public class UniquePersonList implements Iterable<Person> {
         if (!internalList.remove(toRemove)) {
             throw new PersonNotFoundException();
         }
+        removeFromIdIndex(toRemove);
+        personsByName.remove(toRemove.getName());
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        rebuildIndexes();
     }
 
     /**
@@ -97,21 +135,24 @@ public class UniquePersonList implements Iterable<Person> {
         }
 
         internalList.setAll(persons);
+        rebuildIndexes();
     }
 
     /**
-     * Sorts the internal list of persons using the provided comparator.
-     * Catches any exceptions that might occur during sorting.
+     * Returns the person with the given ID, or null if there is no such person in the list.
      */
-    public void sortPersons(Comparator<? super Person> comparator) throws CommandException {
-        requireNonNull(comparator);
-        try {
-            FXCollections.sort(internalList, comparator);
-        } catch (Exception e) {
-            throw new CommandException("An error occurred while sorting the persons list: "
-                    + "Possible error is one of the sorting fields in some person is null. "
-                    + "Please add sufficient value to sort properly.", e);
-        }
+    public Person getPersonById(String id) {
+        requireNonNull(id);
+        List<Person> holders = personsById.get(id);
+        return holders == null ? null : holders.get(0);
+    }
+
+    /**
+     * Returns the person with the given name, or null if there is no such person in the list.
+     */
+    public Person getPersonByName(Name name) {
+        requireNonNull(name);
+        return personsByName.get(name);
     }
 
     /**
@@ -150,15 +191,64 @@ public class UniquePersonList implements Iterable<Person> {
         return internalList.toString();
     }
 
+    /**
+     * Rebuilds the ID and identity indexes from the current contents of the list.
+     */
+    private void rebuildIndexes() {
+        personsById.clear();
+        personsByName.clear();
+        for (Person person : internalList) {
+            addToIdIndex(person);
+            personsByName.put(person.getName(), person);
+        }
+    }
+
+    /**
+     * Adds {@code person}, which must be the last person in the list, as the last holder of its ID.
+     */
+    private void addToIdIndex(Person person) {
+        personsById.computeIfAbsent(person.getId(), id -> new ArrayList<>(1)).add(person);
+    }
+
+    /**
+     * Removes {@code person} from the holders of its ID, so that the next holder, if any, is found by its ID.
+     */
+    private void removeFromIdIndex(Person person) {
+        List<Person> holders = personsById.get(person.getId());
+        holders.remove(person);
+        if (holders.isEmpty()) {
+            personsById.remove(person.getId());
+        }
+    }
+
+    /**
+     * Replaces {@code replaced} with {@code editedPerson}, now at {@code index} in the list, in the ID index.
+     */
+    private void replaceInIdIndex(Person replaced, Person editedPerson, int index) {
+        if (replaced.getId().equals(editedPerson.getId())) {
+            List<Person> holders = personsById.get(replaced.getId());
+            holders.set(holders.indexOf(replaced), editedPerson);
+            return;
+        }
+
+        removeFromIdIndex(replaced);
+        List<Person> holders = personsById.computeIfAbsent(editedPerson.getId(), id -> new ArrayList<>(1));
+        // Another person already holds the new ID, so keep the holders in list order
+        int position = 0;
+        while (position < holders.size() && internalList.indexOf(holders.get(position)) < index) {
+            position++;
+        }
+        holders.add(position, editedPerson);
+    }
+
     /**
      * Returns true if {@code persons} contains only unique persons.
      */
     private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        Set<Name> seenNames = new HashSet<>();
+        for (Person person : persons) {
+            if (!seenNames.add(person.getName())) {
+                return false;
             }
         }
         return true;
@@ -1,29 +1,40 @@
 package seedu.address.model.predicate;
 
 import java.util.List;
-import java.util.function.Predicate;
 
+import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.person.Person;
+import seedu.address.model.search.SearchField;
 
 /**
  * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
  */
-public class NameContainsKeywordsAsSubstringPredicate implements Predicate<Person> {
+public class NameContainsKeywordsAsSubstringPredicate implements SubstringSearchPredicate {
     private final List<String> keywords;
+    private final List<String> lowerCaseKeywords;
 
+    /**
+     * Creates a predicate matching persons whose name contains any of {@code keywords}, ignoring case.
+     */
     public NameContainsKeywordsAsSubstringPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.lowerCaseKeywords = StringUtil.toLowerCase(keywords);
     }
 
     @Override
-    public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> containsSubstringIgnoreCase(person.getName().fullName, keyword));
+    public SearchField getSearchField() {
+        return SearchField.NAME;
+    }
+
+    @Override
+    public List<String> getKeywords() {
+        return keywords;
     }
 
-    private boolean containsSubstringIgnoreCase(String name, String keyword) {
-        return name.toLowerCase().contains(keyword.toLowerCase());
+    @Override
+    public boolean test(Person person) {
+        return StringUtil.containsAnySubstring(person.getSearchKeys().getName(), lowerCaseKeywords);
     }
 
     @Override
@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.Model;
 import seedu.address.model.person.Person;
@@ -14,6 +15,7 @@ import seedu.address.model.relationship.Relationship;
  */
 public class RelationshipContainsKeywordsAsSubstringPredicate implements Predicate<Person> {
     private final List<String> keywords;
+    private final List<String> lowerCaseKeywords;
 
     private final Model model;
 
@@ -25,29 +27,34 @@ public class RelationshipContainsKeywordsAsSubstringPredicate implements Predica
      */
     public RelationshipContainsKeywordsAsSubstringPredicate(List<String> keywords, Model model) {
         this.keywords = keywords;
+        this.lowerCaseKeywords = StringUtil.toLowerCase(keywords);
         this.model = model;
     }
 
+    public List<String> getKeywords() {
+        return keywords;
+    }
+
     @Override
     public boolean test(Person person) {
         ObservableList<Relationship> relationships = model.getFilteredRelationshipList();
         return relationships.stream().anyMatch(relationship -> {
             if (person.getId().equals(relationship.getFirstUserId())) {
-                return keywords.stream().anyMatch(keyword ->
-                        relationship.getForwardName() != null
-                                && containsSubstringIgnoreCase(relationship.getForwardName(), keyword));
+                return relationship.getForwardName() != null
+                        && containsSubstringIgnoreCase(relationship.getForwardName());
             }
             if (person.getId().equals(relationship.getSecondUserId())) {
-                return keywords.stream().anyMatch(keyword ->
-                        relationship.getReverseName() != null
-                                && containsSubstringIgnoreCase(relationship.getReverseName(), keyword));
+                return relationship.getReverseName() != null
+                        && containsSubstringIgnoreCase(relationship.getReverseName());
             }
             return false;
         });
     }
-    private boolean containsSubstringIgnoreCase(String role, String keyword) {
-        return role.toLowerCase().contains(keyword.toLowerCase());
+
+    private boolean containsSubstringIgnoreCase(String role) {
+        return StringUtil.containsAnySubstring(role.toLowerCase(), lowerCaseKeywords);
     }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
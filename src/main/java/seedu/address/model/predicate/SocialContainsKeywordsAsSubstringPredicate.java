@@ -1,29 +1,40 @@
 package seedu.address.model.predicate;
 
 import java.util.List;
-import java.util.function.Predicate;
 
+import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.person.Person;
+import seedu.address.model.search.SearchField;
 
 /**
  * Tests that a {@code Person}'s {@code Social} matches any of the keywords given.
  */
-public class SocialContainsKeywordsAsSubstringPredicate implements Predicate<Person> {
+public class SocialContainsKeywordsAsSubstringPredicate implements SubstringSearchPredicate {
     private final List<String> keywords;
+    private final List<String> lowerCaseKeywords;
 
+    /**
+     * Creates a predicate matching persons whose socials contains any of {@code keywords}, ignoring case.
+     */
     public SocialContainsKeywordsAsSubstringPredicate(List<String> keywords) {
         this.keywords = keywords;
+        this.lowerCaseKeywords = StringUtil.toLowerCase(keywords);
     }
 
     @Override
-    public boolean test(Person person) {
-        return keywords.stream()
-                .anyMatch(keyword -> containsSubstringIgnoreCase(person.getSocials().toString(), keyword));
+    public SearchField getSearchField() {
+        return SearchField.SOCIAL;
+    }
+
+    @Override
+    public List<String> getKeywords() {
+        return keywords;
     }
 
-    private boolean containsSubstringIgnoreCase(String social, String keyword) {
-        return social.toLowerCase().contains(keyword.toLowerCase());
+    @Override
+    public boolean test(Person person) {
+        return StringUtil.containsAnySubstring(person.getSearchKeys().getSocials(), lowerCaseKeywords);
     }
 
     @Override
@@ -0,0 +1,18 @@
+package seedu.address.model.predicate;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.search.SearchField;
+
+/**
+ * Tests that a {@code Person}'s {@code SearchField} contains any of the keywords given, ignoring case.
+ * The model uses the field and keywords to narrow the persons tested down to candidates from its search index.
+ */
+public interface SubstringSearchPredicate extends Predicate<Person> {
+
+    SearchField getSearchField();
+
+    List<String> getKeywords();
+}
@@ -1,8 +1,11 @@
 package seedu.address.model.predicate;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Set;
 import java.util.function.Predicate;
 
+import seedu.address.commons.util.StringUtil;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.person.Person;
 import seedu.address.model.tag.Tag;
@@ -12,21 +15,30 @@ import seedu.address.model.tag.Tag;
  */
 public class TagContainsKeywordsAsSubstringPredicate implements Predicate<Person> {
     private final Set<Tag> keywords;
+    private final List<String> lowerCaseKeywords = new ArrayList<>();
 
+    /**
+     * Creates a predicate matching persons with a tag containing any of the given tag names, ignoring case.
+     */
     public TagContainsKeywordsAsSubstringPredicate(Set<Tag> keywords) {
         this.keywords = keywords;
+        for (Tag keyword : keywords) {
+            lowerCaseKeywords.add(keyword.tagName.toLowerCase());
+        }
     }
 
-    @Override
-    public boolean test(Person person) {
-        return person.getTags().stream()
-                .anyMatch(tag -> keywords.stream()
-                        .anyMatch(keyword -> tag.tagName.toLowerCase()
-                                .contains(keyword.tagName.toLowerCase())));
+    public Set<Tag> getKeywords() {
+        return keywords;
     }
 
-    private boolean containsSubstringIgnoreCase(String tagName, String keyword) {
-        return tagName.toLowerCase().contains(keyword.toLowerCase());
+    @Override
+    public boolean test(Person person) {
+        for (String tagName : person.getSearchKeys().getTagNames()) {
+            if (StringUtil.containsAnySubstring(tagName, lowerCaseKeywords)) {
+                return true;
+            }
+        }
+        return false;
     }
 
     @Override
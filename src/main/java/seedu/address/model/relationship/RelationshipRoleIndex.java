@@ -0,0 +1,87 @@
+package seedu.address.model.relationship;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * An index from each relationship role name to the IDs of the users who hold that role.
+ * The first user of a relationship holds its forward name and the second user holds its reverse name.
+ * Substring queries are answered by scanning the distinct role names rather than every relationship.
+ */
+class RelationshipRoleIndex {
+
+    // Role name -> user ID -> number of relationships in which the user holds that role
+    private final Map<String, Map<String, Integer>> holdersByRole = new HashMap<>();
+    private final Map<String, String> lowerCaseRoleNames = new HashMap<>();
+
+    /**
+     * Records the roles held in {@code relationship}.
+     */
+    void add(Relationship relationship) {
+        requireNonNull(relationship);
+        addRole(relationship.getForwardName(), relationship.getFirstUserId());
+        if (!relationship.getFirstUserId().equals(relationship.getSecondUserId())) {
+            addRole(relationship.getReverseName(), relationship.getSecondUserId());
+        }
+    }
+
+    /**
+     * Removes the roles held in {@code relationship}.
+     */
+    void remove(Relationship relationship) {
+        requireNonNull(relationship);
+        removeRole(relationship.getForwardName(), relationship.getFirstUserId());
+        if (!relationship.getFirstUserId().equals(relationship.getSecondUserId())) {
+            removeRole(relationship.getReverseName(), relationship.getSecondUserId());
+        }
+    }
+
+    /**
+     * Removes all roles from the index.
+     */
+    void clear() {
+        holdersByRole.clear();
+        lowerCaseRoleNames.clear();
+    }
+
+    /**
+     * Returns the IDs of the users holding a role whose name contains any of {@code keywords}, ignoring case.
+     */
+    Set<String> findUserIdsWithRoleContaining(Collection<String> keywords) {
+        requireNonNull(keywords);
+        List<String> lowerCaseKeywords = StringUtil.toLowerCase(keywords);
+
+        Set<String> userIds = new HashSet<>();
+        for (Map.Entry<String, String> entry : lowerCaseRoleNames.entrySet()) {
+            if (StringUtil.containsAnySubstring(entry.getValue(), lowerCaseKeywords)) {
+                userIds.addAll(holdersByRole.get(entry.getKey()).keySet());
+            }
+        }
+        return userIds;
+    }
+
+    private void addRole(String roleName, String userId) {
+        holdersByRole.computeIfAbsent(roleName, unused -> new HashMap<>()).merge(userId, 1, Integer::sum);
+        lowerCaseRoleNames.computeIfAbsent(roleName, String::toLowerCase);
+    }
+
+    private void removeRole(String roleName, String userId) {
+        Map<String, Integer> holders = holdersByRole.get(roleName);
+        if (holders == null) {
+            return;
+        }
+        holders.computeIfPresent(userId, (unused, count) -> count == 1 ? null : count - 1);
+        if (holders.isEmpty()) {
+            holdersByRole.remove(roleName);
+            lowerCaseRoleNames.remove(roleName);
+        }
+    }
+}
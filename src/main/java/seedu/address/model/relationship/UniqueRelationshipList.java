@@ -3,8 +3,15 @@ package seedu.address.model.relationship;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.logging.Logger;
 
 import javafx.collections.FXCollections;
@@ -17,6 +24,10 @@ import seedu.address.model.relationship.exceptions.RelationshipNotFoundException
  * A list of relationships that enforces uniqueness between its elements and does not allow nulls.
  * A relationship is considered unique by comparing using {@code Relationship#isSameRelationship(Relationship)}.
  * Supports a minimal set of list operations.
+ *
+ * Relationships are also indexed by each user ID they involve and by the unordered pair of user IDs, so that
+ * lookups between two users cost O(degree) and removing a user's relationships only touches that user's edges.
+ * A role index maps each forward and reverse name to the users holding it, for searching by role.
  */
 public class UniqueRelationshipList implements Iterable<Relationship> {
     private static final Logger logger = LogsCenter.getLogger(UniqueRelationshipList.class);
@@ -24,6 +35,9 @@ public class UniqueRelationshipList implements Iterable<Relationship> {
     private final ObservableList<Relationship> internalList = FXCollections.observableArrayList();
     private final ObservableList<Relationship> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final Map<String, List<Relationship>> relationshipsByUser = new HashMap<>();
+    private final Map<UserPair, List<Relationship>> relationshipsByPair = new HashMap<>();
+    private final RelationshipRoleIndex roleIndex = new RelationshipRoleIndex();
 
     /**
      * Checks if the list contains an equivalent relationship.
@@ -34,7 +48,8 @@ public class UniqueRelationshipList implements Iterable<Relationship> {
      */
     public boolean contains(Relationship toCheck) {
         requireNonNull(toCheck, "Relationship to check cannot be null");
-        return internalList.stream().anyMatch(toCheck::isSameRelationship);
+        return relationshipsBetween(toCheck.getFirstUserId(), toCheck.getSecondUserId()).stream()
+                .anyMatch(toCheck::isSameRelationship);
     }
 
     /**
@@ -48,7 +63,7 @@ public class UniqueRelationshipList implements Iterable<Relationship> {
     public boolean contains(String firstUserId, String secondUserId, String relationshipName) {
         requireAllNonNull(firstUserId, secondUserId, relationshipName);
 
-        return internalList.stream()
+        return relationshipsBetween(firstUserId, secondUserId).stream()
                 .anyMatch(r -> r.isSameRelationship(firstUserId, secondUserId, relationshipName));
     }
 
@@ -62,23 +77,7 @@ public class UniqueRelationshipList implements Iterable<Relationship> {
     public boolean hasAnyRelationshipBetween(String firstUserId, String secondUserId) {
         requireAllNonNull(firstUserId, secondUserId);
 
-        return internalList.stream()
-                .anyMatch(r -> isRelationshipBetweenUsers(r, firstUserId, secondUserId));
-    }
-
-    /**
-     * Checks if the given relationship is between the two specified users.
-     *
-     * @param relationship The relationship to check.
-     * @param firstUserId The user ID of the first user.
-     * @param secondUserId The user ID of the second user.
-     * @return True if the relationship is between the two specified users, False otherwise.
-     */
-    private boolean isRelationshipBetweenUsers(Relationship relationship, String firstUserId, String secondUserId) {
-        return (relationship.getFirstUserId().equals(firstUserId)
-                && relationship.getSecondUserId().equals(secondUserId))
-                || (relationship.getFirstUserId().equals(secondUserId)
-                && relationship.getSecondUserId().equals(firstUserId));
+        return !relationshipsBetween(firstUserId, secondUserId).isEmpty();
     }
 
     /**
@@ -96,9 +95,33 @@ public class UniqueRelationshipList implements Iterable<Relationship> {
         }
 
         internalList.add(toAdd);
+        index(toAdd);
         logger.fine("Added relationship: " + toAdd);
     }
 
+    /**
+     * Appends all of {@code toAdd} to the list with a single list change.
+     * None of the relationships may already exist in the list.
+     *
+     * @param toAdd The relationships to add.
+     * @throws DuplicateRelationshipException If any of the relationships already exists in the list.
+     */
+    public void addAll(List<Relationship> toAdd) {
+        requireAllNonNull(toAdd);
+
+        // Indexing as we go also catches duplicates within toAdd itself
+        for (int i = 0; i < toAdd.size(); i++) {
+            if (contains(toAdd.get(i))) {
+                toAdd.subList(0, i).forEach(this::unindex);
+                throw new DuplicateRelationshipException();
+            }
+            index(toAdd.get(i));
+        }
+
+        internalList.addAll(toAdd);
+        logger.fine("Added " + toAdd.size() + " relationships");
+    }
+
     /**
      * Removes the relationship with the given user IDs and name from the list.
      * The relationship must exist in the list.
@@ -111,13 +134,17 @@ public class UniqueRelationshipList implements Iterable<Relationship> {
     public void remove(String firstUserId, String secondUserId, String relationshipName) {
         requireAllNonNull(firstUserId, secondUserId, relationshipName);
 
-        boolean wasRemoved = internalList.removeIf(relationship ->
-                relationship.isSameRelationship(firstUserId, secondUserId, relationshipName));
+        List<Relationship> toRemove = relationshipsBetween(firstUserId, secondUserId).stream()
+                .filter(relationship -> relationship.isSameRelationship(firstUserId, secondUserId, relationshipName))
+                .toList();
 
-        if (!wasRemoved) {
+        if (toRemove.isEmpty()) {
             throw new RelationshipNotFoundException();
         }
 
+        internalList.removeAll(new HashSet<>(toRemove));
+        toRemove.forEach(this::unindex);
+
         logger.fine(String.format("Removed relationship between %s and %s", firstUserId, secondUserId));
     }
 
@@ -179,7 +206,7 @@ public class UniqueRelationshipList implements Iterable<Relationship> {
      * @return The relationship with the given user IDs and name, or null if not found.
      */
     public Relationship getRelationship(String userId1, String userId2, String relationshipName) {
-        return internalList.stream()
+        return relationshipsBetween(userId1, userId2).stream()
                 .filter(r -> r.isSameRelationship(userId1, userId2, relationshipName))
                 .findFirst()
                 .orElse(null);
@@ -199,7 +226,9 @@ public class UniqueRelationshipList implements Iterable<Relationship> {
             throw new RelationshipNotFoundException();
         }
 
-        internalList.set(index, editedRelationship);
+        Relationship replaced = internalList.set(index, editedRelationship);
+        unindex(replaced);
+        index(editedRelationship);
     }
 
     /**
@@ -209,6 +238,10 @@ public class UniqueRelationshipList implements Iterable<Relationship> {
     public void setRelationships(List<Relationship>relationships) {
         requireNonNull(relationships);
         internalList.setAll(relationships);
+        relationshipsByUser.clear();
+        relationshipsByPair.clear();
+        roleIndex.clear();
+        internalList.forEach(this::index);
     }
 
     /**
@@ -218,12 +251,89 @@ public class UniqueRelationshipList implements Iterable<Relationship> {
      * @return true if any relationships were removed, false otherwise.
      */
     public boolean removeRelationshipsInvolvingUser(String userId) {
-        return internalList.removeIf(relationship ->
-                relationship.getFirstUserId().equals(userId) || relationship.getSecondUserId().equals(userId));
+        List<Relationship> toRemove = relationshipsByUser.get(userId);
+        if (toRemove == null || toRemove.isEmpty()) {
+            return false;
+        }
+
+        List<Relationship> removed = new ArrayList<>(toRemove);
+        internalList.removeAll(new HashSet<>(removed));
+        removed.forEach(this::unindex);
+        return true;
+    }
+
+    /**
+     * Returns the IDs of the users whose role in some relationship contains any of {@code keywords}, ignoring case.
+     * The first user of a relationship holds its forward name and the second user holds its reverse name.
+     *
+     * @param keywords The keywords to match against role names.
+     * @return The IDs of the matching users.
+     */
+    public Set<String> findUserIdsWithRoleContaining(Collection<String> keywords) {
+        requireNonNull(keywords);
+        return roleIndex.findUserIdsWithRoleContaining(keywords);
+    }
+
+    /**
+     * Returns the relationships between the two given users, in either direction.
+     */
+    private List<Relationship> relationshipsBetween(String firstUserId, String secondUserId) {
+        return relationshipsByPair.getOrDefault(UserPair.of(firstUserId, secondUserId), Collections.emptyList());
+    }
+
+    /**
+     * Adds {@code relationship} to the per-user and per-pair indexes.
+     */
+    private void index(Relationship relationship) {
+        String firstUserId = relationship.getFirstUserId();
+        String secondUserId = relationship.getSecondUserId();
+        relationshipsByUser.computeIfAbsent(firstUserId, id -> new ArrayList<>()).add(relationship);
+        if (!firstUserId.equals(secondUserId)) {
+            relationshipsByUser.computeIfAbsent(secondUserId, id -> new ArrayList<>()).add(relationship);
+        }
+        relationshipsByPair.computeIfAbsent(UserPair.of(firstUserId, secondUserId), pair -> new ArrayList<>())
+                .add(relationship);
+        roleIndex.add(relationship);
+    }
+
+    /**
+     * Removes {@code relationship} from the per-user and per-pair indexes.
+     */
+    private void unindex(Relationship relationship) {
+        String firstUserId = relationship.getFirstUserId();
+        String secondUserId = relationship.getSecondUserId();
+        removeFromIndex(relationshipsByUser, firstUserId, relationship);
+        if (!firstUserId.equals(secondUserId)) {
+            removeFromIndex(relationshipsByUser, secondUserId, relationship);
+        }
+        removeFromIndex(relationshipsByPair, UserPair.of(firstUserId, secondUserId), relationship);
+        roleIndex.remove(relationship);
+    }
+
+    private static <K> void removeFromIndex(Map<K, List<Relationship>> index, K key, Relationship relationship) {
+        List<Relationship> relationships = index.get(key);
+        if (relationships == null) {
+            return;
+        }
+        relationships.remove(relationship);
+        if (relationships.isEmpty()) {
+            index.remove(key);
+        }
     }
 
     @Override
     public String toString() {
         return internalList.toString();
     }
+
+    /**
+     * An unordered pair of user IDs, used as the key of the per-pair index.
+     */
+    private record UserPair(String lowerUserId, String higherUserId) {
+        static UserPair of(String firstUserId, String secondUserId) {
+            return firstUserId.compareTo(secondUserId) <= 0
+                    ? new UserPair(firstUserId, secondUserId)
+                    : new UserPair(secondUserId, firstUserId);
+        }
+    }
 }
@@ -0,0 +1,88 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+
+/**
+ * Trigram indexes over the searchable fields of a list of persons, and a dictionary of their tags.
+ * Persons are keyed by {@code Name}, which is unique within an address book.
+ * The index must be told about every person that is added, edited or removed.
+ */
+public class PersonSearchIndex {
+
+    private final Map<SearchField, TrigramIndex<Name>> indexes = new EnumMap<>(SearchField.class);
+    private final TagIndex<Name> tagIndex = new TagIndex<>();
+
+    /**
+     * Creates an empty index covering every {@code SearchField}.
+     */
+    public PersonSearchIndex() {
+        for (SearchField field : SearchField.values()) {
+            indexes.put(field, new TrigramIndex<>());
+        }
+    }
+
+    /**
+     * Adds {@code person} to the index.
+     */
+    public void add(Person person) {
+        requireNonNull(person);
+        indexes.forEach((field, index) -> index.add(person.getName(), field.getText(person)));
+        tagIndex.add(person.getName(), person.getTags());
+    }
+
+    /**
+     * Removes {@code person} from the index.
+     */
+    public void remove(Person person) {
+        requireNonNull(person);
+        indexes.forEach((field, index) -> index.remove(person.getName(), field.getText(person)));
+        tagIndex.remove(person.getName(), person.getTags());
+    }
+
+    /**
+     * Replaces the contents of the index with {@code persons}.
+     */
+    public void setPersons(List<Person> persons) {
+        requireNonNull(persons);
+        indexes.values().forEach(TrigramIndex::clear);
+        tagIndex.clear();
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns the names of the persons whose {@code field} may contain any of {@code keywords}, ignoring case.
+     * Returns an empty {@code Optional} if some keyword is too short to be looked up in the index.
+     */
+    public Optional<Set<Name>> findCandidates(SearchField field, List<String> keywords) {
+        requireNonNull(field);
+        requireNonNull(keywords);
+        TrigramIndex<Name> index = indexes.get(field);
+        Set<Name> candidates = new HashSet<>();
+        for (String keyword : keywords) {
+            Optional<Set<Name>> keywordCandidates = index.findCandidates(keyword);
+            if (keywordCandidates.isEmpty()) {
+                return Optional.empty();
+            }
+            candidates.addAll(keywordCandidates.get());
+        }
+        return Optional.of(candidates);
+    }
+
+    /**
+     * Returns the names of the persons with a tag whose name contains any of {@code keywords}, ignoring case.
+     */
+    public Set<Name> findPersonsWithTagContaining(Collection<String> keywords) {
+        return tagIndex.findKeysWithTagContaining(keywords);
+    }
+}
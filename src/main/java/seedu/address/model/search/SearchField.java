@@ -0,0 +1,43 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.Function;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSearchKeys;
+
+/**
+ * The {@code Person} fields that can be searched by substring through a {@link PersonSearchIndex}.
+ */
+public enum SearchField {
+    NAME(person -> person.getName().fullName, PersonSearchKeys::getName),
+    ADDRESS(person -> person.getAddress().value, PersonSearchKeys::getAddress),
+    EMAIL(person -> person.getEmail().value, PersonSearchKeys::getEmail),
+    PHONE(person -> person.getPhone().value, PersonSearchKeys::getPhone),
+    SOCIAL(person -> person.getSocials().toString(), PersonSearchKeys::getSocials);
+
+    private final Function<Person, String> textExtractor;
+    private final Function<PersonSearchKeys, String> searchKeyExtractor;
+
+    SearchField(Function<Person, String> textExtractor, Function<PersonSearchKeys, String> searchKeyExtractor) {
+        this.textExtractor = textExtractor;
+        this.searchKeyExtractor = searchKeyExtractor;
+    }
+
+    /**
+     * Returns the text of this field in {@code person}, as matched by the substring find commands.
+     */
+    public String getText(Person person) {
+        requireNonNull(person);
+        return textExtractor.apply(person);
+    }
+
+    /**
+     * Returns the lower-cased text of this field in {@code person}, which the person computed when it was created.
+     */
+    public String getSearchKey(Person person) {
+        requireNonNull(person);
+        return searchKeyExtractor.apply(person.getSearchKeys());
+    }
+}
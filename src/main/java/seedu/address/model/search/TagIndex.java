@@ -0,0 +1,80 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A dictionary from each distinct tag to the keys of the entries carrying that tag.
+ * Substring queries are answered by scanning the distinct tag names rather than every entry's tags.
+ *
+ * @param <K> the type of the keys identifying tagged entries.
+ */
+public class TagIndex<K> {
+
+    private final Map<Tag, Set<K>> postings = new HashMap<>();
+    private final Map<Tag, String> lowerCaseTagNames = new HashMap<>();
+
+    /**
+     * Records that the entry identified by {@code key} carries {@code tags}.
+     */
+    public void add(K key, Set<Tag> tags) {
+        requireNonNull(key);
+        requireNonNull(tags);
+        for (Tag tag : tags) {
+            postings.computeIfAbsent(tag, unused -> new HashSet<>()).add(key);
+            lowerCaseTagNames.computeIfAbsent(tag, unused -> tag.tagName.toLowerCase());
+        }
+    }
+
+    /**
+     * Removes the entry identified by {@code key}, which carried {@code tags}, from the dictionary.
+     */
+    public void remove(K key, Set<Tag> tags) {
+        requireNonNull(key);
+        requireNonNull(tags);
+        for (Tag tag : tags) {
+            Set<K> keys = postings.get(tag);
+            if (keys == null) {
+                continue;
+            }
+            keys.remove(key);
+            if (keys.isEmpty()) {
+                postings.remove(tag);
+                lowerCaseTagNames.remove(tag);
+            }
+        }
+    }
+
+    /**
+     * Removes all entries from the dictionary.
+     */
+    public void clear() {
+        postings.clear();
+        lowerCaseTagNames.clear();
+    }
+
+    /**
+     * Returns the keys of the entries carrying a tag whose name contains any of {@code keywords}, ignoring case.
+     */
+    public Set<K> findKeysWithTagContaining(Collection<String> keywords) {
+        requireNonNull(keywords);
+        List<String> lowerCaseKeywords = StringUtil.toLowerCase(keywords);
+
+        Set<K> matches = new HashSet<>();
+        for (Map.Entry<Tag, String> entry : lowerCaseTagNames.entrySet()) {
+            if (StringUtil.containsAnySubstring(entry.getValue(), lowerCaseKeywords)) {
+                matches.addAll(postings.get(entry.getKey()));
+            }
+        }
+        return matches;
+    }
+}
@@ -0,0 +1,101 @@
+package seedu.address.model.search;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * An inverted index from lower-cased trigrams to the keys of the texts that contain them.
+ * Looking up a keyword returns a superset of the keys whose text contains the keyword, ignoring case,
+ * so callers must still verify each candidate.
+ *
+ * @param <K> the type of the keys identifying indexed texts.
+ */
+public class TrigramIndex<K> {
+
+    /** Length of the character grams stored in the index. Keywords shorter than this cannot be looked up. */
+    public static final int GRAM_LENGTH = 3;
+
+    private final Map<String, Set<K>> postings = new HashMap<>();
+
+    /**
+     * Indexes {@code text} under {@code key}.
+     */
+    public void add(K key, String text) {
+        requireNonNull(key);
+        requireNonNull(text);
+        for (String gram : gramsOf(text.toLowerCase())) {
+            postings.computeIfAbsent(gram, unused -> new HashSet<>()).add(key);
+        }
+    }
+
+    /**
+     * Removes {@code text} from the index, where {@code text} is the text that was indexed under {@code key}.
+     */
+    public void remove(K key, String text) {
+        requireNonNull(key);
+        requireNonNull(text);
+        for (String gram : gramsOf(text.toLowerCase())) {
+            Set<K> keys = postings.get(gram);
+            if (keys == null) {
+                continue;
+            }
+            keys.remove(key);
+            if (keys.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    /**
+     * Removes all entries from the index.
+     */
+    public void clear() {
+        postings.clear();
+    }
+
+    /**
+     * Returns the keys whose text may contain {@code keyword}, ignoring case.
+     * Returns an empty {@code Optional} if {@code keyword} is too short to be looked up in the index,
+     * in which case every key is a candidate.
+     */
+    public Optional<Set<K>> findCandidates(String keyword) {
+        requireNonNull(keyword);
+        Set<String> keywordGrams = gramsOf(keyword.toLowerCase());
+        if (keywordGrams.isEmpty()) {
+            return Optional.empty();
+        }
+
+        List<Set<K>> postingLists = new ArrayList<>(keywordGrams.size());
+        for (String gram : keywordGrams) {
+            Set<K> keys = postings.get(gram);
+            if (keys == null) {
+                return Optional.of(new HashSet<>());
+            }
+            postingLists.add(keys);
+        }
+
+        // Intersect starting from the rarest gram so that the working set stays small
+        postingLists.sort(Comparator.comparingInt(Set::size));
+        Set<K> candidates = new HashSet<>(postingLists.get(0));
+        for (int i = 1; i < postingLists.size() && !candidates.isEmpty(); i++) {
+            candidates.retainAll(postingLists.get(i));
+        }
+        return Optional.of(candidates);
+    }
+
+    private static Set<String> gramsOf(String lowerCaseText) {
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + GRAM_LENGTH <= lowerCaseText.length(); i++) {
+            grams.add(lowerCaseText.substring(i, i + GRAM_LENGTH));
+        }
+        return grams;
+    }
+}
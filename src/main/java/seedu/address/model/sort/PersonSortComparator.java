@@ -0,0 +1,111 @@
+package seedu.address.model.sort;
+
+import static java.util.Objects.requireNonNull;
+
+import java.text.Collator;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Orders persons by one or more {@code SortField}s, in priority order.
+ * Persons passed to {@link #rank(List)} are pre-sorted by key and given an integer rank, which later comparisons
+ * use when both persons have one, instead of re-reading and re-normalizing the persons' fields. Other persons,
+ * e.g. those added after ranking, are compared by keys extracted for each comparison, and are not remembered,
+ * as the comparator stays in use for as long as the sort order does.
+ */
+public class PersonSortComparator implements Comparator<Person> {
+
+    /** Number of persons above which {@link #rank(List)} sorts keys in parallel. */
+    static final int PARALLEL_SORT_THRESHOLD = 10_000;
+
+    private final List<SortField> fields;
+    private final Collator collator;
+    private final Map<Person, Integer> ranks = new IdentityHashMap<>();
+
+    /**
+     * Creates a comparator ordering persons by {@code fields}, the first field taking priority.
+     */
+    public PersonSortComparator(List<SortField> fields) {
+        requireNonNull(fields);
+        if (fields.isEmpty()) {
+            throw new IllegalArgumentException("At least one sort field is required");
+        }
+        this.fields = List.copyOf(fields);
+        this.collator = Collator.getInstance();
+        // Secondary strength ignores case but not accents, like a case-insensitive comparison
+        this.collator.setStrength(Collator.SECONDARY);
+    }
+
+    /**
+     * Sorts {@code persons} by key up front and records each person's rank, so that later comparisons
+     * between them only compare two integers. Above {@link #PARALLEL_SORT_THRESHOLD} persons the keys
+     * are sorted with {@link Arrays#parallelSort}.
+     */
+    public void rank(List<Person> persons) {
+        requireNonNull(persons);
+        SortKey[] sortedKeys = new SortKey[persons.size()];
+        for (int i = 0; i < sortedKeys.length; i++) {
+            sortedKeys[i] = keyOf(persons.get(i));
+        }
+        if (sortedKeys.length > PARALLEL_SORT_THRESHOLD) {
+            Arrays.parallelSort(sortedKeys);
+        } else {
+            Arrays.sort(sortedKeys);
+        }
+
+        ranks.clear();
+        int rank = 0;
+        for (int i = 0; i < sortedKeys.length; i++) {
+            // Persons with equal keys share a rank, so ranks order persons exactly as their keys do
+            if (i > 0 && sortedKeys[i].compareTo(sortedKeys[i - 1]) != 0) {
+                rank++;
+            }
+            ranks.put(sortedKeys[i].person, rank);
+        }
+    }
+
+    @Override
+    public int compare(Person first, Person second) {
+        Integer firstRank = ranks.get(first);
+        Integer secondRank = ranks.get(second);
+        if (firstRank != null && secondRank != null) {
+            return Integer.compare(firstRank, secondRank);
+        }
+        return keyOf(first).compareTo(keyOf(second));
+    }
+
+    private SortKey keyOf(Person person) {
+        return new SortKey(person, extractComponents(person));
+    }
+
+    private Comparable<?>[] extractComponents(Person person) {
+        List<Comparable<?>> components = new ArrayList<>(fields.size());
+        for (int i = 0; i < fields.size(); i++) {
+            components.add(fields.get(i).getKey(person, i == 0, collator));
+        }
+        return components.toArray(new Comparable<?>[0]);
+    }
+
+    /**
+     * A person decorated with its sort key, compared field by field.
+     */
+    private record SortKey(Person person, Comparable<?>[] components) implements Comparable<SortKey> {
+        @Override
+        @SuppressWarnings("unchecked")
+        public int compareTo(SortKey other) {
+            for (int i = 0; i < components.length; i++) {
+                int result = ((Comparable<Object>) components[i]).compareTo(other.components[i]);
+                if (result != 0) {
+                    return result;
+                }
+            }
+            return 0;
+        }
+    }
+}
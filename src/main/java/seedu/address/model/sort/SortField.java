@@ -0,0 +1,71 @@
+package seedu.address.model.sort;
+
+import static java.util.Objects.requireNonNull;
+
+import java.text.Collator;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Social;
+
+/**
+ * The {@code Person} fields that the address book can be sorted by.
+ */
+public enum SortField {
+    NAME,
+    PHONE,
+    EMAIL,
+    ADDRESS,
+    TAGS,
+    SOCIALS;
+
+    /**
+     * Returns the field with the given name, ignoring case.
+     *
+     * @throws IllegalArgumentException if there is no field with the given name.
+     */
+    public static SortField fromName(String name) {
+        requireNonNull(name);
+        return valueOf(name.toUpperCase(Locale.ROOT));
+    }
+
+    /**
+     * Returns the key by which {@code person} is ordered on this field.
+     * Tags and socials are ordered by their sorted names when they are the primary field,
+     * and by how many the person has when they break ties after another field.
+     * Keys of the same field and position are mutually comparable.
+     *
+     * @param collator The collator for ordering names. It is not thread-safe, so keys are extracted on one thread.
+     */
+    Comparable<?> getKey(Person person, boolean isPrimary, Collator collator) {
+        return switch (this) {
+            case NAME -> collator.getCollationKey(person.getName().fullName);
+            case PHONE -> person.getSearchKeys().getPhone();
+            case EMAIL -> person.getSearchKeys().getEmail();
+            case ADDRESS -> person.getSearchKeys().getAddress();
+            case TAGS -> isPrimary
+                    ? joinSorted(person.getSearchKeys().getTagNames())
+                    : person.getTags().size();
+            case SOCIALS -> isPrimary
+                    ? joinSorted(lowerCaseSocials(person))
+                    : person.getSocials().size();
+        };
+    }
+
+    private static List<String> lowerCaseSocials(Person person) {
+        List<String> socials = new ArrayList<>(person.getSocials().size());
+        for (Social social : person.getSocials()) {
+            socials.add(social.value.toLowerCase());
+        }
+        return socials;
+    }
+
+    private static String joinSorted(List<String> names) {
+        List<String> sortedNames = new ArrayList<>(names);
+        Collections.sort(sortedNames);
+        return String.join(" ", sortedNames);
+    }
+}
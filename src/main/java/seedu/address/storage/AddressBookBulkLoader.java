@@ -0,0 +1,186 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Function;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Person;
+import seedu.address.model.relationship.Relationship;
+
+/**
+ * Builds an {@code AddressBook} from the adapted persons, relationships and events of a data file in two stages.
+ * First, the adapters are converted to the model and validated, in parallel once there are enough of them.
+ * Then each list is checked for duplicates in a single hash-based pass and set on the address book in one batch.
+ * <p>
+ * Adapters can be added in several batches, so that readers can hand them over as they are read.
+ * Events are converted last, as their legacy contacts are resolved against the persons.
+ */
+class AddressBookBulkLoader {
+
+    /** Number of adapters above which they are converted in parallel. */
+    static final int PARALLEL_CONVERSION_THRESHOLD = 1024;
+
+    private final List<Person> persons = new ArrayList<>();
+    private final List<Relationship> relationships = new ArrayList<>();
+    private final List<JsonAdaptedEvent> adaptedEvents = new ArrayList<>();
+
+    /**
+     * Converts and validates {@code adaptedPersons}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the first invalid person.
+     */
+    public void addPersons(List<JsonAdaptedPerson> adaptedPersons) throws IllegalValueException {
+        persons.addAll(convertAll(adaptedPersons, JsonAdaptedPerson::toModelType));
+    }
+
+    /**
+     * Converts and validates {@code adaptedRelationships}.
+     *
+     * @throws IllegalValueException if there were any data constraints violated in the first invalid relationship.
+     */
+    public void addRelationships(List<JsonAdaptedRelationship> adaptedRelationships) throws IllegalValueException {
+        relationships.addAll(convertAll(adaptedRelationships, JsonAdaptedRelationship::toModelType));
+    }
+
+    /**
+     * Keeps {@code adaptedEvents} to be converted once all persons have been added.
+     */
+    public void addEvents(List<JsonAdaptedEvent> adaptedEvents) {
+        this.adaptedEvents.addAll(adaptedEvents);
+    }
+
+    /**
+     * Returns an address book with everything added so far.
+     *
+     * @throws IllegalValueException if there are duplicates, or if there were any data constraints violated.
+     */
+    public AddressBook toAddressBook() throws IllegalValueException {
+        AddressBook addressBook = new AddressBook();
+
+        checkUnique(persons, Person::getName, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+        addressBook.setPersons(persons);
+
+        checkUnique(relationships, RelationshipKey::of, JsonSerializableAddressBook.MESSAGE_DUPLICATE_RELATIONSHIP);
+        addressBook.setRelationships(relationships);
+
+        // Persons are only read from here on, so the events can look them up concurrently
+        List<Event> events = convertAll(adaptedEvents, adaptedEvent -> adaptedEvent.toModelType(addressBook));
+        checkUnique(events, Function.identity(), JsonSerializableAddressBook.MESSAGE_DUPLICATE_EVENT);
+        addressBook.setEvents(events);
+
+        return addressBook;
+    }
+
+    private static <T> void checkUnique(List<T> items, Function<T, ?> identity, String message)
+            throws IllegalValueException {
+        Set<Object> seen = new HashSet<>();
+        for (T item : items) {
+            if (!seen.add(identity.apply(item))) {
+                throw new IllegalValueException(message);
+            }
+        }
+    }
+
+    /**
+     * Converts every adapter in {@code adapted}, keeping their order. If several are invalid, the exception of the
+     * first one is thrown, as it would be when converting them one by one.
+     */
+    private static <A, M> List<M> convertAll(List<A> adapted, Converter<A, M> converter)
+            throws IllegalValueException {
+        try {
+            return new ConversionTask<>(adapted, converter).invoke();
+        } catch (RuntimeException e) {
+            // Fork/join may rethrow the exception of another thread wrapped in a copy of it
+            for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+                if (cause instanceof ConversionException conversionException) {
+                    throw conversionException.illegalValueException;
+                }
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Converts one adapter to the model.
+     */
+    @FunctionalInterface
+    private interface Converter<A, M> {
+        M convert(A adapted) throws IllegalValueException;
+    }
+
+    /**
+     * Carries an {@code IllegalValueException} out of a {@link ConversionTask}.
+     */
+    private static class ConversionException extends RuntimeException {
+        private final IllegalValueException illegalValueException;
+
+        ConversionException(IllegalValueException illegalValueException) {
+            super(illegalValueException);
+            this.illegalValueException = illegalValueException;
+        }
+    }
+
+    /**
+     * Converts a range of adapters, splitting it in half for other threads while it is large.
+     */
+    private static class ConversionTask<A, M> extends RecursiveTask<List<M>> {
+        private final List<A> adapted;
+        private final Converter<A, M> converter;
+
+        ConversionTask(List<A> adapted, Converter<A, M> converter) {
+            this.adapted = adapted;
+            this.converter = converter;
+        }
+
+        @Override
+        protected List<M> compute() {
+            if (adapted.size() <= PARALLEL_CONVERSION_THRESHOLD) {
+                return convertSequentially();
+            }
+
+            int middle = adapted.size() / 2;
+            ConversionTask<A, M> secondHalf = new ConversionTask<>(adapted.subList(middle, adapted.size()), converter);
+            secondHalf.fork();
+            // An exception in the first half is thrown before the second half is joined, so it takes precedence
+            List<M> converted = new ArrayList<>(new ConversionTask<>(adapted.subList(0, middle), converter).compute());
+            converted.addAll(secondHalf.join());
+            return converted;
+        }
+
+        private List<M> convertSequentially() {
+            List<M> converted = new ArrayList<>(adapted.size());
+            for (A item : adapted) {
+                try {
+                    converted.add(converter.convert(item));
+                } catch (IllegalValueException e) {
+                    throw new ConversionException(e);
+                }
+            }
+            return converted;
+        }
+    }
+
+    /**
+     * Identifies a relationship the way {@link Relationship#isSameRelationship(Relationship)} does,
+     * whichever direction it is stored in.
+     */
+    private record RelationshipKey(String firstUserId, String secondUserId, String forwardName, String reverseName) {
+        static RelationshipKey of(Relationship relationship) {
+            String firstUserId = relationship.getFirstUserId();
+            String secondUserId = relationship.getSecondUserId();
+            String forwardName = relationship.getForwardName();
+            String reverseName = relationship.getReverseName();
+            int userOrder = firstUserId.compareTo(secondUserId);
+            if (userOrder > 0 || (userOrder == 0 && forwardName.compareTo(reverseName) > 0)) {
+                return new RelationshipKey(secondUserId, firstUserId, reverseName, forwardName);
+            }
+            return new RelationshipKey(firstUserId, secondUserId, forwardName, reverseName);
+        }
+    }
+}
@@ -0,0 +1,231 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.JournalSettings;
+import seedu.address.commons.core.JournalSettings.SyncPolicy;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.commons.util.StringUtil;
+
+/**
+ * An append-only file of {@link JsonAdaptedJournalRecord}s, one JSON object per line.
+ * Records are forced to disk according to the {@link SyncPolicy} of the given {@link JournalSettings}.
+ */
+class AddressBookJournal {
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookJournal.class);
+
+    private final Path filePath;
+    private final JournalSettings settings;
+
+    private FileChannel channel;
+    private ScheduledExecutorService groupCommitter;
+    private boolean hasUnsyncedRecords;
+
+    /**
+     * Creates a journal that is kept at {@code filePath}. The file is only created when the first record is appended.
+     */
+    AddressBookJournal(Path filePath, JournalSettings settings) {
+        requireNonNull(filePath);
+        requireNonNull(settings);
+        this.filePath = filePath;
+        this.settings = settings;
+    }
+
+    Path getFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the records in the journal, in the order they were appended.
+     * A last line that was only partly written, e.g. because the application was stopped while appending it,
+     * is dropped from the file.
+     *
+     * @throws DataLoadingException if any other line cannot be read, or the partly written line cannot be dropped.
+     */
+    synchronized List<JsonAdaptedJournalRecord> readRecords() throws DataLoadingException {
+        List<JsonAdaptedJournalRecord> records = new ArrayList<>();
+        if (!Files.exists(filePath)) {
+            return records;
+        }
+
+        byte[] content;
+        try {
+            content = Files.readAllBytes(filePath);
+        } catch (IOException e) {
+            throw new DataLoadingException(e);
+        }
+
+        int lineStart = 0;
+        while (lineStart < content.length) {
+            int lineEnd = indexOfNewline(content, lineStart);
+            boolean isComplete = lineEnd < content.length;
+            String line = new String(content, lineStart, lineEnd - lineStart, StandardCharsets.UTF_8);
+            try {
+                if (!line.isBlank()) {
+                    records.add(JsonUtil.fromJsonString(line, JsonAdaptedJournalRecord.class));
+                }
+            } catch (IOException e) {
+                if (isComplete) {
+                    logger.warning("Unreadable record in " + filePath + ": " + StringUtil.getDetails(e));
+                    throw new DataLoadingException(e);
+                }
+            }
+            if (!isComplete) {
+                logger.warning("Dropping partly written last record of " + filePath);
+                try {
+                    truncate(lineStart);
+                } catch (IOException e) {
+                    // The next record appended would join the partly written line and make the journal unreadable
+                    throw new DataLoadingException(e);
+                }
+                break;
+            }
+            lineStart = lineEnd + 1;
+        }
+        return records;
+    }
+
+    private static int indexOfNewline(byte[] content, int from) {
+        for (int i = from; i < content.length; i++) {
+            if (content[i] == '\n') {
+                return i;
+            }
+        }
+        return content.length;
+    }
+
+    /**
+     * Appends {@code records} to the journal, forcing them to disk if the sync policy requires it.
+     */
+    synchronized void append(List<JsonAdaptedJournalRecord> records) throws IOException {
+        if (records.isEmpty()) {
+            return;
+        }
+
+        StringBuilder lines = new StringBuilder();
+        for (JsonAdaptedJournalRecord record : records) {
+            lines.append(JsonUtil.toCompactJsonString(record)).append('\n');
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(lines.toString().getBytes(StandardCharsets.UTF_8));
+        FileChannel openChannel = openChannel();
+        while (buffer.hasRemaining()) {
+            openChannel.write(buffer);
+        }
+
+        switch (settings.getSyncPolicy()) {
+        case PER_COMMAND:
+            openChannel.force(false);
+            break;
+        case GROUP_COMMIT:
+            hasUnsyncedRecords = true;
+            startGroupCommitter();
+            break;
+        default:
+            break;
+        }
+    }
+
+    private FileChannel openChannel() throws IOException {
+        if (channel == null) {
+            FileUtil.createParentDirsOfFile(filePath);
+            channel = FileChannel.open(filePath, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                    StandardOpenOption.APPEND);
+        }
+        return channel;
+    }
+
+    private void startGroupCommitter() {
+        if (groupCommitter != null) {
+            return;
+        }
+        groupCommitter = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "address-book-journal-sync");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long interval = settings.getGroupCommitIntervalMillis();
+        groupCommitter.scheduleWithFixedDelay(this::syncQuietly, interval, interval, TimeUnit.MILLISECONDS);
+    }
+
+    private synchronized void syncQuietly() {
+        try {
+            sync();
+        } catch (IOException e) {
+            logger.warning("Failed to sync " + filePath + ": " + StringUtil.getDetails(e));
+        }
+    }
+
+    /**
+     * Forces any records appended since the last sync to disk.
+     */
+    synchronized void sync() throws IOException {
+        if (channel != null && hasUnsyncedRecords) {
+            channel.force(false);
+        }
+        hasUnsyncedRecords = false;
+    }
+
+    /**
+     * Returns the size of the journal in bytes.
+     */
+    synchronized long size() throws IOException {
+        if (channel != null) {
+            return channel.size();
+        }
+        return Files.exists(filePath) ? Files.size(filePath) : 0;
+    }
+
+    /**
+     * Removes every record from the journal.
+     */
+    synchronized void clear() throws IOException {
+        truncate(0);
+    }
+
+    private void truncate(long size) throws IOException {
+        if (channel != null) {
+            channel.truncate(size);
+            channel.force(false);
+            hasUnsyncedRecords = false;
+        } else if (Files.exists(filePath)) {
+            try (FileChannel fileChannel = FileChannel.open(filePath, StandardOpenOption.WRITE)) {
+                fileChannel.truncate(size);
+                fileChannel.force(false);
+            }
+        }
+    }
+
+    /**
+     * Forces any remaining records to disk and closes the journal file.
+     */
+    synchronized void close() throws IOException {
+        if (groupCommitter != null) {
+            groupCommitter.shutdownNow();
+            groupCommitter = null;
+        }
+        if (channel != null) {
+            channel.force(false);
+            channel.close();
+            channel = null;
+        }
+        hasUnsyncedRecords = false;
+    }
+}
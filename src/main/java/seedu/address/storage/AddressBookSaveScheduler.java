@@ -0,0 +1,128 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Saves the address book on a background thread, so that commands do not wait for the data file to be written.
+ * Each save works on a snapshot taken when it is scheduled. Saves scheduled while an earlier one is still
+ * waiting to run are merged into a single write of the latest snapshot.
+ */
+public class AddressBookSaveScheduler {
+
+    private static final Logger logger = LogsCenter.getLogger(AddressBookSaveScheduler.class);
+
+    private final AddressBookStorage storage;
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "address-book-saver");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicReference<ReadOnlyAddressBook> pendingSnapshot = new AtomicReference<>();
+
+    private volatile Consumer<IOException> failureHandler = exception -> { };
+    // Only accessed on the saving thread
+    private IOException lastFailure;
+
+    /**
+     * Creates a scheduler that saves to {@code storage}.
+     */
+    public AddressBookSaveScheduler(AddressBookStorage storage) {
+        requireNonNull(storage);
+        this.storage = storage;
+    }
+
+    /**
+     * Sets the handler that is called, on the saving thread, when a background save fails.
+     */
+    public void setFailureHandler(Consumer<IOException> failureHandler) {
+        requireNonNull(failureHandler);
+        this.failureHandler = failureHandler;
+    }
+
+    /**
+     * Takes a snapshot of {@code addressBook} and schedules it to be saved in the background.
+     * Must be called on the thread that modifies {@code addressBook}.
+     */
+    public void scheduleSave(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        ReadOnlyAddressBook snapshot = AddressBookSnapshot.of(addressBook);
+        // Only the request that finds nothing pending needs a task; the others are picked up by that task
+        if (pendingSnapshot.getAndSet(snapshot) == null) {
+            executor.execute(this::saveInBackground);
+        }
+    }
+
+    /**
+     * Waits until every scheduled save has been written.
+     *
+     * @throws IOException if the last scheduled save failed, or the wait is interrupted.
+     */
+    public void flush() throws IOException {
+        try {
+            executor.submit(() -> {
+                savePending();
+                if (lastFailure != null) {
+                    throw lastFailure;
+                }
+                return null;
+            }).get();
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException ioe) {
+                throw ioe;
+            }
+            throw new IOException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for the address book to be saved", e);
+        }
+    }
+
+    /**
+     * Writes any scheduled save and stops the saving thread.
+     *
+     * @throws IOException if the last scheduled save failed.
+     */
+    public void shutdown() throws IOException {
+        try {
+            flush();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private void saveInBackground() {
+        try {
+            savePending();
+        } catch (IOException e) {
+            logger.warning("Failed to save address book " + StringUtil.getDetails(e));
+            failureHandler.accept(e);
+        }
+    }
+
+    private void savePending() throws IOException {
+        ReadOnlyAddressBook snapshot = pendingSnapshot.getAndSet(null);
+        if (snapshot == null) {
+            return;
+        }
+        try {
+            storage.saveAddressBook(snapshot);
+            lastFailure = null;
+        } catch (IOException e) {
+            lastFailure = e;
+            throw e;
+        }
+    }
+}
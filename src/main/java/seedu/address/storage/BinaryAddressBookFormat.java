@@ -0,0 +1,32 @@
+package seedu.address.storage;
+
+/**
+ * Constants of the binary address book data file format.
+ * <p>
+ * A file starts with {@link #MAGIC} and {@link #VERSION}, followed by its sections. After the sections comes the
+ * section table: the number of sections, then the id, offset and length in bytes of each. The file ends with the
+ * offset of the section table and {@link #MAGIC} again, so a file that was not fully written is detected.
+ * <p>
+ * Strings are stored as their length in bytes followed by their UTF-8 bytes, or as {@link #NULL_STRING_LENGTH}.
+ * Tag and relationship names are stored once in the {@link #SECTION_STRINGS} dictionary and referred to by their
+ * index in it.
+ */
+final class BinaryAddressBookFormat {
+
+    /** "INCB" in ASCII. */
+    static final int MAGIC = 0x494E4342;
+    static final int VERSION = 1;
+
+    static final int SECTION_STRINGS = 1;
+    static final int SECTION_PERSONS = 2;
+    static final int SECTION_RELATIONSHIPS = 3;
+    static final int SECTION_EVENTS = 4;
+
+    /** Length written in place of a string that is null. */
+    static final int NULL_STRING_LENGTH = -1;
+
+    /** Size of the offset of the section table and the trailing magic number. */
+    static final int FOOTER_SIZE = Long.BYTES + Integer.BYTES;
+
+    private BinaryAddressBookFormat() {} // prevents instantiation
+}
@@ -0,0 +1,251 @@
+package seedu.address.storage;
+
+import static seedu.address.storage.BinaryAddressBookFormat.FOOTER_SIZE;
+import static seedu.address.storage.BinaryAddressBookFormat.MAGIC;
+import static seedu.address.storage.BinaryAddressBookFormat.NULL_STRING_LENGTH;
+import static seedu.address.storage.BinaryAddressBookFormat.SECTION_EVENTS;
+import static seedu.address.storage.BinaryAddressBookFormat.SECTION_PERSONS;
+import static seedu.address.storage.BinaryAddressBookFormat.SECTION_RELATIONSHIPS;
+import static seedu.address.storage.BinaryAddressBookFormat.SECTION_STRINGS;
+import static seedu.address.storage.BinaryAddressBookFormat.VERSION;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+
+/**
+ * Reads an address book in the format described by {@link BinaryAddressBookFormat} from a memory-mapped file.
+ * The decoded fields are handed to an {@link AddressBookBulkLoader}, so they go through the same checks as the
+ * JSON data file.
+ *
+ * On Windows the file is read into memory instead, as a mapped file cannot be replaced until the mapping is
+ * garbage collected, which would fail the next save.
+ */
+class BinaryAddressBookReader {
+
+    public static final String MESSAGE_NOT_BINARY_FORMAT = "Data file is not a binary address book.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION =
+            "Data file format version %d is newer than this version of the app supports.";
+    public static final String MESSAGE_CORRUPTED = "Data file is incomplete or corrupted.";
+    public static final String MESSAGE_TOO_LARGE = "Data file is %d bytes, more than the %d bytes this app can read.";
+
+    // Buffers are indexed by int, and some JVMs cannot allocate arrays of exactly Integer.MAX_VALUE bytes
+    static final long MAX_FILE_SIZE = Integer.MAX_VALUE - 8;
+
+    private static final boolean IS_MAPPING_SUPPORTED = !System.getProperty("os.name", "").startsWith("Windows");
+
+    private final Map<Integer, ByteBuffer> sections = new HashMap<>();
+    private final AddressBookBulkLoader loader = new AddressBookBulkLoader();
+    private String[] dictionary = new String[0];
+
+    /**
+     * Reads the address book in the data file at {@code filePath}. A reader can only read one file.
+     *
+     * @throws IOException if the file cannot be read or is not in the binary format.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public AddressBook read(Path filePath) throws IOException, IllegalValueException {
+        ByteBuffer file;
+        try (FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size > MAX_FILE_SIZE) {
+                throw new IOException(String.format(MESSAGE_TOO_LARGE, size, MAX_FILE_SIZE));
+            }
+            file = IS_MAPPING_SUPPORTED
+                    ? channel.map(FileChannel.MapMode.READ_ONLY, 0, size)
+                    : readFully(channel, (int) size);
+        }
+
+        try {
+            readSectionTable(file);
+            readDictionary();
+            readList(SECTION_PERSONS, this::readPerson, loader::addPersons);
+            readList(SECTION_RELATIONSHIPS, this::readRelationship, loader::addRelationships);
+            readList(SECTION_EVENTS, this::readEvent, loader::addEvents);
+        } catch (BufferUnderflowException e) {
+            throw new IOException(MESSAGE_CORRUPTED, e);
+        }
+        return loader.toAddressBook();
+    }
+
+    private static ByteBuffer readFully(FileChannel channel, int size) throws IOException {
+        ByteBuffer file = ByteBuffer.allocate(size);
+        while (file.hasRemaining()) {
+            if (channel.read(file) < 0) {
+                throw new IOException(MESSAGE_CORRUPTED);
+            }
+        }
+        return file.flip();
+    }
+
+    private void readSectionTable(ByteBuffer file) throws IOException {
+        if (file.limit() < 2 * Integer.BYTES + FOOTER_SIZE || file.getInt(0) != MAGIC) {
+            throw new IOException(MESSAGE_NOT_BINARY_FORMAT);
+        }
+        int version = file.getInt(Integer.BYTES);
+        if (version > VERSION) {
+            throw new IOException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+        if (file.getInt(file.limit() - Integer.BYTES) != MAGIC) {
+            throw new IOException(MESSAGE_CORRUPTED);
+        }
+
+        long sectionTableOffset = file.getLong(file.limit() - FOOTER_SIZE);
+        ByteBuffer sectionTable = slice(file, sectionTableOffset, file.limit() - FOOTER_SIZE - sectionTableOffset);
+        int sectionCount = sectionTable.getInt();
+        for (int i = 0; i < sectionCount; i++) {
+            int sectionId = sectionTable.getInt();
+            long offset = sectionTable.getLong();
+            long length = sectionTable.getLong();
+            // Sections this version does not know of are left for newer versions
+            sections.put(sectionId, slice(file, offset, length));
+        }
+    }
+
+    private static ByteBuffer slice(ByteBuffer file, long offset, long length) throws IOException {
+        if (offset < 0 || length < 0 || offset + length > file.limit()) {
+            throw new IOException(MESSAGE_CORRUPTED);
+        }
+        return file.slice((int) offset, (int) length);
+    }
+
+    private void readDictionary() throws IOException {
+        ByteBuffer section = sections.get(SECTION_STRINGS);
+        if (section == null) {
+            return;
+        }
+        dictionary = new String[readCount(section)];
+        for (int i = 0; i < dictionary.length; i++) {
+            dictionary[i] = readString(section);
+        }
+    }
+
+    private <T> void readList(int sectionId, ElementReader<T> elementReader, BatchHandler<T> handler)
+            throws IOException, IllegalValueException {
+        ByteBuffer section = sections.get(sectionId);
+        if (section == null) {
+            return;
+        }
+        int count = readCount(section);
+        List<T> batch = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            batch.add(elementReader.read(section));
+            if (batch.size() == JsonAddressBookStreamReader.BATCH_SIZE) {
+                handler.handle(batch);
+                batch = new ArrayList<>();
+            }
+        }
+        handler.handle(batch);
+    }
+
+    private JsonAdaptedPerson readPerson(ByteBuffer section) throws IOException {
+        String id = readString(section);
+        String name = readString(section);
+        String phone = readString(section);
+        String email = readString(section);
+        String address = readString(section);
+        List<String> socials = readStrings(section);
+        List<JsonAdaptedTag> tags = readTags(section);
+
+        return new JsonAdaptedPerson(name, phone, email, address, socials, tags, id);
+    }
+
+    private JsonAdaptedRelationship readRelationship(ByteBuffer section) throws IOException {
+        String user1Id = readString(section);
+        String user2Id = readString(section);
+        String forwardName = readDictionaryString(section);
+        String reverseName = readDictionaryString(section);
+        List<JsonAdaptedTag> tags = readTags(section);
+
+        return new JsonAdaptedRelationship(user1Id, user2Id, forwardName, reverseName, tags);
+    }
+
+    private JsonAdaptedEvent readEvent(ByteBuffer section) throws IOException {
+        String id = readString(section);
+        String name = readString(section);
+        String date = readString(section);
+        String location = readString(section);
+        String description = readString(section);
+        List<JsonAdaptedTag> tags = readTags(section);
+        List<String> contactIds = readStrings(section);
+
+        return new JsonAdaptedEvent(id, name, date, location, description, tags, contactIds, null);
+    }
+
+    private List<JsonAdaptedTag> readTags(ByteBuffer section) throws IOException {
+        int count = readCount(section);
+        List<JsonAdaptedTag> tags = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            tags.add(new JsonAdaptedTag(readDictionaryString(section)));
+        }
+        return tags;
+    }
+
+    private String readDictionaryString(ByteBuffer section) throws IOException {
+        int index = section.getInt();
+        if (index < 0 || index >= dictionary.length) {
+            throw new IOException(MESSAGE_CORRUPTED);
+        }
+        return dictionary[index];
+    }
+
+    private static List<String> readStrings(ByteBuffer section) throws IOException {
+        int count = readCount(section);
+        List<String> strings = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            strings.add(readString(section));
+        }
+        return strings;
+    }
+
+    private static String readString(ByteBuffer section) throws IOException {
+        int length = section.getInt();
+        if (length == NULL_STRING_LENGTH) {
+            return null;
+        }
+        if (length < 0 || length > section.remaining()) {
+            throw new IOException(MESSAGE_CORRUPTED);
+        }
+        byte[] bytes = new byte[length];
+        section.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Reads the number of entries that follow, each of which takes up at least one int.
+     */
+    private static int readCount(ByteBuffer section) throws IOException {
+        int count = section.getInt();
+        if (count < 0 || count > section.remaining() / Integer.BYTES) {
+            throw new IOException(MESSAGE_CORRUPTED);
+        }
+        return count;
+    }
+
+    /**
+     * Reads one element of a list section.
+     */
+    @FunctionalInterface
+    private interface ElementReader<T> {
+        T read(ByteBuffer section) throws IOException;
+    }
+
+    /**
+     * Hands a batch of elements read from a list section to the loader.
+     */
+    @FunctionalInterface
+    private interface BatchHandler<T> {
+        void handle(List<T> batch) throws IllegalValueException;
+    }
+}
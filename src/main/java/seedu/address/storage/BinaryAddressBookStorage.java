@@ -0,0 +1,115 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * A class to access AddressBook data stored in the binary format described by {@link BinaryAddressBookFormat}.
+ * The data file is kept next to the JSON data file, with the {@link #BINARY_FILE_EXTENSION} extension instead.
+ * The JSON data file is imported if there is no binary data file yet, and other files are read and written as JSON.
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final String BINARY_FILE_EXTENSION = ".bin";
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private final Path filePath;
+    private final Path jsonFilePath;
+    private final JsonAddressBookStorage jsonStorage;
+
+    /**
+     * Creates a storage that keeps its data file next to the JSON data file at {@code jsonFilePath}.
+     */
+    public BinaryAddressBookStorage(Path jsonFilePath) {
+        requireNonNull(jsonFilePath);
+        this.jsonFilePath = jsonFilePath;
+        this.filePath = getBinaryFilePath(jsonFilePath);
+        this.jsonStorage = new JsonAddressBookStorage(jsonFilePath);
+    }
+
+    /**
+     * Returns the path of the binary data file kept for the JSON data file at {@code jsonFilePath}.
+     */
+    public static Path getBinaryFilePath(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        int extensionStart = fileName.lastIndexOf('.');
+        String baseName = extensionStart > 0 ? fileName.substring(0, extensionStart) : fileName;
+        return jsonFilePath.resolveSibling(baseName + BINARY_FILE_EXTENSION);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        if (!Files.exists(filePath)) {
+            logger.info("Binary data file " + filePath + " not found, importing " + jsonFilePath);
+            return jsonStorage.readAddressBook();
+        }
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}. Files other than this storage's binary data file are read as JSON.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        if (!filePath.equals(this.filePath)) {
+            return jsonStorage.readAddressBook(filePath);
+        }
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            return Optional.of(new BinaryAddressBookReader().read(filePath));
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}. Files other than this storage's binary data file
+     * are written as JSON.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        if (!filePath.equals(this.filePath)) {
+            jsonStorage.saveAddressBook(addressBook, filePath);
+            return;
+        }
+
+        FileUtil.writeToFileAtomically(filePath, out -> new BinaryAddressBookWriter().write(addressBook, out));
+    }
+}
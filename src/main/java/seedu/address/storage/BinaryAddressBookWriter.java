@@ -0,0 +1,169 @@
+package seedu.address.storage;
+
+import static seedu.address.storage.BinaryAddressBookFormat.MAGIC;
+import static seedu.address.storage.BinaryAddressBookFormat.SECTION_EVENTS;
+import static seedu.address.storage.BinaryAddressBookFormat.SECTION_PERSONS;
+import static seedu.address.storage.BinaryAddressBookFormat.SECTION_RELATIONSHIPS;
+import static seedu.address.storage.BinaryAddressBookFormat.SECTION_STRINGS;
+import static seedu.address.storage.BinaryAddressBookFormat.VERSION;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Social;
+import seedu.address.model.relationship.Relationship;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Writes an address book in the format described by {@link BinaryAddressBookFormat}.
+ */
+class BinaryAddressBookWriter {
+
+    private final Map<String, Integer> dictionary = new LinkedHashMap<>();
+    private final List<Section> sectionTable = new ArrayList<>();
+
+    /**
+     * Writes {@code addressBook} to {@code out}, which is flushed but not closed. A writer can only write once.
+     */
+    public void write(ReadOnlyAddressBook addressBook, OutputStream out) throws IOException {
+        buildDictionary(addressBook);
+
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+        data.writeInt(MAGIC);
+        data.writeInt(VERSION);
+
+        writeSection(data, SECTION_STRINGS, () -> {
+            data.writeInt(dictionary.size());
+            for (String string : dictionary.keySet()) {
+                writeString(data, string);
+            }
+        });
+        writeSection(data, SECTION_PERSONS, () -> {
+            data.writeInt(addressBook.getPersonList().size());
+            for (Person person : addressBook.getPersonList()) {
+                writePerson(data, person);
+            }
+        });
+        writeSection(data, SECTION_RELATIONSHIPS, () -> {
+            data.writeInt(addressBook.getRelationshipList().size());
+            for (Relationship relationship : addressBook.getRelationshipList()) {
+                writeRelationship(data, relationship);
+            }
+        });
+        writeSection(data, SECTION_EVENTS, () -> {
+            data.writeInt(addressBook.getEventList().size());
+            for (Event event : addressBook.getEventList()) {
+                writeEvent(data, event);
+            }
+        });
+
+        long sectionTableOffset = data.size();
+        data.writeInt(sectionTable.size());
+        for (Section section : sectionTable) {
+            data.writeInt(section.id());
+            data.writeLong(section.offset());
+            data.writeLong(section.length());
+        }
+        data.writeLong(sectionTableOffset);
+        data.writeInt(MAGIC);
+        data.flush();
+    }
+
+    private void buildDictionary(ReadOnlyAddressBook addressBook) {
+        for (Person person : addressBook.getPersonList()) {
+            addTagsToDictionary(person.getTags());
+        }
+        for (Relationship relationship : addressBook.getRelationshipList()) {
+            dictionary.putIfAbsent(relationship.getForwardName(), dictionary.size());
+            dictionary.putIfAbsent(relationship.getReverseName(), dictionary.size());
+            addTagsToDictionary(relationship.getTags());
+        }
+        for (Event event : addressBook.getEventList()) {
+            addTagsToDictionary(event.getTags());
+        }
+    }
+
+    private void addTagsToDictionary(Collection<Tag> tags) {
+        for (Tag tag : tags) {
+            dictionary.putIfAbsent(tag.tagName, dictionary.size());
+        }
+    }
+
+    private void writeSection(DataOutputStream data, int sectionId, SectionContent content) throws IOException {
+        long offset = data.size();
+        content.write();
+        sectionTable.add(new Section(sectionId, offset, data.size() - offset));
+    }
+
+    private void writePerson(DataOutputStream data, Person person) throws IOException {
+        writeString(data, person.getId());
+        writeString(data, person.getName().fullName);
+        writeString(data, person.getPhone().value);
+        writeString(data, person.getEmail().value);
+        writeString(data, person.getAddress().value);
+        data.writeInt(person.getSocials().size());
+        for (Social social : person.getSocials()) {
+            writeString(data, social.value);
+        }
+        writeTags(data, person.getTags());
+    }
+
+    private void writeRelationship(DataOutputStream data, Relationship relationship) throws IOException {
+        writeString(data, relationship.getFirstUserId());
+        writeString(data, relationship.getSecondUserId());
+        data.writeInt(dictionary.get(relationship.getForwardName()));
+        data.writeInt(dictionary.get(relationship.getReverseName()));
+        writeTags(data, relationship.getTags());
+    }
+
+    private void writeEvent(DataOutputStream data, Event event) throws IOException {
+        writeString(data, event.getId());
+        writeString(data, event.getName());
+        writeString(data, event.getDate());
+        writeString(data, event.getLocation());
+        writeString(data, event.getDescription());
+        writeTags(data, event.getTags());
+        data.writeInt(event.getContactIds().size());
+        for (String contactId : event.getContactIds()) {
+            writeString(data, contactId);
+        }
+    }
+
+    private void writeTags(DataOutputStream data, Collection<Tag> tags) throws IOException {
+        data.writeInt(tags.size());
+        for (Tag tag : tags) {
+            data.writeInt(dictionary.get(tag.tagName));
+        }
+    }
+
+    private static void writeString(DataOutputStream data, String string) throws IOException {
+        if (string == null) {
+            data.writeInt(BinaryAddressBookFormat.NULL_STRING_LENGTH);
+            return;
+        }
+        byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+        data.writeInt(bytes.length);
+        data.write(bytes);
+    }
+
+    private record Section(int id, long offset, long length) {}
+
+    /**
+     * Writes the content of one section.
+     */
+    @FunctionalInterface
+    private interface SectionContent {
+        void write() throws IOException;
+    }
+}
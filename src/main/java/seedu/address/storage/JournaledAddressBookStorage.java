@@ -0,0 +1,338 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.JournalSettings;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.AddressBookChangeLog;
+import seedu.address.model.AddressBookChangeLog.Edit;
+import seedu.address.model.AddressBookSnapshot;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.model.relationship.Relationship;
+import seedu.address.storage.JsonAdaptedJournalRecord.Target;
+
+/**
+ * A class to access AddressBook data stored as a json data file together with a journal of the changes made since
+ * the data file was last written. Each save only appends the persons, relationships and events that changed to the
+ * journal. The data file is rewritten, and the journal emptied, when the journal grows past the size threshold or
+ * the data file is older than the compaction interval in the given {@link JournalSettings}.
+ *
+ * The changes are read from the change log of the address book being saved, in time proportional to the number
+ * of changes. Only when the log cannot tell, e.g. for the first save of a different address book than the one
+ * that was loaded, are the lists compared with the stored ones.
+ */
+public class JournaledAddressBookStorage implements AddressBookStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+
+    private static final Logger logger = LogsCenter.getLogger(JournaledAddressBookStorage.class);
+
+    private final Path filePath;
+    private final JournalSettings settings;
+    private final AddressBookJournal journal;
+    private final JsonAddressBookStorage otherFileStorage;
+
+    // The address book as it is currently stored, or null if it is not known and the next save must rewrite it
+    private AddressBookSnapshot stored;
+    private long lastSequence;
+    private long lastCompactionNanos;
+
+    /**
+     * Creates a storage that keeps the data file at {@code filePath} and its journal next to it.
+     */
+    public JournaledAddressBookStorage(Path filePath, JournalSettings settings) {
+        requireNonNull(filePath);
+        requireNonNull(settings);
+        this.filePath = filePath;
+        this.settings = settings;
+        this.journal = new AddressBookJournal(getJournalFilePath(filePath), settings);
+        this.otherFileStorage = new JsonAddressBookStorage(filePath);
+    }
+
+    /**
+     * Returns the path of the journal kept for the data file at {@code filePath}.
+     */
+    public static Path getJournalFilePath(Path filePath) {
+        return Paths.get(filePath.toString() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}. Data files other than this storage's own are read without a journal.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data or replaying the journal failed.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+        if (!filePath.equals(this.filePath)) {
+            return otherFileStorage.readAddressBook(filePath);
+        }
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try {
+            JsonAddressBookStreamReader reader = new JsonAddressBookStreamReader();
+            AddressBook addressBook = reader.read(filePath);
+            lastSequence = replayJournal(addressBook, reader.getJournalSequence(), journal.readRecords());
+            logger.fine("Replayed " + (lastSequence - reader.getJournalSequence()) + " journal records onto "
+                    + filePath);
+            stored = AddressBookSnapshot.of(addressBook);
+            lastCompactionNanos = System.nanoTime();
+            return Optional.of(addressBook);
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + " or its journal: " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    /**
+     * Applies the records after {@code journalSequence} to {@code addressBook}.
+     *
+     * @return the sequence number of the last record applied.
+     * @throws IllegalValueException if a record does not fit the data in {@code addressBook}.
+     */
+    private static long replayJournal(AddressBook addressBook, long journalSequence,
+            List<JsonAdaptedJournalRecord> records) throws IllegalValueException {
+        List<Person> persons = new ArrayList<>(addressBook.getPersonList());
+        List<Relationship> relationships = new ArrayList<>(addressBook.getRelationshipList());
+        List<Event> events = new ArrayList<>(addressBook.getEventList());
+        long replayedSequence = journalSequence;
+        for (JsonAdaptedJournalRecord record : records) {
+            if (record.getSequence() <= replayedSequence) {
+                continue;
+            }
+            record.applyTo(persons, relationships, events, addressBook);
+            replayedSequence = record.getSequence();
+        }
+        if (replayedSequence == journalSequence) {
+            return replayedSequence;
+        }
+
+        try {
+            addressBook.setPersons(persons);
+        } catch (DuplicatePersonException e) {
+            throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+        }
+        addressBook.setRelationships(relationships);
+        addressBook.setEvents(events);
+        return replayedSequence;
+    }
+
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        requireNonNull(addressBook);
+        AddressBookSnapshot snapshot = AddressBookSnapshot.of(addressBook);
+        if (stored == null || isCompactionDue()) {
+            compact(snapshot);
+            return;
+        }
+
+        Optional<List<JsonAdaptedJournalRecord>> records = getLoggedChanges(snapshot);
+        if (records.isEmpty()) {
+            records = getChangesByComparison(snapshot);
+        }
+
+        int size = snapshot.getPersonList().size() + snapshot.getRelationshipList().size()
+                + snapshot.getEventList().size();
+        if (records.isEmpty() || records.get().size() > size) {
+            // Reordered lists cannot be journaled, and changes to most of the address book are cheaper to rewrite
+            compact(snapshot);
+            return;
+        }
+
+        try {
+            journal.append(records.get());
+        } catch (IOException e) {
+            // Part of the records may have been written, so the journal can only be trusted again after a rewrite
+            stored = null;
+            throw e;
+        }
+        lastSequence += records.get().size();
+        stored = snapshot;
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Data files other than this storage's own are written in full, without a journal.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(filePath);
+        if (filePath.equals(this.filePath)) {
+            saveAddressBook(addressBook);
+        } else {
+            otherFileStorage.saveAddressBook(addressBook, filePath);
+        }
+    }
+
+    /**
+     * Forces every journal record written so far to disk and releases the journal file.
+     */
+    public synchronized void close() throws IOException {
+        journal.close();
+    }
+
+    private boolean isCompactionDue() throws IOException {
+        long elapsedSeconds = TimeUnit.NANOSECONDS.toSeconds(System.nanoTime() - lastCompactionNanos);
+        return journal.size() >= settings.getCompactionThresholdBytes()
+                || elapsedSeconds >= settings.getCompactionIntervalSeconds();
+    }
+
+    /**
+     * Rewrites the data file with the whole of {@code addressBook} and empties the journal.
+     */
+    private void compact(AddressBookSnapshot snapshot) throws IOException {
+        // Records diffed against the old stored state must not follow the new data file, so until both the data
+        // file and the journal have been rewritten, the next save has to rewrite them again
+        stored = null;
+        // The records up to lastSequence are skipped on load should the journal not be emptied after this
+        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(snapshot, lastSequence), filePath, true);
+        journal.clear();
+        stored = snapshot;
+        lastCompactionNanos = System.nanoTime();
+    }
+
+    /**
+     * Returns the records for the edits logged between the stored snapshot and {@code snapshot},
+     * or an empty {@code Optional} if the change log cannot tell what they are.
+     */
+    private Optional<List<JsonAdaptedJournalRecord>> getLoggedChanges(AddressBookSnapshot snapshot) {
+        Optional<AddressBookChangeLog> storedPosition = stored.getChangeLogPosition();
+        Optional<AddressBookChangeLog> position = snapshot.getChangeLogPosition();
+        if (storedPosition.isEmpty() || position.isEmpty()) {
+            return Optional.empty();
+        }
+        return storedPosition.get().getEditsUntil(position.get()).map(edits -> {
+            List<JsonAdaptedJournalRecord> records = new ArrayList<>(edits.size());
+            for (Edit edit : edits) {
+                records.add(toRecord(nextSequence(records), edit));
+            }
+            return records;
+        });
+    }
+
+    private static JsonAdaptedJournalRecord toRecord(long sequence, Edit edit) {
+        Target target = switch (edit.list()) {
+            case PERSONS -> Target.PERSON;
+            case RELATIONSHIPS -> Target.RELATIONSHIP;
+            case EVENTS -> Target.EVENT;
+        };
+        if (!edit.isInsertion()) {
+            return JsonAdaptedJournalRecord.remove(sequence, target, edit.index());
+        }
+        return switch (target) {
+            case PERSON -> JsonAdaptedJournalRecord.insert(sequence, edit.index(), (Person) edit.item());
+            case RELATIONSHIP -> JsonAdaptedJournalRecord.insert(sequence, edit.index(), (Relationship) edit.item());
+            case EVENT -> JsonAdaptedJournalRecord.insert(sequence, edit.index(), (Event) edit.item());
+        };
+    }
+
+    /**
+     * Returns the records that turn the stored snapshot into {@code snapshot}, found by comparing their lists,
+     * or an empty {@code Optional} if items kept from the stored snapshot were reordered.
+     * Persons, relationships and events are replaced rather than changed, so an unchanged one is the same object.
+     */
+    private Optional<List<JsonAdaptedJournalRecord>> getChangesByComparison(AddressBookSnapshot snapshot) {
+        List<JsonAdaptedJournalRecord> records = new ArrayList<>();
+        boolean isJournalable = addChanges(records, Target.PERSON, stored.getPersonList(),
+                snapshot.getPersonList(), JsonAdaptedJournalRecord::insert)
+                && addChanges(records, Target.RELATIONSHIP, stored.getRelationshipList(),
+                        snapshot.getRelationshipList(), JsonAdaptedJournalRecord::insert)
+                && addChanges(records, Target.EVENT, stored.getEventList(), snapshot.getEventList(),
+                        JsonAdaptedJournalRecord::insert);
+        return isJournalable ? Optional.of(records) : Optional.empty();
+    }
+
+    private static <T> Set<T> newIdentitySet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    /**
+     * Adds records that turn {@code stored} into {@code current} to {@code records}: a removal for every stored item
+     * that is no longer current, then an insertion for every current item that was not stored. Items are matched
+     * by reference.
+     *
+     * @return false if items kept from {@code stored} were reordered, which these records cannot describe.
+     */
+    private <T> boolean addChanges(List<JsonAdaptedJournalRecord> records, Target target, List<T> stored,
+            List<T> current, InsertRecordFactory<T> insertRecord) {
+        Set<T> currentItems = newIdentitySet();
+        currentItems.addAll(current);
+        Set<T> storedItems = newIdentitySet();
+        storedItems.addAll(stored);
+
+        // Removing from the back keeps the positions of the earlier removals valid
+        List<T> kept = new ArrayList<>();
+        for (int i = stored.size() - 1; i >= 0; i--) {
+            if (currentItems.contains(stored.get(i))) {
+                kept.add(stored.get(i));
+            } else {
+                records.add(JsonAdaptedJournalRecord.remove(nextSequence(records), target, i));
+            }
+        }
+        Collections.reverse(kept);
+
+        int keptIndex = 0;
+        for (int i = 0; i < current.size(); i++) {
+            T item = current.get(i);
+            if (!storedItems.contains(item)) {
+                records.add(insertRecord.create(nextSequence(records), i, item));
+                continue;
+            }
+            if (kept.get(keptIndex++) != item) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private long nextSequence(List<JsonAdaptedJournalRecord> records) {
+        return lastSequence + records.size() + 1;
+    }
+
+    /**
+     * Creates the record that inserts an item of type {@code T}.
+     */
+    @FunctionalInterface
+    private interface InsertRecordFactory<T> {
+        JsonAdaptedJournalRecord create(long sequence, int index, T item);
+    }
+}
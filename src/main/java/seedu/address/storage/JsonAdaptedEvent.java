@@ -3,20 +3,24 @@ package seedu.address.storage;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
 import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.event.Event;
 import seedu.address.model.person.Person;
-import seedu.address.model.person.UniquePersonList;
 import seedu.address.model.tag.Tag;
 
 /**
  * Jackson-friendly version of {@link Event}.
+ * Contacts are stored as person IDs. Data files written by older versions embed a full person for each contact
+ * instead; these are still read, and are resolved to persons in the address book by name.
  */
 class JsonAdaptedEvent {
 
@@ -28,6 +32,8 @@ class JsonAdaptedEvent {
     private final String location;
     private final String description;
     private final List<JsonAdaptedTag> tags = new ArrayList<>();
+    private final List<String> contactIds = new ArrayList<>();
+    @JsonInclude(JsonInclude.Include.NON_EMPTY)
     private final List<JsonAdaptedPerson> contacts = new ArrayList<>();
 
     /**
@@ -41,6 +47,7 @@ class JsonAdaptedEvent {
             @JsonProperty("location") String location,
             @JsonProperty("description") String description,
             @JsonProperty("tags") List<JsonAdaptedTag> tags,
+            @JsonProperty("contactIds") List<String> contactIds,
             @JsonProperty("contacts") List<JsonAdaptedPerson> contacts) {
         this.id = id;
         this.name = name;
@@ -50,6 +57,9 @@ class JsonAdaptedEvent {
         if (tags != null) {
             this.tags.addAll(tags);
         }
+        if (contactIds != null) {
+            this.contactIds.addAll(contactIds);
+        }
         if (contacts != null) {
             this.contacts.addAll(contacts);
         }
@@ -65,15 +75,16 @@ class JsonAdaptedEvent {
         this.location = source.getLocation();
         this.description = source.getDescription();
         this.tags.addAll(source.getTags().stream().map(JsonAdaptedTag::new).toList());
-        this.contacts.addAll(source.getContacts().stream().map(JsonAdaptedPerson::new).toList());
+        this.contactIds.addAll(source.getContactIds());
     }
 
     /**
      * Converts this Jackson-friendly adapted event object into the model's {@code Event} object.
+     * Contacts embedded by older versions are resolved to the person with the same name in {@code addressBook}.
      *
      * @throws IllegalValueException if there were any data constraints violated in the adapted event.
      */
-    public Event toModelType() throws IllegalValueException {
+    public Event toModelType(AddressBook addressBook) throws IllegalValueException {
         // Optionally, add further validation for name if required.
         if (name == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "Name"));
@@ -91,19 +102,17 @@ class JsonAdaptedEvent {
         }
         final Set<Tag> modelTags = new HashSet<>(eventTags);
 
-        final List<Person> modelContacts = new ArrayList<>();
+        final Set<String> modelContactIds = new LinkedHashSet<>(contactIds);
         for (JsonAdaptedPerson jsonContact : contacts) {
-            modelContacts.add(jsonContact.toModelType());
-        }
-        UniquePersonList contactsList = new UniquePersonList();
-        for (Person p : modelContacts) {
-            contactsList.add(p);
+            Person contact = jsonContact.toModelType();
+            Person storedContact = addressBook.getPersonByName(contact.getName());
+            modelContactIds.add(storedContact == null ? contact.getId() : storedContact.getId());
         }
 
         if (this.id == null || this.id.isEmpty()) {
-            return new Event(name, parsedDate, location, description, modelTags, contactsList);
+            return new Event(name, parsedDate, location, description, modelTags, modelContactIds);
         } else {
-            return new Event(id, name, parsedDate, location, description, modelTags, contactsList);
+            return new Event(id, name, parsedDate, location, description, modelTags, modelContactIds);
         }
     }
 }
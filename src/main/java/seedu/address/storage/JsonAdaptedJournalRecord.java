@@ -0,0 +1,148 @@
+package seedu.address.storage;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Person;
+import seedu.address.model.relationship.Relationship;
+
+/**
+ * Jackson-friendly version of a single change to one of the lists of the address book,
+ * as written to the address book journal.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalRecord {
+
+    public static final String MISSING_FIELD_MESSAGE_FORMAT = "Journal record's %s field is missing!";
+    public static final String MESSAGE_INDEX_OUT_OF_RANGE =
+            "Journal record %d refers to a position that is not in the data file.";
+
+    /**
+     * The list of the address book that a record changes.
+     */
+    enum Target {
+        PERSON, RELATIONSHIP, EVENT
+    }
+
+    /**
+     * The change that a record makes to its list.
+     */
+    enum Action {
+        INSERT, REMOVE
+    }
+
+    private final long sequence;
+    private final Target target;
+    private final Action action;
+    private final int index;
+    private final JsonAdaptedPerson person;
+    private final JsonAdaptedRelationship relationship;
+    private final JsonAdaptedEvent event;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("sequence") long sequence,
+            @JsonProperty("target") Target target, @JsonProperty("action") Action action,
+            @JsonProperty("index") int index, @JsonProperty("person") JsonAdaptedPerson person,
+            @JsonProperty("relationship") JsonAdaptedRelationship relationship,
+            @JsonProperty("event") JsonAdaptedEvent event) {
+        this.sequence = sequence;
+        this.target = target;
+        this.action = action;
+        this.index = index;
+        this.person = person;
+        this.relationship = relationship;
+        this.event = event;
+    }
+
+    /**
+     * Returns a record that removes the entry at {@code index} of the {@code target} list.
+     */
+    public static JsonAdaptedJournalRecord remove(long sequence, Target target, int index) {
+        return new JsonAdaptedJournalRecord(sequence, target, Action.REMOVE, index, null, null, null);
+    }
+
+    /**
+     * Returns a record that inserts {@code person} at {@code index} of the person list.
+     */
+    public static JsonAdaptedJournalRecord insert(long sequence, int index, Person person) {
+        return new JsonAdaptedJournalRecord(sequence, Target.PERSON, Action.INSERT, index,
+                new JsonAdaptedPerson(person), null, null);
+    }
+
+    /**
+     * Returns a record that inserts {@code relationship} at {@code index} of the relationship list.
+     */
+    public static JsonAdaptedJournalRecord insert(long sequence, int index, Relationship relationship) {
+        return new JsonAdaptedJournalRecord(sequence, Target.RELATIONSHIP, Action.INSERT, index,
+                null, new JsonAdaptedRelationship(relationship), null);
+    }
+
+    /**
+     * Returns a record that inserts {@code event} at {@code index} of the event list.
+     */
+    public static JsonAdaptedJournalRecord insert(long sequence, int index, Event event) {
+        return new JsonAdaptedJournalRecord(sequence, Target.EVENT, Action.INSERT, index,
+                null, null, new JsonAdaptedEvent(event));
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * Applies this change to the matching list.
+     *
+     * @param addressBook the address book that the lists are replayed for, used to resolve event contacts.
+     * @throws IllegalValueException if the record is incomplete, its index is not in the list,
+     *     or its data violates any constraints.
+     */
+    public void applyTo(List<Person> persons, List<Relationship> relationships, List<Event> events,
+            AddressBook addressBook) throws IllegalValueException {
+        if (target == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "target"));
+        }
+        if (action == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "action"));
+        }
+
+        switch (target) {
+        case PERSON:
+            applyTo(persons, person == null ? null : person.toModelType());
+            break;
+        case RELATIONSHIP:
+            applyTo(relationships, relationship == null ? null : relationship.toModelType());
+            break;
+        case EVENT:
+            applyTo(events, event == null ? null : event.toModelType(addressBook));
+            break;
+        default:
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "target"));
+        }
+    }
+
+    private <T> void applyTo(List<T> list, T payload) throws IllegalValueException {
+        int size = action == Action.INSERT ? list.size() + 1 : list.size();
+        if (index < 0 || index >= size) {
+            throw new IllegalValueException(String.format(MESSAGE_INDEX_OUT_OF_RANGE, sequence));
+        }
+
+        if (action == Action.REMOVE) {
+            list.remove(index);
+            return;
+        }
+        if (payload == null) {
+            throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT,
+                    target.name().toLowerCase()));
+        }
+        list.add(index, payload);
+    }
+}
@@ -0,0 +1,101 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.AddressBook;
+
+/**
+ * Reads a data file in the format of {@link JsonSerializableAddressBook} one token at a time.
+ * Persons, relationships and events are handed to an {@link AddressBookBulkLoader} in batches as they are read,
+ * so neither the text of the file nor a {@code JsonSerializableAddressBook} of the whole file is held in memory.
+ */
+class JsonAddressBookStreamReader {
+
+    public static final String MESSAGE_NOT_AN_OBJECT = "Data file does not contain a JSON object.";
+    public static final String MESSAGE_NOT_A_LIST = "Data file field %s is not a list.";
+
+    /** Number of adapters read before they are handed to the loader. */
+    static final int BATCH_SIZE = 8 * AddressBookBulkLoader.PARALLEL_CONVERSION_THRESHOLD;
+
+    private final AddressBookBulkLoader loader = new AddressBookBulkLoader();
+    private long journalSequence;
+
+    /**
+     * Reads the address book in the data file at {@code filePath}. A reader can only read one file.
+     *
+     * @throws IOException if the file cannot be read or is not valid JSON.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public AddressBook read(Path filePath) throws IOException, IllegalValueException {
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new JsonParseException(parser, MESSAGE_NOT_AN_OBJECT);
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String fieldName = parser.getCurrentName();
+                parser.nextToken();
+                switch (fieldName) {
+                case "persons":
+                    readList(parser, fieldName, JsonAdaptedPerson.class, loader::addPersons);
+                    break;
+                case "relationships":
+                    readList(parser, fieldName, JsonAdaptedRelationship.class, loader::addRelationships);
+                    break;
+                case "events":
+                    readList(parser, fieldName, JsonAdaptedEvent.class, loader::addEvents);
+                    break;
+                case "journalSequence":
+                    journalSequence = parser.getLongValue();
+                    break;
+                default:
+                    parser.skipChildren();
+                    break;
+                }
+            }
+        }
+        return loader.toAddressBook();
+    }
+
+    /**
+     * Returns the last journal record already included in the file that was read.
+     */
+    public long getJournalSequence() {
+        return journalSequence;
+    }
+
+    private <T> void readList(JsonParser parser, String fieldName, Class<T> elementClass,
+            BatchHandler<T> handler) throws IOException, IllegalValueException {
+        if (parser.getCurrentToken() == JsonToken.VALUE_NULL) {
+            return;
+        }
+        if (parser.getCurrentToken() != JsonToken.START_ARRAY) {
+            throw new JsonParseException(parser, String.format(MESSAGE_NOT_A_LIST, fieldName));
+        }
+        List<T> batch = new ArrayList<>();
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            batch.add(JsonUtil.readValue(parser, elementClass));
+            if (batch.size() == BATCH_SIZE) {
+                handler.handle(batch);
+                batch = new ArrayList<>();
+            }
+        }
+        handler.handle(batch);
+    }
+
+    /**
+     * Hands a batch of adapters read from a list in the data file to the loader.
+     */
+    @FunctionalInterface
+    private interface BatchHandler<T> {
+        void handle(List<T> batch) throws IllegalValueException;
+    }
+}
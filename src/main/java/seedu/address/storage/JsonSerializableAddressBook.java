@@ -4,15 +4,13 @@ import java.util.ArrayList;
 import java.util.List;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
 import seedu.address.model.ReadOnlyAddressBook;
-import seedu.address.model.event.Event;
-import seedu.address.model.person.Person;
-import seedu.address.model.relationship.Relationship;
 
 /**
  * An Immutable AddressBook that is serializable to JSON format.
@@ -28,15 +26,28 @@ class JsonSerializableAddressBook {
     private final List<JsonAdaptedPerson> persons = new ArrayList<>();
     private final List<JsonAdaptedRelationship> relationships = new ArrayList<>();
     private final List<JsonAdaptedEvent> events = new ArrayList<>();
+    // The last journal record already included in this file
+    @JsonInclude(JsonInclude.Include.NON_DEFAULT)
+    private final long journalSequence;
 
     /**
      * Constructs a {@code JsonSerializableAddressBook} with the given persons, relationships and events.
      */
+    public JsonSerializableAddressBook(List<JsonAdaptedPerson> persons, List<JsonAdaptedRelationship> relationships,
+            List<JsonAdaptedEvent> events) {
+        this(persons, relationships, events, 0);
+    }
+
+    /**
+     * Constructs a {@code JsonSerializableAddressBook} with the given persons, relationships and events,
+     * which already include the journal records up to {@code journalSequence}.
+     */
     @JsonCreator
     public JsonSerializableAddressBook(
             @JsonProperty("persons") List<JsonAdaptedPerson> persons,
             @JsonProperty("relationships") List<JsonAdaptedRelationship> relationships,
-            @JsonProperty("events") List<JsonAdaptedEvent> events) {
+            @JsonProperty("events") List<JsonAdaptedEvent> events,
+            @JsonProperty("journalSequence") long journalSequence) {
         this.persons.addAll(persons);
         if (relationships != null) {
             this.relationships.addAll(relationships);
@@ -44,6 +55,7 @@ class JsonSerializableAddressBook {
         if (events != null) {
             this.events.addAll(events);
         }
+        this.journalSequence = journalSequence;
     }
 
     /**
@@ -52,6 +64,17 @@ class JsonSerializableAddressBook {
      * @param source future changes to this will not affect the created {@code JsonSerializableAddressBook}.
      */
     public JsonSerializableAddressBook(ReadOnlyAddressBook source) {
+        this(source, 0);
+    }
+
+    /**
+     * Converts a given {@code ReadOnlyAddressBook} that already includes the journal records up to
+     * {@code journalSequence} into this class for Jackson use.
+     *
+     * @param source future changes to this will not affect the created {@code JsonSerializableAddressBook}.
+     */
+    public JsonSerializableAddressBook(ReadOnlyAddressBook source, long journalSequence) {
+        this.journalSequence = journalSequence;
         persons.addAll(source.getPersonList().stream().map(JsonAdaptedPerson::new).toList());
         relationships.addAll(source.getRelationshipList().stream()
                 .map(JsonAdaptedRelationship::new).toList());
@@ -65,35 +88,10 @@ class JsonSerializableAddressBook {
      * @throws IllegalValueException if there were any data constraints violated.
      */
     public AddressBook toModelType() throws IllegalValueException {
-        AddressBook addressBook = new AddressBook();
-
-        // Convert persons
-        for (JsonAdaptedPerson jsonAdaptedPerson : persons) {
-            Person person = jsonAdaptedPerson.toModelType();
-            if (addressBook.hasPerson(person)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
-            }
-            addressBook.addPerson(person);
-        }
-
-        // Convert relationships
-        for (JsonAdaptedRelationship jsonAdaptedRelationship : relationships) {
-            Relationship relationship = jsonAdaptedRelationship.toModelType();
-            if (addressBook.hasRelationship(relationship)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_RELATIONSHIP);
-            }
-            addressBook.addRelationship(relationship);
-        }
-
-        // Convert events
-        for (JsonAdaptedEvent jsonAdaptedEvent : events) {
-            Event event = jsonAdaptedEvent.toModelType();
-            if (addressBook.hasEvent(event)) {
-                throw new IllegalValueException(MESSAGE_DUPLICATE_EVENT);
-            }
-            addressBook.addEvent(event);
-        }
-
-        return addressBook;
+        AddressBookBulkLoader loader = new AddressBookBulkLoader();
+        loader.addPersons(persons);
+        loader.addRelationships(relationships);
+        loader.addEvents(events);
+        return loader.toAddressBook();
     }
 }
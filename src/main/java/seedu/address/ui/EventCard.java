@@ -10,6 +10,7 @@ import javafx.scene.layout.Region;
 import javafx.scene.layout.VBox;
 import seedu.address.model.AddressBook;
 import seedu.address.model.event.Event;
+import seedu.address.model.person.Person;
 
 /**
  * An UI component that displays information of an {@code Event}.
@@ -68,19 +69,27 @@ public class EventCard extends UiPart<Region> {
 
     /**
      * Populates the contacts pane with names of persons involved in the event.
+     * Contact IDs are resolved through the address book, so the names shown are always current.
      */
     private void populateContacts() {
-        if (event.getContacts().isEmpty()) {
+        if (event.getContactIds().isEmpty()) {
             Label noContacts = new Label("No contacts");
             contactsPane.getChildren().add(noContacts);
             return;
         }
 
         contactsPane.getChildren().add(new Label("Contacts:"));
-        event.getContacts().forEach(person -> {
-            String contactName = person.getName().fullName;
-            Label contactLabel = new Label(contactName);
+        event.getContactIds().forEach(contactId -> {
+            Label contactLabel = new Label(getContactName(contactId));
             contactsPane.getChildren().add(contactLabel);
         });
     }
+
+    /**
+     * Returns the name of the person with the given ID, or "Unknown" if no such person exists.
+     */
+    private String getContactName(String contactId) {
+        Person person = addressBook.getPersonById(contactId);
+        return person == null ? "Unknown" : person.getName().fullName;
+    }
 }
@@ -1,7 +1,10 @@
 package seedu.address.ui;
 
+import java.util.ArrayDeque;
+import java.util.Queue;
 import java.util.logging.Logger;
 
+import javafx.application.Platform;
 import javafx.event.ActionEvent;
 import javafx.fxml.FXML;
 import javafx.scene.control.MenuItem;
@@ -13,6 +16,7 @@ import javafx.stage.Stage;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.logic.Logic;
+import seedu.address.logic.ProgressiveAddressBookLoader;
 import seedu.address.logic.commands.CommandResult;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.exceptions.ParseException;
@@ -23,12 +27,17 @@ import seedu.address.logic.parser.exceptions.ParseException;
  */
 public class MainWindow extends UiPart<Stage> {
 
+    static final String MESSAGE_COMMAND_QUEUED = "Still loading the data file. \"%1$s\" will run once it is loaded.";
+
     private static final String FXML = "MainWindow.fxml";
 
     private final Logger logger = LogsCenter.getLogger(getClass());
 
     private Stage primaryStage;
     private Logic logic;
+    private ProgressiveAddressBookLoader loader;
+    // Commands entered while the data file is still being loaded, run in order once it is loaded
+    private final Queue<String> queuedCommandTexts = new ArrayDeque<>();
 
     // Independent Ui parts residing in this Ui container
     private PersonListPanel personListPanel;
@@ -58,11 +67,20 @@ public class MainWindow extends UiPart<Stage> {
      * Creates a {@code MainWindow} with the given {@code Stage} and {@code Logic}.
      */
     public MainWindow(Stage primaryStage, Logic logic) {
+        this(primaryStage, logic, null);
+    }
+
+    /**
+     * Creates a {@code MainWindow} with the given {@code Stage} and {@code Logic},
+     * whose data is still being loaded by {@code loader}. If {@code loader} is null, the data has already been loaded.
+     */
+    public MainWindow(Stage primaryStage, Logic logic, ProgressiveAddressBookLoader loader) {
         super(FXML, primaryStage);
 
         // Set dependencies
         this.primaryStage = primaryStage;
         this.logic = logic;
+        this.loader = loader;
 
         // Configure the UI
         setWindowDefaultSize(logic.getGuiSettings());
@@ -122,9 +140,15 @@ public class MainWindow extends UiPart<Stage> {
 
         resultDisplay = new ResultDisplay();
         resultDisplayPlaceholder.getChildren().add(resultDisplay.getRoot());
+        logic.setSaveFailureHandler(message -> Platform.runLater(() -> resultDisplay.setFeedbackToUser(message)));
 
         StatusBarFooter statusBarFooter = new StatusBarFooter(logic.getAddressBookFilePath());
         statusbarPlaceholder.getChildren().add(statusBarFooter.getRoot());
+        if (loader != null) {
+            // Both handlers are run on the JavaFX application thread
+            loader.addProgressHandler(statusBarFooter::setLoadingStatus);
+            loader.addCompletionHandler(this::runQueuedCommands);
+        }
 
         CommandBox commandBox = new CommandBox(this::executeCommand);
         commandBoxPlaceholder.getChildren().add(commandBox.getRoot());
@@ -181,6 +205,13 @@ public class MainWindow extends UiPart<Stage> {
      * @see seedu.address.logic.Logic#execute(String)
      */
     private CommandResult executeCommand(String commandText) throws CommandException, ParseException {
+        if (loader != null && !loader.isFinished()) {
+            queuedCommandTexts.add(commandText);
+            String feedback = String.format(MESSAGE_COMMAND_QUEUED, commandText);
+            resultDisplay.setFeedbackToUser(feedback);
+            return new CommandResult(feedback);
+        }
+
         try {
             CommandResult commandResult = logic.execute(commandText);
             logger.info("Result: " + commandResult.getFeedbackToUser());
@@ -201,4 +232,18 @@ public class MainWindow extends UiPart<Stage> {
             throw e;
         }
     }
+
+    /**
+     * Runs the commands entered while the data file was being loaded, in the order they were entered.
+     */
+    private void runQueuedCommands() {
+        while (!queuedCommandTexts.isEmpty()) {
+            String commandText = queuedCommandTexts.remove();
+            try {
+                executeCommand(commandText);
+            } catch (CommandException | ParseException e) {
+                // The error has already been shown to the user
+            }
+        }
+    }
 }
@@ -130,11 +130,7 @@ public class PersonCard extends UiPart<Region> {
      * @return The name of the other person, or "Unknown" if the person is not found.
      */
     private String getOtherPersonName(String otherId) {
-        // Iterate through the person list to find the person with the given ID
-        return addressBook.getPersonList().stream()
-                .filter(p -> p.getId().equals(otherId))
-                .findFirst()
-                .map(p -> p.getName().fullName)
-                .orElse("Unknown");
+        Person otherPerson = addressBook.getPersonById(otherId);
+        return otherPerson == null ? "Unknown" : otherPerson.getName().fullName;
     }
 }
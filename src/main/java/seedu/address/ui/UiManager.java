@@ -11,6 +11,7 @@ import seedu.address.MainApp;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
+import seedu.address.logic.ProgressiveAddressBookLoader;
 
 /**
  * The manager of the UI component.
@@ -23,13 +24,23 @@ public class UiManager implements Ui {
     private static final String ICON_APPLICATION = "/images/address_book_32.png";
 
     private Logic logic;
+    private ProgressiveAddressBookLoader loader;
     private MainWindow mainWindow;
 
     /**
      * Creates a {@code UiManager} with the given {@code Logic}.
      */
     public UiManager(Logic logic) {
+        this(logic, null);
+    }
+
+    /**
+     * Creates a {@code UiManager} with the given {@code Logic}, whose data is still being loaded by {@code loader}.
+     * If {@code loader} is null, the data has already been loaded.
+     */
+    public UiManager(Logic logic, ProgressiveAddressBookLoader loader) {
         this.logic = logic;
+        this.loader = loader;
     }
 
     @Override
@@ -40,7 +51,7 @@ public class UiManager implements Ui {
         primaryStage.getIcons().add(getImage(ICON_APPLICATION));
 
         try {
-            mainWindow = new MainWindow(primaryStage, logic);
+            mainWindow = new MainWindow(primaryStage, logic, loader);
             mainWindow.show(); // This should be called before creating other UI parts
             mainWindow.fillInnerParts();
 
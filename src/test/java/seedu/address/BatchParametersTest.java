@@ -0,0 +1,78 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Paths;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.BatchCommandRunner.OutputFormat;
+
+public class BatchParametersTest {
+
+    private final BatchParameters expected = new BatchParameters();
+
+    @Test
+    public void isBatchMode() {
+        assertTrue(BatchParameters.isBatchMode(List.of("--batch")));
+        assertTrue(BatchParameters.isBatchMode(List.of("--config=config.json", "--batch=commands.txt")));
+        assertFalse(BatchParameters.isBatchMode(List.of()));
+        assertFalse(BatchParameters.isBatchMode(List.of("--config=config.json")));
+        assertFalse(BatchParameters.isBatchMode(List.of("--batchfile")));
+    }
+
+    @Test
+    public void parse_standardInput_success() {
+        assertEquals(expected, BatchParameters.parse(List.of("--batch")));
+        assertEquals(expected, BatchParameters.parse(List.of("--batch=-")));
+    }
+
+    @Test
+    public void parse_allParameters_success() {
+        expected.setCommandFilePath(Paths.get("commands.txt"));
+        expected.setConfigPath(Paths.get("config.json"));
+        expected.setSaveInterval(1000);
+        expected.setOutputFormat(OutputFormat.JSON);
+        assertEquals(expected, BatchParameters.parse(List.of("--batch=commands.txt", "--config=config.json",
+                "--save-every=1000", "--output=json")));
+    }
+
+    @Test
+    public void parse_invalidValues_usesDefaults() {
+        assertEquals(expected, BatchParameters.parse(List.of("--batch=a\0", "--config=a\0", "--save-every=-5",
+                "--output=xml", "--unknown")));
+    }
+
+    @Test
+    public void toStringMethod() {
+        BatchParameters batchParameters = new BatchParameters();
+        String expected = BatchParameters.class.getCanonicalName() + "{configPath=null, commandFilePath=null"
+                + ", saveInterval=0, outputFormat=TEXT}";
+        assertEquals(expected, batchParameters.toString());
+    }
+
+    @Test
+    public void equals() {
+        BatchParameters batchParameters = new BatchParameters();
+
+        // same values -> returns true
+        assertTrue(batchParameters.equals(new BatchParameters()));
+
+        // same object -> returns true
+        assertTrue(batchParameters.equals(batchParameters));
+
+        // null -> returns false
+        assertFalse(batchParameters.equals(null));
+
+        // different types -> returns false
+        assertFalse(batchParameters.equals(5.0f));
+
+        // different save interval -> returns false
+        BatchParameters otherBatchParameters = new BatchParameters();
+        otherBatchParameters.setSaveInterval(10);
+        assertFalse(batchParameters.equals(otherBatchParameters));
+    }
+}
@@ -0,0 +1,138 @@
+package seedu.address.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalEvents.BIRTHDAY;
+import static seedu.address.testutil.TypicalEvents.CONFERENCE;
+import static seedu.address.testutil.TypicalEvents.MEETING;
+import static seedu.address.testutil.TypicalEvents.getTypicalEvents;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalRelationships.ALICE_BEFRIENDS_BENSON;
+import static seedu.address.testutil.TypicalRelationships.BENSON_MENTORS_CARL;
+import static seedu.address.testutil.TypicalRelationships.getTypicalRelationships;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.api.AddressBookQueryIndex.Page;
+import seedu.address.model.AddressBook;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Person;
+import seedu.address.model.search.SearchField;
+
+public class AddressBookQueryIndexTest {
+
+    private final AddressBookQueryIndex index = new AddressBookQueryIndex(getTypicalData());
+
+    @Test
+    public void getPerson() {
+        assertEquals(ALICE, index.getPerson(ALICE.getId()).get());
+        assertTrue(index.getPerson("no such id").isEmpty());
+    }
+
+    @Test
+    public void getPerson_sharedId_returnsSamePersonAsAddressBook() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(new Person(ALICE.getName(), ALICE.getPhone(), ALICE.getEmail(), ALICE.getAddress(),
+                ALICE.getSocials(), ALICE.getTags(), BENSON.getId()));
+        addressBook.addPerson(BENSON);
+        AddressBookQueryIndex sharedIdIndex = new AddressBookQueryIndex(addressBook);
+        assertEquals(addressBook.getPersonById(BENSON.getId()), sharedIdIndex.getPerson(BENSON.getId()).get());
+    }
+
+    @Test
+    public void getRelationshipsOf() {
+        assertEquals(List.of(ALICE_BEFRIENDS_BENSON, BENSON_MENTORS_CARL), index.getRelationshipsOf(BENSON.getId()));
+        assertTrue(index.getRelationshipsOf("no such id").isEmpty());
+    }
+
+    @Test
+    public void findPersons_pagedWithCursors_returnsAllMatchesOrderedById() {
+        // "Meier" matches Benson and Daniel, and "kurz" matches Carl
+        List<String> keywords = List.of("meier", "KURZ");
+        List<Person> expected = new ArrayList<>(getTypicalData().getPersonList().filtered(person ->
+                person.getName().fullName.contains("Meier") || person.getName().fullName.contains("Kurz")));
+        expected.sort(Comparator.comparing(Person::getId));
+
+        List<Person> found = new ArrayList<>();
+        Page<Person> page = index.findPersons(SearchField.NAME, keywords, null, 2);
+        found.addAll(page.items());
+        while (page.nextCursor() != null) {
+            assertEquals(2, page.items().size());
+            page = index.findPersons(SearchField.NAME, keywords, page.nextCursor(), 2);
+            found.addAll(page.items());
+        }
+
+        assertEquals(expected, found);
+    }
+
+    @Test
+    public void findPersons_keywordTooShortForTrigramIndex_returnsAllMatches() {
+        // Two letters cannot be looked up in the trigram index, so every person is checked
+        List<String> keywords = List.of("trigram", "EL");
+        List<Person> expected = new ArrayList<>(getTypicalData().getPersonList().filtered(person ->
+                person.getName().fullName.toLowerCase().contains("el")));
+        expected.sort(Comparator.comparing(Person::getId));
+
+        List<Person> found = new ArrayList<>();
+        Page<Person> page = index.findPersons(SearchField.NAME, keywords, null, 1);
+        found.addAll(page.items());
+        while (page.nextCursor() != null) {
+            page = index.findPersons(SearchField.NAME, keywords, page.nextCursor(), 1);
+            found.addAll(page.items());
+        }
+
+        assertTrue(expected.size() > 1);
+        assertEquals(expected, found);
+    }
+
+    @Test
+    public void findPersons_exactlyLimitMatches_noNextCursor() {
+        Page<Person> page = index.findPersons(SearchField.NAME, List.of(CARL.getName().fullName), null, 1);
+        assertEquals(List.of(CARL), page.items());
+        assertNull(page.nextCursor());
+    }
+
+    @Test
+    public void findEventsBetween_range_returnsEventsInRangeOrderedByDate() {
+        Page<Event> page = index.findEventsBetween(LocalDateTime.of(2024, 1, 1, 18, 0),
+                LocalDateTime.of(2024, 1, 5, 9, 0), null, 2);
+        assertEquals(List.of(BIRTHDAY, MEETING), page.items());
+
+        page = index.findEventsBetween(LocalDateTime.of(2024, 1, 1, 18, 0),
+                LocalDateTime.of(2024, 1, 5, 9, 0), page.nextCursor(), 2);
+        assertEquals(List.of(CONFERENCE), page.items());
+        assertNull(page.nextCursor());
+    }
+
+    @Test
+    public void findEventsBetween_emptyRange_returnsNoEvents() {
+        assertTrue(index.findEventsBetween(LocalDateTime.of(2024, 1, 3, 0, 0),
+                LocalDateTime.of(2024, 1, 4, 0, 0), null, 10).items().isEmpty());
+        assertTrue(index.findEventsBetween(LocalDateTime.MAX, LocalDateTime.MIN, null, 10).items().isEmpty());
+    }
+
+    @Test
+    public void findEventsBetween_invalidCursor_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () ->
+                index.findEventsBetween(LocalDateTime.MIN, LocalDateTime.MAX, "not a cursor!", 10));
+        assertThrows(IllegalArgumentException.class, () ->
+                index.findEventsBetween(LocalDateTime.MIN, LocalDateTime.MAX, "bm8gc2VwYXJhdG9y", 10));
+    }
+
+    private static AddressBook getTypicalData() {
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.setRelationships(getTypicalRelationships());
+        addressBook.setEvents(getTypicalEvents());
+        return addressBook;
+    }
+}
@@ -0,0 +1,225 @@
+package seedu.address.api;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalRelationships.getTypicalRelationships;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.ApiSettings;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.logic.LogicManager;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.testutil.PersonUtil;
+
+public class ApiServerTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final HttpClient client = HttpClient.newHttpClient();
+    // Counts the tasks handed to the model thread
+    private final AtomicInteger modelTaskCount = new AtomicInteger();
+    private Model model;
+    private ApiServer server;
+    private String token;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.setRelationships(getTypicalRelationships());
+        model = new ModelManager(addressBook, new UserPrefs());
+        StorageManager storage = new StorageManager(
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        // Port 0 picks a free port; the model is used directly on the request threads
+        Executor modelExecutor = task -> {
+            modelTaskCount.incrementAndGet();
+            task.run();
+        };
+        server = new ApiServer(new ApiSettings(true, 0, 2), model, new LogicManager(model, storage), modelExecutor,
+                ApiServer.getTokenFilePath(temporaryFolder.resolve("config.json")));
+        server.start();
+        token = Files.readString(temporaryFolder.resolve(ApiServer.TOKEN_FILE_NAME));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        server.stop();
+    }
+
+    @Test
+    public void getPerson_existingPerson_returnsPerson() throws Exception {
+        HttpResponse<String> response = get("/persons/" + ALICE.getId());
+
+        assertEquals(200, response.statusCode());
+        Map<?, ?> person = JsonUtil.fromJsonString(response.body(), Map.class);
+        assertEquals(ALICE.getId(), person.get("id"));
+        assertEquals(ALICE.getName().fullName, person.get("name"));
+        assertEquals(ALICE.getEmail().value, person.get("email"));
+    }
+
+    @Test
+    public void getPerson_concurrentReads_shareOneSnapshotPerVersion() throws Exception {
+        List<CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            responses.add(client.sendAsync(requestTo("/persons/" + ALICE.getId()).GET().build(),
+                    HttpResponse.BodyHandlers.ofString()));
+        }
+        for (CompletableFuture<HttpResponse<String>> response : responses) {
+            assertEquals(200, response.join().statusCode());
+        }
+        assertEquals(1, modelTaskCount.get());
+
+        model.addPerson(AMY);
+        assertEquals(200, get("/persons/" + AMY.getId()).statusCode());
+        assertEquals(200, get("/persons/" + ALICE.getId()).statusCode());
+        assertEquals(2, modelTaskCount.get());
+    }
+
+    @Test
+    public void getPerson_unknownPerson_returnsNotFound() throws Exception {
+        assertEquals(404, get("/persons/unknown").statusCode());
+        assertEquals(404, get("/persons/unknown/relationships").statusCode());
+    }
+
+    @Test
+    public void getRelationships_existingPerson_returnsRelationshipsOfPerson() throws Exception {
+        HttpResponse<String> response = get("/persons/" + BENSON.getId() + "/relationships");
+
+        assertEquals(200, response.statusCode());
+        assertEquals(2, ((List<?>) JsonUtil.fromJsonString(response.body(), Map.class).get("items")).size());
+    }
+
+    @Test
+    public void findPersons_pagedWithCursor_returnsAllMatches() throws Exception {
+        Map<?, ?> page = JsonUtil.fromJsonString(get("/persons?field=name&keyword=meier&limit=1").body(), Map.class);
+        assertEquals(1, ((List<?>) page.get("items")).size());
+
+        page = JsonUtil.fromJsonString(get("/persons?field=name&keyword=meier&limit=1&cursor="
+                + page.get("nextCursor")).body(), Map.class);
+        assertEquals(1, ((List<?>) page.get("items")).size());
+        assertNull(page.get("nextCursor"));
+    }
+
+    @Test
+    public void findPersons_invalidParameters_returnsBadRequest() throws Exception {
+        assertEquals(400, get("/persons?keyword=meier").statusCode());
+        assertEquals(400, get("/persons?field=unknown&keyword=meier").statusCode());
+        assertEquals(400, get("/persons?field=name").statusCode());
+        assertEquals(400, get("/persons?field=name&keyword=meier&limit=0").statusCode());
+        assertEquals(400, get("/persons?field=name&keyword=meier&cursor=!").statusCode());
+        assertEquals(400, get("/events?from=tomorrow").statusCode());
+    }
+
+    @Test
+    public void postCommand_validCommand_changesModelAndLaterReads() throws Exception {
+        // Index the address book before the change, so that the change must invalidate it
+        assertEquals(404, get("/persons/" + AMY.getId()).statusCode());
+
+        HttpResponse<String> response = post("/commands", PersonUtil.getAddCommand(AMY));
+
+        assertEquals(200, response.statusCode());
+        assertEquals(true, JsonUtil.fromJsonString(response.body(), Map.class).get("success"));
+        assertTrue(model.hasPerson(AMY));
+        assertEquals(200, get("/persons/" + AMY.getId()).statusCode());
+    }
+
+    @Test
+    public void postCommand_invalidCommand_reportsFailure() throws Exception {
+        HttpResponse<String> response = post("/commands", "unknown command");
+
+        assertEquals(200, response.statusCode());
+        assertEquals(false, JsonUtil.fromJsonString(response.body(), Map.class).get("success"));
+    }
+
+    @Test
+    public void postCommand_notPlainText_returnsUnsupportedMediaType() throws Exception {
+        HttpResponse<String> response = send(requestTo("/commands").header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString("clear")));
+
+        assertEquals(415, response.statusCode());
+        assertTrue(model.hasPerson(ALICE));
+    }
+
+    @Test
+    public void request_wrongMethod_returnsMethodNotAllowed() throws Exception {
+        assertEquals(405, get("/commands").statusCode());
+        assertEquals(405, post("/persons", "").statusCode());
+    }
+
+    @Test
+    public void request_missingOrWrongToken_returnsUnauthorized() throws Exception {
+        HttpRequest.Builder withoutToken = HttpRequest.newBuilder(uriOf("/commands"))
+                .header("Content-Type", "text/plain").POST(HttpRequest.BodyPublishers.ofString("clear"));
+        assertEquals(401, send(withoutToken).statusCode());
+        assertEquals(401, send(withoutToken.header("Authorization", "Bearer wrong")).statusCode());
+        assertEquals(401, send(HttpRequest.newBuilder(uriOf("/persons/" + ALICE.getId()))).statusCode());
+        assertTrue(model.hasPerson(ALICE));
+    }
+
+    @Test
+    public void request_fromWebPage_returnsForbidden() throws Exception {
+        HttpResponse<String> response = send(requestTo("/commands").header("Origin", "https://example.com")
+                .header("Content-Type", "text/plain").POST(HttpRequest.BodyPublishers.ofString("clear")));
+
+        assertEquals(403, response.statusCode());
+        assertTrue(model.hasPerson(ALICE));
+    }
+
+    @Test
+    public void stop_deletesTokenFile() {
+        server.stop();
+        assertFalse(Files.exists(temporaryFolder.resolve(ApiServer.TOKEN_FILE_NAME)));
+    }
+
+    private HttpResponse<String> get(String path) throws Exception {
+        return send(requestTo(path).GET());
+    }
+
+    private HttpResponse<String> post(String path, String body) throws Exception {
+        return send(requestTo(path).header("Content-Type", "text/plain; charset=utf-8")
+                .POST(HttpRequest.BodyPublishers.ofString(body)));
+    }
+
+    private HttpRequest.Builder requestTo(String path) {
+        return HttpRequest.newBuilder(uriOf(path)).header("Authorization", "Bearer " + token);
+    }
+
+    private HttpResponse<String> send(HttpRequest.Builder request) throws Exception {
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private URI uriOf(String path) {
+        return URI.create("http://localhost:" + server.getPort() + path);
+    }
+}
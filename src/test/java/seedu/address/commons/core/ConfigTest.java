@@ -12,7 +12,11 @@ public class ConfigTest {
     public void toStringMethod() {
         Config config = new Config();
         String expected = Config.class.getCanonicalName() + "{logLevel=" + config.getLogLevel()
-                + ", userPrefsFilePath=" + config.getUserPrefsFilePath() + "}";
+                + ", userPrefsFilePath=" + config.getUserPrefsFilePath()
+                + ", dataFileFormat=" + config.getDataFileFormat()
+                + ", journalSettings=" + config.getJournalSettings()
+                + ", progressiveStartup=" + config.isProgressiveStartup()
+                + ", apiSettings=" + config.getApiSettings() + "}";
         assertEquals(expected, config.toString());
     }
 
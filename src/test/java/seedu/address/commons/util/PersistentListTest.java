@@ -0,0 +1,110 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class PersistentListTest {
+
+    @Test
+    public void empty() {
+        assertTrue(PersistentList.empty().isEmpty());
+        assertEquals(List.of(), PersistentList.empty());
+    }
+
+    @Test
+    public void copyOf_list_sameElementsInOrder() {
+        List<Integer> elements = List.of(5, 3, 8, 1, 9, 2, 7);
+        PersistentList<Integer> list = PersistentList.copyOf(elements);
+
+        assertEquals(elements, list);
+        assertEquals(elements.hashCode(), list.hashCode());
+        assertTrue(list == PersistentList.copyOf(list));
+    }
+
+    @Test
+    public void copyOf_nullElement_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> PersistentList.copyOf(Arrays.asList(1, null)));
+    }
+
+    @Test
+    public void changes_leaveOriginalUnchanged() {
+        PersistentList<String> original = PersistentList.copyOf(List.of("a", "b", "c"));
+
+        assertEquals(List.of("a", "x", "c"), original.withReplaced(1, "x"));
+        assertEquals(List.of("x", "a", "b", "c"), original.withInserted(0, "x"));
+        assertEquals(List.of("a", "b", "c", "x", "y"), original.withInsertedAll(3, List.of("x", "y")));
+        assertEquals(List.of("a", "c"), original.withRemoved(1));
+        assertEquals(List.of("c"), original.withRemovedRange(0, 2));
+        assertEquals(List.of(), original.withRemovedRange(0, 3));
+
+        assertEquals(List.of("a", "b", "c"), original);
+    }
+
+    @Test
+    public void changes_invalidIndex_throwsIndexOutOfBoundsException() {
+        PersistentList<String> list = PersistentList.copyOf(List.of("a", "b"));
+
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(-1));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.withReplaced(2, "x"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.withInserted(3, "x"));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.withRemoved(2));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.withRemovedRange(1, 3));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.withRemovedRange(2, 1));
+    }
+
+    @Test
+    public void changes_nullElement_throwsNullPointerException() {
+        PersistentList<String> list = PersistentList.copyOf(List.of("a"));
+
+        assertThrows(NullPointerException.class, () -> list.withReplaced(0, null));
+        assertThrows(NullPointerException.class, () -> list.withInserted(0, null));
+        assertThrows(NullPointerException.class, () -> list.withInsertedAll(0, Arrays.asList("b", null)));
+    }
+
+    @Test
+    public void changes_randomSequence_matchesArrayList() {
+        Random random = new Random(42);
+        List<Integer> expected = new ArrayList<>();
+        PersistentList<Integer> actual = PersistentList.empty();
+        List<PersistentList<Integer>> versions = new ArrayList<>();
+        List<List<Integer>> expectedVersions = new ArrayList<>();
+
+        for (int i = 0; i < 5000; i++) {
+            int operation = random.nextInt(4);
+            if (expected.isEmpty() || operation <= 1) {
+                int index = random.nextInt(expected.size() + 1);
+                expected.add(index, i);
+                actual = actual.withInserted(index, i);
+            } else if (operation == 2) {
+                int index = random.nextInt(expected.size());
+                expected.set(index, i);
+                actual = actual.withReplaced(index, i);
+            } else {
+                int index = random.nextInt(expected.size());
+                expected.remove(index);
+                actual = actual.withRemoved(index);
+            }
+            if (i % 500 == 0) {
+                versions.add(actual);
+                expectedVersions.add(new ArrayList<>(expected));
+            }
+        }
+
+        assertEquals(expected, actual);
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i), actual.get(i));
+        }
+        // Earlier versions are unaffected by the later changes
+        assertEquals(expectedVersions, versions);
+    }
+}
@@ -1,10 +1,12 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.io.FileNotFoundException;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -123,6 +125,34 @@ public class StringUtilTest {
         assertTrue(StringUtil.containsWordIgnoreCase("AAA bBb ccc  bbb", "bbB"));
     }
 
+    //---------------- Tests for toLowerCase --------------------------------------
+
+    @Test
+    public void toLowerCase_mixedCase_lowerCasedInOrder() {
+        assertEquals(List.of("abc", "def"), StringUtil.toLowerCase(List.of("ABc", "dEF")));
+    }
+
+    @Test
+    public void toLowerCase_nullGiven_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.toLowerCase(null));
+    }
+
+    //---------------- Tests for containsAnySubstring ------------------------------
+
+    @Test
+    public void containsAnySubstring_validInputs_correctResult() {
+        assertTrue(StringUtil.containsAnySubstring("alice pauline", List.of("bob", "paul")));
+        assertTrue(StringUtil.containsAnySubstring("alice pauline", List.of("alice pauline")));
+        assertFalse(StringUtil.containsAnySubstring("alice pauline", List.of("bob")));
+        assertFalse(StringUtil.containsAnySubstring("alice pauline", List.of()));
+    }
+
+    @Test
+    public void containsAnySubstring_nullGiven_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> StringUtil.containsAnySubstring(null, List.of("a")));
+        assertThrows(NullPointerException.class, () -> StringUtil.containsAnySubstring("a", null));
+    }
+
     //---------------- Tests for getDetails --------------------------------------
 
     /*
@@ -0,0 +1,142 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.AMY;
+import static seedu.address.testutil.TypicalPersons.BOB;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.BatchCommandRunner.OutputFormat;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+import seedu.address.testutil.PersonUtil;
+
+public class BatchCommandRunnerTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager();
+    private final ByteArrayOutputStream output = new ByteArrayOutputStream();
+    private CountingStorageManager storage;
+    private LogicManager logic;
+
+    @BeforeEach
+    public void setUp() {
+        storage = new CountingStorageManager(new JsonAddressBookStorage(temporaryFolder.resolve("addressBook.json")),
+                new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json")));
+        logic = new LogicManager(model, storage);
+    }
+
+    @Test
+    public void constructor_negativeSaveInterval_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> createRunner(-1, OutputFormat.TEXT));
+    }
+
+    @Test
+    public void run_commandsOnLinesAndSeparated_runsAllAndSavesOnce() throws Exception {
+        String commands = PersonUtil.getAddCommand(AMY) + "\n\n" + ListCommand.COMMAND_WORD + " ; "
+                + PersonUtil.getAddCommand(BOB) + "\n";
+
+        assertEquals(0, run(commands, 0, OutputFormat.TEXT));
+
+        assertEquals(List.of(AMY, BOB), model.getAddressBook().getPersonList());
+        assertEquals(1, storage.saveCount);
+        assertEquals(model.getAddressBook(), storage.readAddressBook().get());
+        assertEquals(3, getOutputLines().size());
+        assertEquals(ListCommand.MESSAGE_SUCCESS, getOutputLines().get(1));
+    }
+
+    @Test
+    public void run_saveInterval_savesEveryIntervalAndAtEnd() throws Exception {
+        String commands = PersonUtil.getAddCommand(AMY) + "\n" + PersonUtil.getAddCommand(BOB) + "\n"
+                + ListCommand.COMMAND_WORD + "\n";
+
+        run(commands, 1, OutputFormat.TEXT);
+
+        // The list command and the final save find nothing new to save
+        assertEquals(2, storage.saveCount);
+    }
+
+    @Test
+    public void run_failedCommand_reportsAndContinues() throws Exception {
+        String commands = "unknownCommand\n" + PersonUtil.getAddCommand(AMY) + "\n";
+
+        assertEquals(1, run(commands, 0, OutputFormat.TEXT));
+
+        assertEquals(List.of(AMY), model.getAddressBook().getPersonList());
+        assertEquals(BatchCommandRunner.ERROR_PREFIX + MESSAGE_UNKNOWN_COMMAND, getOutputLines().get(0));
+    }
+
+    @Test
+    public void run_exitCommand_stopsRunning() throws Exception {
+        String commands = ExitCommand.COMMAND_WORD + "; " + PersonUtil.getAddCommand(AMY) + "\n"
+                + PersonUtil.getAddCommand(BOB) + "\n";
+
+        assertEquals(0, run(commands, 0, OutputFormat.TEXT));
+
+        assertTrue(model.getAddressBook().getPersonList().isEmpty());
+        assertEquals(List.of(ExitCommand.MESSAGE_EXIT_ACKNOWLEDGEMENT), getOutputLines());
+        assertEquals(0, storage.saveCount);
+    }
+
+    @Test
+    public void run_jsonOutput_writesOneObjectPerCommand() throws Exception {
+        run(ListCommand.COMMAND_WORD + ";unknownCommand", 0, OutputFormat.JSON);
+
+        assertEquals(List.of(
+                "{\"command\":\"list\",\"success\":true,\"feedback\":\"" + ListCommand.MESSAGE_SUCCESS + "\"}",
+                "{\"command\":\"unknownCommand\",\"success\":false,\"feedback\":\"" + MESSAGE_UNKNOWN_COMMAND + "\"}"),
+                getOutputLines());
+    }
+
+    private BatchCommandRunner createRunner(int saveInterval, OutputFormat outputFormat) {
+        return new BatchCommandRunner(logic, saveInterval, outputFormat,
+                new PrintStream(output, true, StandardCharsets.UTF_8));
+    }
+
+    private int run(String commands, int saveInterval, OutputFormat outputFormat) throws IOException {
+        return createRunner(saveInterval, outputFormat).run(new BufferedReader(new StringReader(commands)));
+    }
+
+    private List<String> getOutputLines() {
+        return output.toString(StandardCharsets.UTF_8).lines().toList();
+    }
+
+    /**
+     * A {@code StorageManager} that counts how many times the address book is saved.
+     */
+    private static class CountingStorageManager extends StorageManager {
+        private int saveCount;
+
+        CountingStorageManager(JsonAddressBookStorage addressBookStorage, JsonUserPrefsStorage userPrefsStorage) {
+            super(addressBookStorage, userPrefsStorage);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+            saveCount++;
+            super.saveAddressBook(addressBook);
+        }
+    }
+}
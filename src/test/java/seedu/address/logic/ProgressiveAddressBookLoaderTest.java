@@ -0,0 +1,116 @@
+package seedu.address.logic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalEvents.getTypicalEvents;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalRelationships.getTypicalRelationships;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.testutil.PersonBuilder;
+
+public class ProgressiveAddressBookLoaderTest {
+
+    private final Model model = new ModelManager();
+    // Records what the model held each time a task was handed to the model executor
+    private final List<Integer> personCountsSeen = new ArrayList<>();
+    private final Executor recordingExecutor = task -> {
+        personCountsSeen.add(model.getAddressBook().getPersonList().size());
+        task.run();
+    };
+
+    @Test
+    public void load_typicalAddressBook_addsAllDataAndRunsHandlers() {
+        AddressBook data = getTypicalAddressBook();
+        data.setRelationships(getTypicalRelationships());
+        data.setEvents(getTypicalEvents());
+        ProgressiveAddressBookLoader loader = new ProgressiveAddressBookLoader(() -> data, model, recordingExecutor);
+        List<String> messages = new ArrayList<>();
+        List<Boolean> finishedWhenCompleted = new ArrayList<>();
+        loader.addProgressHandler(messages::add);
+        loader.addCompletionHandler(() -> finishedWhenCompleted.add(loader.isFinished()));
+
+        assertFalse(loader.isFinished());
+        loader.load();
+
+        assertTrue(loader.isFinished());
+        assertFalse(loader.hasFailed());
+        assertEquals(new ModelManager(data, new UserPrefs()), model);
+        assertEquals(List.of(true), finishedWhenCompleted);
+        assertEquals(String.format(ProgressiveAddressBookLoader.MESSAGE_LOADED, data.getPersonList().size(),
+                data.getRelationshipList().size(), data.getEventList().size()), messages.get(messages.size() - 1));
+    }
+
+    @Test
+    public void load_manyPersons_addsPersonsInBatches() {
+        int personCount = ProgressiveAddressBookLoader.BATCH_SIZE * 2 + 1;
+        AddressBook data = new AddressBook();
+        for (int i = 0; i < personCount; i++) {
+            data.addPerson(new PersonBuilder().withName("Person " + i).build());
+        }
+        ProgressiveAddressBookLoader loader = new ProgressiveAddressBookLoader(() -> data, model, recordingExecutor);
+
+        loader.load();
+
+        // Three batches of persons, then the completion task
+        int batchSize = ProgressiveAddressBookLoader.BATCH_SIZE;
+        assertEquals(List.of(0, batchSize, batchSize * 2, personCount), personCountsSeen);
+        assertEquals(data.getPersonList(), model.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void load_dataSourceFails_finishesWithEmptyAddressBook() {
+        ProgressiveAddressBookLoader loader = new ProgressiveAddressBookLoader(() -> {
+            throw new IllegalStateException("Disk on fire");
+        }, model, recordingExecutor);
+        List<String> messages = new ArrayList<>();
+        List<Boolean> finishedWhenCompleted = new ArrayList<>();
+        loader.addProgressHandler(messages::add);
+        loader.addCompletionHandler(() -> finishedWhenCompleted.add(loader.isFinished()));
+
+        loader.load();
+
+        assertTrue(loader.isFinished());
+        assertTrue(loader.hasFailed());
+        assertEquals(List.of(true), finishedWhenCompleted);
+        assertEquals(List.of(String.format(ProgressiveAddressBookLoader.MESSAGE_LOADING_FAILED, "Disk on fire")),
+                messages);
+        assertEquals(new AddressBook(), model.getAddressBook());
+    }
+
+    @Test
+    public void load_batchFails_finishesWithEmptyAddressBook() {
+        AddressBook data = getTypicalAddressBook();
+        // The events batch, handed over after the persons batch, fails
+        Executor failingExecutor = task -> recordingExecutor.execute(personCountsSeen.size() != 1 ? task : () -> {
+            throw new IllegalArgumentException("Invalid event");
+        });
+        data.setEvents(getTypicalEvents());
+        ProgressiveAddressBookLoader loader = new ProgressiveAddressBookLoader(() -> data, model, failingExecutor);
+
+        loader.load();
+
+        assertTrue(loader.isFinished());
+        assertTrue(loader.hasFailed());
+        assertEquals(new AddressBook(), model.getAddressBook());
+    }
+
+    @Test
+    public void load_emptyAddressBook_finishes() {
+        ProgressiveAddressBookLoader loader =
+                new ProgressiveAddressBookLoader(AddressBook::new, model, recordingExecutor);
+        loader.load();
+        assertTrue(loader.isFinished());
+        assertEquals(new AddressBook(), model.getAddressBook());
+    }
+}
@@ -23,6 +23,7 @@ import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.event.Event;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.relationship.Relationship;
 import seedu.address.model.relationship.exceptions.RelationshipNotFoundException;
@@ -126,6 +127,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addPersons(List<Person> persons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void setAddressBook(ReadOnlyAddressBook newData) {
             throw new AssertionError("This method should not be called.");
@@ -196,6 +202,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addRelationships(List<Relationship> relationships) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void deleteRelationship(String userId1, String userId2, String relationshipName)
                 throws RelationshipNotFoundException {
@@ -217,6 +228,11 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        @Override
+        public void addEvents(List<Event> events) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         @Override
         public void deleteEvent(Event event) {
             throw new AssertionError("This method should not be called.");
@@ -256,6 +272,16 @@ public class AddCommandTest {
         public Event getEventById(String id) {
             return null;
         }
+
+        @Override
+        public Person getPersonByName(Name name) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        @Override
+        public List<Event> getEventsForPerson(Person person) {
+            throw new AssertionError("This method should not be called.");
+        }
     }
 
     /**
@@ -2,17 +2,21 @@ package seedu.address.logic.commands;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.index.Index;
+import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.event.Event;
 import seedu.address.model.person.Address;
@@ -20,7 +24,6 @@ import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
-import seedu.address.model.person.UniquePersonList;
 import seedu.address.testutil.ModelStub;
 
 public class AddContactToEventCommandTest {
@@ -45,7 +48,7 @@ public class AddContactToEventCommandTest {
                 "Hall A",
                 "Tech Workshop",
                 null,
-                new UniquePersonList()
+                new HashSet<>()
         );
         modelStub.events.add(event);
         // Simulate that the contact exists in the address book.
@@ -54,11 +57,15 @@ public class AddContactToEventCommandTest {
         AddContactToEventCommand command = new AddContactToEventCommand(Index.fromOneBased(1), contact);
         CommandResult result = command.execute(modelStub);
 
-        // Verify that the event's contacts now include the added contact.
-        boolean containsContact = event.getContacts().contains(contact);
+        // Verify that the event was replaced by a copy whose contacts include the added contact.
+        Event updatedEvent = modelStub.events.get(0);
+        boolean containsContact = updatedEvent.hasContact(contact);
         assertEquals(true, containsContact);
-        String expectedMessage = String.format(AddContactToEventCommand.MESSAGE_ADD_CONTACT_SUCCESS, event);
+        assertFalse(event.hasContact(contact));
+        String expectedMessage = String.format(AddContactToEventCommand.MESSAGE_ADD_CONTACT_SUCCESS,
+                Messages.format(updatedEvent, modelStub));
         assertEquals(expectedMessage, result.getFeedbackToUser());
+        assertTrue(result.getFeedbackToUser().contains("Contacts: John Doe (ID: " + contact.getId() + ")"));
     }
 
     @Test
@@ -79,7 +86,7 @@ public class AddContactToEventCommandTest {
                 "Hall A",
                 "Tech Workshop",
                 null,
-                new UniquePersonList()
+                new HashSet<>()
         );
         modelStub.events.add(event);
         // Simulate that the contact does not exist.
@@ -99,7 +106,7 @@ public class AddContactToEventCommandTest {
                 "Hall A",
                 "Tech Workshop",
                 null,
-                new UniquePersonList()
+                new HashSet<>()
         );
         // Add the contact beforehand.
         event.addContact(contact);
@@ -135,6 +142,7 @@ public class AddContactToEventCommandTest {
      */
     private class ModelStubAcceptingContactUpdate extends ModelStub {
         final ArrayList<Event> events = new ArrayList<>();
+        private final Map<String, Person> personsById = new HashMap<>();
         private boolean personExists = false;
 
         @Override
@@ -143,8 +151,18 @@ public class AddContactToEventCommandTest {
         }
 
         @Override
-        public boolean hasPerson(Person person) {
-            return personExists;
+        public Person getPersonByName(Name name) {
+            if (!personExists) {
+                return null;
+            }
+            Person person = createDummyPerson(name.fullName);
+            personsById.put(person.getId(), person);
+            return person;
+        }
+
+        @Override
+        public Person getPersonById(String id) {
+            return personsById.get(id);
         }
 
         @Override
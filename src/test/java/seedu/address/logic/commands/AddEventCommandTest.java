@@ -4,15 +4,16 @@ import static java.util.Objects.requireNonNull;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.HashSet;
 import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.DateParserUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.event.Event;
-import seedu.address.model.person.UniquePersonList;
 import seedu.address.testutil.ModelStub;
 
 class AddEventCommandTest {
@@ -31,13 +32,13 @@ class AddEventCommandTest {
                 null,
                 null,
                 null,
-                new UniquePersonList()
+                new HashSet<>()
         );
 
         CommandResult commandResult = new AddEventCommand(validEvent, List.of()).execute(modelStub);
 
         assertEquals(
-                String.format(AddEventCommand.MESSAGE_SUCCESS, validEvent),
+                String.format(AddEventCommand.MESSAGE_SUCCESS, Messages.format(validEvent, modelStub)),
                 commandResult.getFeedbackToUser());
         assertEquals(List.of(validEvent), modelStub.events);
     }
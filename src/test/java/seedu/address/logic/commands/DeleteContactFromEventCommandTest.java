@@ -2,6 +2,7 @@ package seedu.address.logic.commands;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.time.LocalDateTime;
@@ -13,6 +14,7 @@ import org.junit.jupiter.api.Test;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.index.Index;
+import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.event.Event;
 import seedu.address.model.person.Address;
@@ -20,7 +22,6 @@ import seedu.address.model.person.Email;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
-import seedu.address.model.person.UniquePersonList;
 import seedu.address.testutil.ModelStub;
 
 public class DeleteContactFromEventCommandTest {
@@ -45,7 +46,7 @@ public class DeleteContactFromEventCommandTest {
                 "Hall A",
                 "Tech Workshop",
                 null,
-                new UniquePersonList()
+                new HashSet<>()
         );
         event.addContact(contact);
         modelStub.events.add(event);
@@ -54,9 +55,12 @@ public class DeleteContactFromEventCommandTest {
                 new DeleteContactFromEventCommand(Index.fromOneBased(1), contact);
         CommandResult result = command.execute(modelStub);
 
-        // After deletion, the event should no longer contain the contact.
-        assertFalse(event.getContacts().contains(contact));
-        String expectedMessage = String.format(DeleteContactFromEventCommand.MESSAGE_DELETE_CONTACT_SUCCESS, event);
+        // After deletion, the event should be replaced by a copy that no longer contains the contact.
+        Event updatedEvent = modelStub.events.get(0);
+        assertFalse(updatedEvent.hasContact(contact));
+        assertTrue(event.hasContact(contact));
+        String expectedMessage = String.format(DeleteContactFromEventCommand.MESSAGE_DELETE_CONTACT_SUCCESS,
+                Messages.format(updatedEvent, modelStub));
         assertEquals(expectedMessage, result.getFeedbackToUser());
     }
 
@@ -80,7 +84,7 @@ public class DeleteContactFromEventCommandTest {
                 "Hall A",
                 "Tech Workshop",
                 null,
-                new UniquePersonList()
+                new HashSet<>()
         );
         modelStub.events.add(event);
 
@@ -123,6 +127,11 @@ public class DeleteContactFromEventCommandTest {
             return FXCollections.observableList(events);
         }
 
+        @Override
+        public Person getPersonByName(Name name) {
+            return createDummyPerson(name.fullName);
+        }
+
         @Override
         public void updateEvent(Event originalEvent, Event updatedEvent) {
             int index = events.indexOf(originalEvent);
@@ -4,13 +4,14 @@ import static java.util.Objects.requireNonNull;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.util.HashSet;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.DateParserUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.event.Event;
-import seedu.address.model.person.UniquePersonList;
 import seedu.address.testutil.ModelStub;
 
 class DeleteEventCommandTest {
@@ -29,7 +30,7 @@ class DeleteEventCommandTest {
                 null,
                 null,
                 null,
-                new UniquePersonList()
+                new HashSet<>()
         );
         // Add the event to the stub's list so that it can be found and then deleted.
         modelStub.events.add(validEvent);
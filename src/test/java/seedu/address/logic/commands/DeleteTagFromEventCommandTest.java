@@ -13,9 +13,9 @@ import org.junit.jupiter.api.Test;
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.index.Index;
+import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.event.Event;
-import seedu.address.model.person.UniquePersonList;
 import seedu.address.model.tag.Tag;
 import seedu.address.testutil.ModelStub;
 
@@ -43,7 +43,7 @@ public class DeleteTagFromEventCommandTest {
                 "Room B",
                 "Discuss budget",
                 tags,
-                new UniquePersonList()
+                new HashSet<>()
         );
         modelStub.events.add(event);
 
@@ -51,7 +51,8 @@ public class DeleteTagFromEventCommandTest {
         CommandResult result = command.execute(modelStub);
 
         Event updatedEvent = event.withRemovedTag(tag);
-        String expectedMessage = String.format(DeleteTagFromEventCommand.MESSAGE_DELETE_TAG_SUCCESS, updatedEvent);
+        String expectedMessage = String.format(DeleteTagFromEventCommand.MESSAGE_DELETE_TAG_SUCCESS,
+                Messages.format(updatedEvent, modelStub));
         assertEquals(expectedMessage, result.getFeedbackToUser());
         assertEquals(updatedEvent, modelStub.events.get(0));
     }
@@ -67,7 +68,7 @@ public class DeleteTagFromEventCommandTest {
                 "Room B",
                 "Discuss budget",
                 new HashSet<>(),
-                new UniquePersonList()
+                new HashSet<>()
         );
         modelStub.events.add(event);
 
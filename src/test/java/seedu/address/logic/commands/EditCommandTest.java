@@ -15,6 +15,11 @@ import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
 import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.index.Index;
@@ -24,6 +29,8 @@ import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.testutil.EditPersonDescriptorBuilder;
 import seedu.address.testutil.PersonBuilder;
@@ -35,6 +42,24 @@ public class EditCommandTest {
 
     private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
 
+    @Test
+    public void execute_nameOfEventAttendeeEdited_eventContactsFollowEditedPerson() throws Exception {
+        Person attendee = model.getFilteredPersonList().get(0);
+        Event meeting = new Event("Meeting", LocalDateTime.of(2024, 1, 1, 10, 0), null, null, null,
+                new HashSet<>());
+        meeting.addContact(attendee);
+        model.addEvent(meeting);
+
+        EditPersonDescriptor descriptor = new EditPersonDescriptorBuilder().withName(VALID_NAME_BOB).build();
+        new EditCommand(INDEX_FIRST_PERSON, descriptor).execute(model);
+
+        Person editedPerson = model.getPersonByName(new Name(VALID_NAME_BOB));
+        Event updatedMeeting = model.getAddressBook().getEventList().get(0);
+        assertEquals(Set.of(editedPerson.getId()), updatedMeeting.getContactIds());
+        assertEquals(List.of(updatedMeeting), model.getEventsForPerson(editedPerson));
+        assertTrue(model.getEventsForPerson(attendee).isEmpty());
+    }
+
     @Test
     public void execute_allFieldsSpecifiedUnfilteredList_success() {
         Person editedPerson = new PersonBuilder().build();
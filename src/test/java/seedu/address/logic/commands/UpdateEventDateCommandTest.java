@@ -6,15 +6,16 @@ import static seedu.address.testutil.Assert.assertThrows;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashSet;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.index.Index;
+import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.event.Event;
-import seedu.address.model.person.UniquePersonList;
 import seedu.address.testutil.ModelStub;
 
 public class UpdateEventDateCommandTest {
@@ -38,7 +39,7 @@ public class UpdateEventDateCommandTest {
                 null,
                 null,
                 null,
-                new UniquePersonList()
+                new HashSet<>()
         );
         // Add the event to the model's list so it can be updated.
         modelStub.events.add(event);
@@ -49,7 +50,8 @@ public class UpdateEventDateCommandTest {
 
         // Create an expected updated event.
         Event updatedEvent = event.withUpdatedDate(newDate);
-        String expectedMessage = String.format(UpdateEventDateCommand.MESSAGE_UPDATE_DATE_SUCCESS, updatedEvent);
+        String expectedMessage = String.format(UpdateEventDateCommand.MESSAGE_UPDATE_DATE_SUCCESS,
+                Messages.format(updatedEvent, modelStub));
         assertEquals(expectedMessage, result.getFeedbackToUser());
         // Check that the event in the model has been updated.
         assertEquals(updatedEvent, modelStub.events.get(0));
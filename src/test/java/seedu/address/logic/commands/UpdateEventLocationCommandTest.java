@@ -6,15 +6,16 @@ import static seedu.address.testutil.Assert.assertThrows;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashSet;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.index.Index;
+import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.event.Event;
-import seedu.address.model.person.UniquePersonList;
 import seedu.address.testutil.ModelStub;
 
 public class UpdateEventLocationCommandTest {
@@ -38,7 +39,7 @@ public class UpdateEventLocationCommandTest {
                 originalLocation,
                 null,
                 null,
-                new UniquePersonList()
+                new HashSet<>()
         );
         modelStub.events.add(event);
 
@@ -49,7 +50,8 @@ public class UpdateEventLocationCommandTest {
 
         Event updatedEvent = event.withUpdatedLocation(newLocation);
         String expectedMessage =
-            String.format(UpdateEventLocationCommand.MESSAGE_UPDATE_LOCATION_SUCCESS, updatedEvent);
+            String.format(UpdateEventLocationCommand.MESSAGE_UPDATE_LOCATION_SUCCESS,
+                    Messages.format(updatedEvent, modelStub));
         assertEquals(expectedMessage, result.getFeedbackToUser());
         assertEquals(updatedEvent, modelStub.events.get(0));
     }
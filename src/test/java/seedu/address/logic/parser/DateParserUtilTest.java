@@ -0,0 +1,73 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+
+public class DateParserUtilTest {
+
+    @Test
+    public void parseDate_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> DateParserUtil.parseDate(null));
+    }
+
+    @Test
+    public void parseDate_isoDateTime_returnsDateTime() throws Exception {
+        assertEquals(LocalDateTime.of(2026, 10, 20, 14, 0), DateParserUtil.parseDate("2026-10-20T14:00"));
+    }
+
+    @Test
+    public void parseDate_explicitDateTime_returnsDateTime() throws Exception {
+        assertEquals(LocalDateTime.of(2026, 10, 20, 14, 0), DateParserUtil.parseDate("2026-10-20 14:00"));
+        assertEquals(LocalDateTime.of(2026, 10, 20, 14, 0), DateParserUtil.parseDate("20/10/2026 14:00"));
+        assertEquals(LocalDateTime.of(2026, 1, 2, 9, 30), DateParserUtil.parseDate(" 2/1/2026 09:30 "));
+    }
+
+    @Test
+    public void parseDate_explicitDate_returnsEndOfDay() throws Exception {
+        assertEquals(LocalDateTime.of(2026, 10, 20, 23, 59, 59), DateParserUtil.parseDate("2026-10-20"));
+        assertEquals(LocalDateTime.of(2026, 10, 20, 23, 59, 59), DateParserUtil.parseDate("20/10/2026"));
+    }
+
+    @Test
+    public void parseDate_isoDateTimeWithFraction_returnsDateTime() throws Exception {
+        assertEquals(LocalDateTime.of(2026, 10, 20, 14, 0, 5, 250_000_000),
+                DateParserUtil.parseDate("2026-10-20T14:00:05.25"));
+    }
+
+    @Test
+    public void parseDate_leapDay_returnsEndOfDay() throws Exception {
+        assertEquals(LocalDateTime.of(2024, 2, 29, 23, 59, 59), DateParserUtil.parseDate("29/2/2024"));
+    }
+
+    @Test
+    public void parseDate_nonexistentDate_throwsParseException() {
+        assertThrows(ParseException.class, () -> DateParserUtil.parseDate("31/02/2026"));
+    }
+
+    @Test
+    public void parseDate_repeatedNaturalLanguageDate_returnsSameDateTime() throws Exception {
+        assertEquals(DateParserUtil.parseDate("tomorrow"), DateParserUtil.parseDate(" tomorrow "));
+    }
+
+    @Test
+    public void parseDate_naturalLanguageDate_loadsParser() throws Exception {
+        DateParserUtil.startWarmUp();
+        LocalDateTime tomorrow = DateParserUtil.parseDate("tomorrow");
+        assertEquals(LocalDate.now().plusDays(1), tomorrow.toLocalDate());
+        assertTrue(DateParserUtil.isNaturalLanguageParserReady());
+    }
+
+    @Test
+    public void parseDate_unparseableDate_throwsParseException() {
+        assertThrows(ParseException.class, "Unable to parse date/time: not a date", () ->
+                DateParserUtil.parseDate("not a date"));
+    }
+}
@@ -8,24 +8,26 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
-import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.DateParserUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBookChangeLog.Edit;
+import seedu.address.model.AddressBookChangeLog.ListName;
 import seedu.address.model.event.Event;
 import seedu.address.model.person.Person;
-import seedu.address.model.person.UniquePersonList;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.relationship.Relationship;
 import seedu.address.model.relationship.exceptions.RelationshipNotFoundException;
@@ -43,6 +45,24 @@ public class AddressBookTest {
         assertEquals(FXCollections.observableArrayList(), addressBook.getEventList());
     }
 
+    @Test
+    public void getVersion_changesOnlyWhenModified() {
+        long initialVersion = addressBook.getVersion();
+        addressBook.hasPerson(ALICE);
+        addressBook.getPersonById(ALICE.getId());
+        assertEquals(initialVersion, addressBook.getVersion());
+
+        addressBook.addPerson(ALICE);
+        long versionAfterAdd = addressBook.getVersion();
+        assertTrue(versionAfterAdd > initialVersion);
+
+        assertThrows(RelationshipNotFoundException.class, () -> addressBook.removeRelationship("1", "2", "friend"));
+        assertEquals(versionAfterAdd, addressBook.getVersion());
+
+        addressBook.removePerson(ALICE);
+        assertTrue(addressBook.getVersion() > versionAfterAdd);
+    }
+
     @Test
     public void resetData_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> addressBook.resetData(null));
@@ -204,47 +224,78 @@ public class AddressBookTest {
     }
 
     @Test
-    public void sortPersons_withComparator_sortsList() throws CommandException {
+    public void removePersonFromEvents_personInEvents_removesPersonFromEvents() throws ParseException {
         AddressBook addressBook = new AddressBook();
-        Person alice = new PersonBuilder().withName("Alice").build();
-        Person bob = new PersonBuilder().withName("Bob").build();
-        addressBook.addPerson(bob);
-        addressBook.addPerson(alice);
-
-        // Sort by name
-        addressBook.sortPersons(Comparator.comparing(person -> person.getName().fullName));
+        Person person = new PersonBuilder().withName("Alice").build();
+        Event event = new Event("Meeting", DateParserUtil.parseDate("2024-01-01"), null, null, null,
+                new HashSet<>());
+        event.addContact(person);
+        addressBook.addEvent(event);
+        addressBook.addPerson(person);
 
-        assertEquals(alice, addressBook.getPersonList().get(0));
-        assertEquals(bob, addressBook.getPersonList().get(1));
+        addressBook.removePerson(person);
+        assertFalse(addressBook.getEventById(event.getId()).hasContact(person));
+        // The event is replaced by a copy instead of being changed in place
+        assertTrue(event.hasContact(person));
     }
 
     @Test
-    public void sortPersons_nullComparator_throwsNullPointerException() {
+    public void removePersonFromEvents_personNotInEveryEvent_removesOnlyFromAttendedEvents() throws ParseException {
         AddressBook addressBook = new AddressBook();
-        assertThrows(NullPointerException.class, () -> addressBook.sortPersons(null));
+        Person alice = new PersonBuilder().withName("Alice").build();
+        Person bob = new PersonBuilder().withName("Bob").withPhone("22222222").build();
+        addressBook.addPerson(alice);
+        addressBook.addPerson(bob);
+        Event meeting = new Event("Meeting", DateParserUtil.parseDate("2024-01-01"), null, null, null,
+                new HashSet<>());
+        meeting.addContact(alice);
+        Event lunch = new Event("Lunch", DateParserUtil.parseDate("2024-01-02"), null, null, null,
+                new HashSet<>());
+        lunch.addContact(bob);
+        addressBook.addEvent(meeting);
+        addressBook.addEvent(lunch);
+
+        addressBook.removePerson(alice);
+        assertTrue(addressBook.getEventById(meeting.getId()).getContactIds().isEmpty());
+        assertEquals(Set.of(bob.getId()), addressBook.getEventById(lunch.getId()).getContactIds());
+        assertEquals(addressBook.getEventById(meeting.getId()), addressBook.getEventList().get(0));
+        assertTrue(addressBook.getEventsForPerson(alice).isEmpty());
     }
 
     @Test
-    public void removePersonFromEvents_personInEvents_removesPersonFromEvents() throws ParseException {
+    public void getEventsForPerson_contactsChangedInPlace_reflectsUpdatedEvent() throws ParseException {
         AddressBook addressBook = new AddressBook();
-        Person person = new PersonBuilder().withName("Alice").build();
-        Event event = new Event("Meeting", DateParserUtil.parseDate("2024-01-01"), null, null, null,
-                new UniquePersonList());
-        event.addContact(person);
-        addressBook.addEvent(event);
-        addressBook.addPerson(person);
+        Person alice = new PersonBuilder().withName("Alice").build();
+        addressBook.addPerson(alice);
+        Event meeting = new Event("Meeting", DateParserUtil.parseDate("2024-01-01"), null, null, null,
+                new HashSet<>());
+        Event lunch = new Event("Lunch", DateParserUtil.parseDate("2024-01-02"), null, null, null,
+                new HashSet<>());
+        addressBook.addEvent(meeting);
+        addressBook.addEvent(lunch);
+        assertTrue(addressBook.getEventsForPerson(alice).isEmpty());
 
-        addressBook.removePerson(person);
-        assertFalse(event.getContacts().contains(person));
+        lunch.addContact(alice);
+        addressBook.setEvent(lunch, lunch);
+        meeting.addContact(alice);
+        addressBook.setEvent(meeting, meeting);
+        assertEquals(List.of(lunch, meeting), addressBook.getEventsForPerson(alice));
+
+        meeting.deleteContact(alice);
+        addressBook.setEvent(meeting, meeting);
+        assertEquals(List.of(lunch), addressBook.getEventsForPerson(alice));
+
+        addressBook.deleteEvent(lunch);
+        assertTrue(addressBook.getEventsForPerson(alice).isEmpty());
     }
 
     @Test
     public void setEvent_validTargetAndEditedEvent_success() throws ParseException {
         AddressBook addressBook = new AddressBook();
         Event originalEvent = new Event("Meeting", DateParserUtil.parseDate("2024-01-01"), null, null, null,
-                new UniquePersonList());
+                new HashSet<>());
         Event editedEvent = new Event("Updated Meeting", DateParserUtil.parseDate("2024-01-02"), null, null, null,
-                new UniquePersonList());
+                new HashSet<>());
 
         addressBook.addEvent(originalEvent);
         addressBook.setEvent(originalEvent, editedEvent);
@@ -257,13 +308,67 @@ public class AddressBookTest {
     public void setEvent_targetEventNotFound_throwsIllegalArgumentException() throws ParseException {
         AddressBook addressBook = new AddressBook();
         Event originalEvent = new Event("Meeting", DateParserUtil.parseDate("2024-01-01"), null, null, null,
-                new UniquePersonList());
+                new HashSet<>());
         Event editedEvent = new Event("Updated Meeting", DateParserUtil.parseDate("2024-01-02"), null, null, null,
-                new UniquePersonList());
+                new HashSet<>());
 
         assertThrows(IllegalArgumentException.class, () -> addressBook.setEvent(originalEvent, editedEvent));
     }
 
+    @Test
+    public void getEventById_afterSetEvent_returnsEditedEvent() throws ParseException {
+        AddressBook addressBook = new AddressBook();
+        Event originalEvent = new Event("Meeting", DateParserUtil.parseDate("2024-01-01"), null, null, null,
+                new HashSet<>());
+        Event editedEvent = originalEvent.withUpdatedDescription("Bring slides");
+
+        addressBook.addEvent(originalEvent);
+        addressBook.setEvent(originalEvent, editedEvent);
+
+        assertEquals(editedEvent, addressBook.getEventById(originalEvent.getId()));
+        assertFalse(addressBook.hasEvent(originalEvent));
+        assertTrue(addressBook.hasEvent(editedEvent));
+    }
+
+    @Test
+    public void deleteEvent_existingEvent_removesEventAndIndexEntry() throws ParseException {
+        AddressBook addressBook = new AddressBook();
+        Event event = new Event("Meeting", DateParserUtil.parseDate("2024-01-01"), null, null, null,
+                new HashSet<>());
+
+        addressBook.addEvent(event);
+        addressBook.deleteEvent(event);
+
+        assertEquals(0, addressBook.getEventList().size());
+        assertNull(addressBook.getEventById(event.getId()));
+        assertFalse(addressBook.hasEvent(event));
+    }
+
+    @Test
+    public void deleteEvent_earlierEvent_laterEventsStillReplaceable() throws ParseException {
+        AddressBook addressBook = new AddressBook();
+        Person alice = new PersonBuilder().withName("Alice").build();
+        addressBook.addPerson(alice);
+        Event meeting = new Event("Meeting", DateParserUtil.parseDate("2024-01-01"), null, null, null,
+                new HashSet<>());
+        Event lunch = new Event("Lunch", DateParserUtil.parseDate("2024-01-02"), null, null, null,
+                new HashSet<>());
+        Event dinner = new Event("Dinner", DateParserUtil.parseDate("2024-01-03"), null, null, null,
+                new HashSet<>());
+        dinner.addContact(alice);
+        addressBook.addEvents(List.of(meeting, lunch, dinner));
+
+        addressBook.deleteEvent(meeting);
+        Event editedLunch = lunch.withUpdatedLocation("Cafe");
+        addressBook.setEvent(lunch, editedLunch);
+        addressBook.removePerson(alice);
+
+        assertEquals(2, addressBook.getEventList().size());
+        assertEquals(editedLunch, addressBook.getEventList().get(0));
+        assertEquals("Dinner", addressBook.getEventList().get(1).getName());
+        assertTrue(addressBook.getEventList().get(1).getContactIds().isEmpty());
+    }
+
     @Test
     public void updateRelationship_validTargetAndUpdatedRelationship_success() {
         AddressBook addressBook = new AddressBook();
@@ -305,7 +410,7 @@ public class AddressBookTest {
         AddressBook addressBook1 = new AddressBook();
         AddressBook addressBook2 = new AddressBook();
         Event event = new Event("Meeting", DateParserUtil.parseDate("2024-01-01"), null, null, null,
-                new UniquePersonList());
+                new HashSet<>());
 
         addressBook1.addEvent(event);
         addressBook2.addEvent(event);
@@ -319,7 +424,7 @@ public class AddressBookTest {
         AddressBook addressBook2 = new AddressBook();
         Person person = new PersonBuilder().build();
         Event event = new Event("Meeting", DateParserUtil.parseDate("2024-01-01"), null, null, null,
-                new UniquePersonList());
+                new HashSet<>());
         Relationship relationship = new RelationshipBuilder().build();
 
         addressBook1.addPerson(person);
@@ -333,6 +438,74 @@ public class AddressBookTest {
         assertEquals(addressBook1.hashCode(), addressBook2.hashCode());
     }
 
+    @Test
+    public void snapshot_matchesContents() throws ParseException {
+        AddressBook addressBook = getTypicalAddressBook();
+        Relationship relationship = new RelationshipBuilder().build();
+        addressBook.addRelationship(relationship);
+        addressBook.addEvent(new Event("Meeting", DateParserUtil.parseDate("2024-01-01"), null, null, null,
+                new HashSet<>()));
+
+        AddressBookSnapshot snapshot = addressBook.snapshot();
+
+        assertEquals(addressBook.getPersonList(), snapshot.getPersonList());
+        assertEquals(addressBook.getRelationshipList(), snapshot.getRelationshipList());
+        assertEquals(addressBook.getEventList(), snapshot.getEventList());
+        assertEquals(addressBook.getVersion(), snapshot.getVersion());
+        assertEquals(addressBook, new AddressBook(snapshot));
+    }
+
+    @Test
+    public void snapshot_addressBookChangedAfterwards_snapshotUnchanged() throws ParseException {
+        AddressBook addressBook = getTypicalAddressBook();
+        Person alice = addressBook.getPersonList().get(0);
+        Event meeting = new Event("Meeting", DateParserUtil.parseDate("2024-01-01"), null, null, null,
+                new HashSet<>());
+        meeting.addContact(alice);
+        addressBook.addEvent(meeting);
+        List<Person> personsBefore = List.copyOf(addressBook.getPersonList());
+        AddressBookSnapshot snapshot = addressBook.snapshot();
+
+        addressBook.removePerson(alice);
+        addressBook.addPerson(new PersonBuilder(alice).withName("Alice Changed").build());
+        addressBook.addRelationship(new RelationshipBuilder().build());
+
+        assertEquals(personsBefore, snapshot.getPersonList());
+        assertTrue(snapshot.getRelationshipList().isEmpty());
+        assertTrue(snapshot.getEventList().get(0).hasContact(alice));
+        assertFalse(addressBook.getEventList().get(0).hasContact(alice));
+        assertTrue(snapshot.getVersion() < addressBook.getVersion());
+    }
+
+    @Test
+    public void snapshot_ofSnapshotOrAddressBook_sharesContents() {
+        AddressBook addressBook = getTypicalAddressBook();
+        AddressBookSnapshot snapshot = AddressBookSnapshot.of(addressBook);
+
+        assertTrue(snapshot == AddressBookSnapshot.of(snapshot));
+        assertEquals(addressBook.getPersonList(), snapshot.getPersonList());
+        assertThrows(UnsupportedOperationException.class, () -> snapshot.getPersonList().remove(0));
+    }
+
+    @Test
+    public void snapshot_changeLog_listsEditsBetweenSnapshots() {
+        AddressBook addressBook = getTypicalAddressBook();
+        Person alice = addressBook.getPersonList().get(0);
+        AddressBookChangeLog before = addressBook.snapshot().getChangeLogPosition().get();
+
+        addressBook.addPerson(HOON);
+        addressBook.removePerson(alice);
+        AddressBookChangeLog after = addressBook.snapshot().getChangeLogPosition().get();
+
+        List<Edit> edits = before.getEditsUntil(after).get();
+        assertEquals(List.of(new Edit(ListName.PERSONS, 7, HOON), new Edit(ListName.PERSONS, 0, null)), edits);
+        assertTrue(after.getEditsUntil(after).get().isEmpty());
+        assertFalse(after.getEditsUntil(before).isPresent());
+        assertFalse(before.getEditsUntil(getTypicalAddressBook().snapshot().getChangeLogPosition().get())
+                .isPresent());
+        assertFalse(AddressBookSnapshot.of(new AddressBookStub(List.of())).getChangeLogPosition().isPresent());
+    }
+
     /**
      * A stub ReadOnlyAddressBook whose persons list can violate interface constraints.
      */
@@ -359,5 +532,10 @@ public class AddressBookTest {
         public ObservableList<Event> getEventList() {
             return events;
         }
+
+        @Override
+        public long getVersion() {
+            return 0;
+        }
     }
 }
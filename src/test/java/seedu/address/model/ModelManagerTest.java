@@ -10,6 +10,7 @@ import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_RELATIONSHIPS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.AMY;
 import static seedu.address.testutil.TypicalPersons.BENSON;
 import static seedu.address.testutil.TypicalPersons.BOB;
 import static seedu.address.testutil.TypicalPersons.CARL;
@@ -18,6 +19,9 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -29,10 +33,14 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.logic.parser.DateParserUtil;
 import seedu.address.model.event.Event;
 import seedu.address.model.person.Person;
-import seedu.address.model.person.UniquePersonList;
+import seedu.address.model.predicate.AddressContainsKeywordsAsSubstringPredicate;
+import seedu.address.model.predicate.NameContainsKeywordsAsSubstringPredicate;
 import seedu.address.model.predicate.NameContainsKeywordsPredicate;
+import seedu.address.model.predicate.RelationshipContainsKeywordsAsSubstringPredicate;
+import seedu.address.model.predicate.TagContainsKeywordsAsSubstringPredicate;
 import seedu.address.model.relationship.Relationship;
 import seedu.address.model.relationship.exceptions.RelationshipNotFoundException;
+import seedu.address.model.tag.Tag;
 import seedu.address.testutil.AddressBookBuilder;
 import seedu.address.testutil.PersonBuilder;
 import seedu.address.testutil.RelationshipBuilder;
@@ -163,6 +171,26 @@ public class ModelManagerTest {
         assertEquals(ALICE, sortedList.get(2));
     }
 
+    @Test
+    public void updateSortedPersonList_validComparator_keepsAddressBookOrder() throws CommandException {
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(ALICE);
+
+        modelManager.updateSortedPersonList(Comparator.comparing(p -> p.getName().toString()));
+        assertEquals(List.of(ALICE, BENSON), modelManager.getSortedFilteredPersonList());
+        assertEquals(List.of(BENSON, ALICE), modelManager.getAddressBook().getPersonList());
+
+        // added persons take their sorted position
+        modelManager.addPerson(CARL);
+        modelManager.addPerson(AMY);
+        assertEquals(List.of(ALICE, AMY, BENSON, CARL), modelManager.getSortedFilteredPersonList());
+    }
+
+    @Test
+    public void updateSortedPersonList_nullComparator_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> modelManager.updateSortedPersonList(null));
+    }
+
     @Test
     public void hasRelationship_nullRelationship_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> modelManager.hasRelationship(null));
@@ -318,7 +346,7 @@ public class ModelManagerTest {
 
     private Event createSampleEvent(String name) {
         try {
-            return new Event(name, DateParserUtil.parseDate("2025-01-01"), null, null, null, new UniquePersonList());
+            return new Event(name, DateParserUtil.parseDate("2025-01-01"), null, null, null, new HashSet<>());
         } catch (Exception e) {
             throw new RuntimeException(e);
         }
@@ -391,11 +419,66 @@ public class ModelManagerTest {
         assertEquals(event, modelManager.getEventById(event.getId()));
     }
 
+    @Test
+    public void getEventById_eventHiddenByFilter_returnsEvent() {
+        Event event = createSampleEvent("Meeting");
+        modelManager.addEvent(event);
+        modelManager.updateFilteredEventList(unused -> false);
+        assertEquals(event, modelManager.getEventById(event.getId()));
+    }
+
     @Test
     public void getEventById_eventDoesNotExist_returnsNull() {
         assertNull(modelManager.getEventById("nonexistent-id"));
     }
 
+    @Test
+    public void updateFilteredPersonList_substringPredicate_matchesAfterEditAndDelete() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(CARL);
+        Person editedBenson = new PersonBuilder(BENSON).withAddress("Pauline Street").build();
+        modelManager.setPerson(BENSON, editedBenson);
+        modelManager.deletePerson(CARL);
+
+        modelManager.updateFilteredPersonList(new AddressContainsKeywordsAsSubstringPredicate(List.of("PAULINE")));
+        assertEquals(List.of(editedBenson), modelManager.getFilteredPersonList());
+
+        modelManager.updateFilteredPersonList(new NameContainsKeywordsAsSubstringPredicate(List.of("kurz", "e")));
+        assertEquals(List.of(ALICE, editedBenson), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_tagPredicate_usesCurrentTags() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        Person retaggedAlice = new PersonBuilder(ALICE).withTags("colleagues").build();
+        modelManager.setPerson(ALICE, retaggedAlice);
+
+        modelManager.updateFilteredPersonList(new TagContainsKeywordsAsSubstringPredicate(Set.of(new Tag("FRIEND"))));
+        assertEquals(List.of(BENSON), modelManager.getFilteredPersonList());
+
+        modelManager.updateFilteredPersonList(new TagContainsKeywordsAsSubstringPredicate(Set.of(new Tag("league"))));
+        assertEquals(List.of(retaggedAlice), modelManager.getFilteredPersonList());
+    }
+
+    @Test
+    public void updateFilteredPersonList_relationshipPredicate_matchesRoleHolders() {
+        modelManager.addPerson(ALICE);
+        modelManager.addPerson(BENSON);
+        modelManager.addPerson(CARL);
+        modelManager.addRelationship(new RelationshipBuilder().withUser1Id(ALICE.getId()).withUser2Id(BENSON.getId())
+                .withForwardName("Manager").withReverseName("Report").build());
+
+        modelManager.updateFilteredPersonList(
+                new RelationshipContainsKeywordsAsSubstringPredicate(List.of("MANAGE"), modelManager));
+        assertEquals(List.of(ALICE), modelManager.getFilteredPersonList());
+
+        modelManager.updateFilteredPersonList(
+                new RelationshipContainsKeywordsAsSubstringPredicate(List.of("report", "boss"), modelManager));
+        assertEquals(List.of(BENSON), modelManager.getFilteredPersonList());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withPerson(ALICE).withPerson(BENSON).build();
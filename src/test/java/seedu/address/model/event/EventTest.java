@@ -10,7 +10,6 @@ import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
-import seedu.address.model.person.UniquePersonList;
 import seedu.address.model.tag.Tag;
 
 public class EventTest {
@@ -19,7 +18,7 @@ public class EventTest {
     public void getTags_modifyList_throwsUnsupportedOperationException() {
         Set<Tag> tags = new HashSet<>();
         tags.add(new Tag("finance"));
-        UniquePersonList contacts = new UniquePersonList();
+        Set<String> contacts = new HashSet<>();
         Event event = new Event("00000001", "Meeting", LocalDateTime.of(2025, 5, 20, 14, 0),
                 "Room A", "Discuss Budget", tags, contacts);
         assertThrows(UnsupportedOperationException.class, () -> event.getTags().remove(new Tag("finance")));
@@ -29,7 +28,7 @@ public class EventTest {
     public void equals_sameValues_returnsTrue() {
         Set<Tag> tags = new HashSet<>();
         tags.add(new Tag("finance"));
-        UniquePersonList contacts = new UniquePersonList();
+        Set<String> contacts = new HashSet<>();
         Event event1 = new Event("00000001", "Meeting", LocalDateTime.of(2025, 5, 20, 14, 0),
                 "Room A", "Discuss Budget", tags, contacts);
         Event event2 = new Event("00000001", "Meeting", LocalDateTime.of(2025, 5, 20, 14, 0),
@@ -41,7 +40,7 @@ public class EventTest {
     public void equals_differentValues_returnsFalse() {
         Set<Tag> tags = new HashSet<>();
         tags.add(new Tag("finance"));
-        UniquePersonList contacts = new UniquePersonList();
+        Set<String> contacts = new HashSet<>();
         Event event1 = new Event("00000001", "Meeting", LocalDateTime.of(2025, 5, 20, 14, 0),
                 "Room A", "Discuss Budget", tags, contacts);
         // Different name
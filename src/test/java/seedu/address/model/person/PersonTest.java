@@ -13,6 +13,9 @@ import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
 
+import java.util.HashSet;
+import java.util.Set;
+
 import org.junit.jupiter.api.Test;
 
 import seedu.address.testutil.PersonBuilder;
@@ -91,6 +94,19 @@ public class PersonTest {
         assertNotEquals(ALICE, editedAlice);
     }
 
+    @Test
+    public void getSearchKeys_returnsLowerCaseFields() {
+        Person person = new PersonBuilder().withName("Alice Pauline").withEmail("Alice@Example.com")
+                .withAddress("123, Jurong West").withTags("Friends", "OWES").build();
+        PersonSearchKeys searchKeys = person.getSearchKeys();
+
+        assertEquals("alice pauline", searchKeys.getName());
+        assertEquals("alice@example.com", searchKeys.getEmail());
+        assertEquals("123, jurong west", searchKeys.getAddress());
+        assertEquals(person.getPhone().value, searchKeys.getPhone());
+        assertEquals(Set.of("friends", "owes"), new HashSet<>(searchKeys.getTagNames()));
+    }
+
     @Test
     public void toStringMethod() {
         String expected = Person.class.getCanonicalName() + "{name=" + ALICE.getName() + ", phone=" + ALICE.getPhone()
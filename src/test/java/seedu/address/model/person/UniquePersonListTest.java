@@ -2,6 +2,7 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_HUSBAND;
@@ -58,6 +59,50 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(ALICE));
     }
 
+    @Test
+    public void addAll_newPersons_addsInOrder() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.addAll(List.of(BOB));
+        assertEquals(List.of(ALICE, BOB), uniquePersonList.asUnmodifiableObservableList());
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void addAll_personAlreadyInList_throwsDuplicatePersonException() {
+        uniquePersonList.add(ALICE);
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addAll(List.of(BOB, ALICE)));
+        assertFalse(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void addAll_duplicatePersons_throwsDuplicatePersonException() {
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.addAll(List.of(ALICE, ALICE)));
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void contains_personRemoved_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void contains_afterSetPersonWithDifferentIdentity_tracksEditedPerson() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
+    @Test
+    public void contains_afterSetPersons_tracksReplacementPersons() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPersons(Collections.singletonList(BOB));
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
     @Test
     public void setPerson_nullTargetPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.setPerson(null, ALICE));
@@ -162,6 +207,74 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniquePersonList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void getPersonById_personInList_returnsPerson() {
+        uniquePersonList.add(ALICE);
+        assertEquals(ALICE, uniquePersonList.getPersonById(ALICE.getId()));
+    }
+
+    @Test
+    public void getPersonByName_personWithSameIdentityInList_returnsStoredPerson() {
+        uniquePersonList.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withAddress(VALID_ADDRESS_BOB).build();
+        assertEquals(ALICE, uniquePersonList.getPersonByName(editedAlice.getName()));
+        assertNull(uniquePersonList.getPersonByName(BOB.getName()));
+    }
+
+    @Test
+    public void getPersonById_personNotInList_returnsNull() {
+        uniquePersonList.add(ALICE);
+        assertNull(uniquePersonList.getPersonById(BOB.getId()));
+    }
+
+    @Test
+    public void getPersonById_afterRemove_returnsNull() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertNull(uniquePersonList.getPersonById(ALICE.getId()));
+    }
+
+    @Test
+    public void getPersonById_afterSetPerson_returnsEditedPerson() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertNull(uniquePersonList.getPersonById(ALICE.getId()));
+        assertEquals(BOB, uniquePersonList.getPersonById(BOB.getId()));
+    }
+
+    @Test
+    public void getPersonById_afterSetPersons_returnsReplacementPersons() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPersons(Collections.singletonList(BOB));
+        assertNull(uniquePersonList.getPersonById(ALICE.getId()));
+        assertEquals(BOB, uniquePersonList.getPersonById(BOB.getId()));
+    }
+
+    @Test
+    public void getPersonById_sharedIdHolderRemoved_returnsNextHolder() {
+        Person aliceWithBobId = withId(ALICE, BOB.getId());
+        uniquePersonList.add(aliceWithBobId);
+        uniquePersonList.add(BOB);
+        assertEquals(aliceWithBobId, uniquePersonList.getPersonById(BOB.getId()));
+        uniquePersonList.remove(aliceWithBobId);
+        assertEquals(BOB, uniquePersonList.getPersonById(BOB.getId()));
+    }
+
+    @Test
+    public void getPersonById_sharedIdHolderEdited_returnsFirstHolderInList() {
+        Person aliceWithBobId = withId(ALICE, BOB.getId());
+        uniquePersonList.add(aliceWithBobId);
+        uniquePersonList.add(BOB);
+        uniquePersonList.setPerson(aliceWithBobId, ALICE);
+        assertEquals(BOB, uniquePersonList.getPersonById(BOB.getId()));
+        assertEquals(ALICE, uniquePersonList.getPersonById(ALICE.getId()));
+
+        // Giving the first person in the list the shared ID again makes it the holder again
+        uniquePersonList.setPerson(ALICE, aliceWithBobId);
+        assertEquals(aliceWithBobId, uniquePersonList.getPersonById(BOB.getId()));
+        assertNull(uniquePersonList.getPersonById(ALICE.getId()));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -172,4 +285,9 @@ public class UniquePersonListTest {
     public void toStringMethod() {
         assertEquals(uniquePersonList.asUnmodifiableObservableList().toString(), uniquePersonList.toString());
     }
+
+    private static Person withId(Person person, String id) {
+        return new Person(person.getName(), person.getPhone(), person.getEmail(), person.getAddress(),
+                person.getSocials(), person.getTags(), id);
+    }
 }
@@ -21,6 +21,7 @@ import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.event.Event;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.relationship.Relationship;
 import seedu.address.model.relationship.exceptions.RelationshipNotFoundException;
@@ -191,6 +192,11 @@ public class RelationshipContainsKeywordsAsSubstringPredicateTest {
             throw new UnsupportedOperationException();
         }
 
+        @Override
+        public void addPersons(List<Person> persons) {
+            throw new UnsupportedOperationException();
+        }
+
         @Override
         public void setPerson(Person target, Person editedPerson) {
             throw new UnsupportedOperationException();
@@ -241,6 +247,11 @@ public class RelationshipContainsKeywordsAsSubstringPredicateTest {
             throw new UnsupportedOperationException();
         }
 
+        @Override
+        public void addRelationships(List<Relationship> relationships) {
+            throw new UnsupportedOperationException();
+        }
+
         @Override
         public void deleteRelationship(String userId1, String userId2, String relationshipName)
                 throws RelationshipNotFoundException {
@@ -262,6 +273,11 @@ public class RelationshipContainsKeywordsAsSubstringPredicateTest {
             throw new UnsupportedOperationException();
         }
 
+        @Override
+        public void addEvents(List<Event> events) {
+            throw new UnsupportedOperationException();
+        }
+
         @Override
         public void deleteEvent(Event event) {
             throw new UnsupportedOperationException();
@@ -282,6 +298,16 @@ public class RelationshipContainsKeywordsAsSubstringPredicateTest {
             throw new UnsupportedOperationException();
         }
 
+        @Override
+        public Person getPersonByName(Name name) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<Event> getEventsForPerson(Person person) {
+            throw new UnsupportedOperationException();
+        }
+
         @Override
         public void updateEvent(Event target, Event updatedEvent) {
             throw new UnsupportedOperationException();
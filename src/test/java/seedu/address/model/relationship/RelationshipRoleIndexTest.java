@@ -0,0 +1,47 @@
+package seedu.address.model.relationship;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class RelationshipRoleIndexTest {
+
+    private final RelationshipRoleIndex index = new RelationshipRoleIndex();
+
+    @Test
+    public void findUserIdsWithRoleContaining_forwardAndReverseNames_matchesRespectiveUsers() {
+        index.add(new Relationship("1", "2", "Boss of", "Reports to", new HashSet<>()));
+
+        assertEquals(Set.of("1"), index.findUserIdsWithRoleContaining(List.of("BOSS")));
+        assertEquals(Set.of("2"), index.findUserIdsWithRoleContaining(List.of("report")));
+        assertEquals(Set.of("1", "2"), index.findUserIdsWithRoleContaining(List.of("boss", "reports")));
+        assertTrue(index.findUserIdsWithRoleContaining(List.of("friend")).isEmpty());
+    }
+
+    @Test
+    public void findUserIdsWithRoleContaining_selfRelationship_onlyForwardNameMatches() {
+        index.add(new Relationship("1", "1", "Mentor", "Mentee", new HashSet<>()));
+
+        assertEquals(Set.of("1"), index.findUserIdsWithRoleContaining(List.of("mentor")));
+        assertTrue(index.findUserIdsWithRoleContaining(List.of("mentee")).isEmpty());
+    }
+
+    @Test
+    public void remove_sharedRole_keepsOtherHolders() {
+        Relationship first = new Relationship("1", "2", "Friend", "Friend", new HashSet<>());
+        Relationship second = new Relationship("1", "3", "Friend", "Friend", new HashSet<>());
+        index.add(first);
+        index.add(second);
+
+        index.remove(first);
+        assertEquals(Set.of("1", "3"), index.findUserIdsWithRoleContaining(List.of("friend")));
+
+        index.remove(second);
+        assertTrue(index.findUserIdsWithRoleContaining(List.of("friend")).isEmpty());
+    }
+}
@@ -163,6 +163,66 @@ public class UniqueRelationshipListTest {
         assertEquals(1, uniqueRelationshipList.asUnmodifiableObservableList().size());
     }
 
+    @Test
+    public void removeRelationshipsInvolvingUser_otherRelationships_keptAndStillIndexed() {
+        Relationship r1 = new RelationshipBuilder()
+                .withUser1Id("1")
+                .withUser2Id("2")
+                .build();
+        Relationship r2 = new RelationshipBuilder()
+                .withUser1Id("2")
+                .withUser2Id("3")
+                .build();
+        uniqueRelationshipList.add(r1);
+        uniqueRelationshipList.add(r2);
+
+        assertTrue(uniqueRelationshipList.removeRelationshipsInvolvingUser("1"));
+        assertFalse(uniqueRelationshipList.hasAnyRelationshipBetween("2", "1"));
+        assertTrue(uniqueRelationshipList.hasAnyRelationshipBetween("3", "2"));
+        assertEquals(List.of(r2), uniqueRelationshipList.asUnmodifiableObservableList());
+        assertFalse(uniqueRelationshipList.removeRelationshipsInvolvingUser("1"));
+    }
+
+    @Test
+    public void remove_existingRelationship_removesFromLookups() {
+        Relationship r = new RelationshipBuilder().build();
+        uniqueRelationshipList.add(r);
+        uniqueRelationshipList.remove(r.getSecondUserId(), r.getFirstUserId(), r.getReverseName());
+
+        assertFalse(uniqueRelationshipList.contains(r));
+        assertFalse(uniqueRelationshipList.hasAnyRelationshipBetween(r.getFirstUserId(), r.getSecondUserId()));
+        assertEquals(0, uniqueRelationshipList.asUnmodifiableObservableList().size());
+    }
+
+    @Test
+    public void setRelationship_validTarget_updatesLookups() {
+        Relationship original = new RelationshipBuilder().build();
+        uniqueRelationshipList.add(original);
+        Relationship edited = new RelationshipBuilder().withForwardName("NewName").build();
+        uniqueRelationshipList.setRelationship(original, edited);
+
+        assertFalse(uniqueRelationshipList.contains(original));
+        assertTrue(uniqueRelationshipList.contains(edited));
+    }
+
+    @Test
+    public void setRelationships_list_rebuildsLookups() {
+        Relationship r1 = new RelationshipBuilder()
+                .withUser1Id("1")
+                .withUser2Id("2")
+                .build();
+        Relationship r2 = new RelationshipBuilder()
+                .withUser1Id("3")
+                .withUser2Id("4")
+                .build();
+        uniqueRelationshipList.add(r1);
+        uniqueRelationshipList.setRelationships(List.of(r2));
+
+        assertFalse(uniqueRelationshipList.hasAnyRelationshipBetween("1", "2"));
+        assertTrue(uniqueRelationshipList.hasAnyRelationshipBetween("4", "3"));
+        assertTrue(uniqueRelationshipList.removeRelationshipsInvolvingUser("3"));
+    }
+
     @Test
     public void getRelationship_existingRelationship_returnsRelationship() {
         Relationship r = new RelationshipBuilder().build();
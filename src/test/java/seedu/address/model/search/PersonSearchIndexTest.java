@@ -0,0 +1,53 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonSearchIndexTest {
+
+    private final PersonSearchIndex index = new PersonSearchIndex();
+
+    @Test
+    public void findCandidates_multipleKeywords_returnsUnionOfCandidates() {
+        index.setPersons(List.of(ALICE, BENSON, DANIEL));
+        assertEquals(Optional.of(Set.of(ALICE.getName(), BENSON.getName())),
+                index.findCandidates(SearchField.NAME, List.of("pauline", "benson")));
+    }
+
+    @Test
+    public void findCandidates_shortKeyword_returnsEmptyOptional() {
+        index.setPersons(List.of(ALICE, BENSON));
+        assertEquals(Optional.empty(), index.findCandidates(SearchField.NAME, List.of("pauline", "be")));
+    }
+
+    @Test
+    public void findCandidates_fieldsIndexedSeparately() {
+        index.setPersons(List.of(ALICE, BENSON));
+        assertEquals(Optional.of(Set.of(ALICE.getName())),
+                index.findCandidates(SearchField.EMAIL, List.of("alice@")));
+        assertEquals(Optional.of(Set.of()), index.findCandidates(SearchField.ADDRESS, List.of("alice@")));
+    }
+
+    @Test
+    public void remove_editedPerson_candidatesFollowEdit() {
+        index.add(ALICE);
+        Person editedAlice = new PersonBuilder(ALICE).withPhone("11112222").build();
+        index.remove(ALICE);
+        index.add(editedAlice);
+
+        assertEquals(Optional.of(Set.of()), index.findCandidates(SearchField.PHONE, List.of("9435")));
+        assertEquals(Optional.of(Set.of(ALICE.getName())),
+                index.findCandidates(SearchField.PHONE, List.of("1122")));
+    }
+}
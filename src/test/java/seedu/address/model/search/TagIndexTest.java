@@ -0,0 +1,46 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.tag.Tag;
+
+public class TagIndexTest {
+
+    private static final Tag FRIENDS = new Tag("friends");
+    private static final Tag OWES_MONEY = new Tag("owesMoney");
+
+    private final TagIndex<String> index = new TagIndex<>();
+
+    @Test
+    public void findKeysWithTagContaining_substringIgnoringCase_returnsUnionOfPostings() {
+        index.add("alice", Set.of(FRIENDS));
+        index.add("benson", Set.of(FRIENDS, OWES_MONEY));
+        index.add("carl", Set.of());
+
+        assertEquals(Set.of("benson"), index.findKeysWithTagContaining(List.of("MONEY")));
+        assertEquals(Set.of("alice", "benson"), index.findKeysWithTagContaining(List.of("xyz", "fri")));
+        assertTrue(index.findKeysWithTagContaining(List.of("colleague")).isEmpty());
+    }
+
+    @Test
+    public void remove_lastKeyWithTag_tagNoLongerMatches() {
+        index.add("alice", Set.of(FRIENDS));
+        index.add("benson", Set.of(FRIENDS, OWES_MONEY));
+        index.remove("benson", Set.of(FRIENDS, OWES_MONEY));
+
+        assertEquals(Set.of("alice"), index.findKeysWithTagContaining(List.of("e")));
+    }
+
+    @Test
+    public void clear_taggedKeys_removesAllKeys() {
+        index.add("alice", Set.of(FRIENDS));
+        index.clear();
+        assertTrue(index.findKeysWithTagContaining(List.of("friends")).isEmpty());
+    }
+}
@@ -0,0 +1,62 @@
+package seedu.address.model.search;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.Optional;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class TrigramIndexTest {
+
+    private final TrigramIndex<String> index = new TrigramIndex<>();
+
+    @Test
+    public void add_nullArguments_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> index.add(null, "text"));
+        assertThrows(NullPointerException.class, () -> index.add("key", null));
+    }
+
+    @Test
+    public void findCandidates_keywordShorterThanGram_returnsEmptyOptional() {
+        index.add("alice", "Alice Pauline");
+        assertEquals(Optional.empty(), index.findCandidates("al"));
+        assertEquals(Optional.empty(), index.findCandidates(""));
+    }
+
+    @Test
+    public void findCandidates_substringIgnoringCase_returnsMatchingKeys() {
+        index.add("alice", "Alice Pauline");
+        index.add("benson", "Benson Meier");
+        index.add("daniel", "Daniel Meier");
+
+        assertEquals(Optional.of(Set.of("alice")), index.findCandidates("PAUL"));
+        assertEquals(Optional.of(Set.of("benson", "daniel")), index.findCandidates("meier"));
+        assertEquals(Optional.of(Set.of("alice")), index.findCandidates("ice pau"));
+    }
+
+    @Test
+    public void findCandidates_noTextContainsGram_returnsEmptySet() {
+        index.add("alice", "Alice Pauline");
+        assertTrue(index.findCandidates("xyz").get().isEmpty());
+    }
+
+    @Test
+    public void remove_indexedText_keyNoLongerCandidate() {
+        index.add("alice", "Alice Pauline");
+        index.add("alicia", "Alicia Tan");
+        index.remove("alice", "Alice Pauline");
+
+        assertEquals(Optional.of(Set.of("alicia")), index.findCandidates("ali"));
+        assertTrue(index.findCandidates("pauline").get().isEmpty());
+    }
+
+    @Test
+    public void clear_indexedTexts_removesAllKeys() {
+        index.add("alice", "Alice Pauline");
+        index.clear();
+        assertTrue(index.findCandidates("alice").get().isEmpty());
+    }
+}
@@ -0,0 +1,86 @@
+package seedu.address.model.sort;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class PersonSortComparatorTest {
+
+    private static final Person ALICE = new PersonBuilder().withName("alice").withPhone("333").build();
+    private static final Person BOB = new PersonBuilder().withName("Bob").withPhone("222").withTags("b").build();
+    private static final Person CAROL = new PersonBuilder().withName("Carol").withPhone("111")
+            .withTags("owes", "a").build();
+    private static final Person BOB_OTHER_PHONE = new PersonBuilder().withName("BOB").withPhone("111").build();
+
+    @Test
+    public void constructor_noFields_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new PersonSortComparator(List.of()));
+    }
+
+    @Test
+    public void fromName_ignoresCase() {
+        assertEquals(SortField.NAME, SortField.fromName("Name"));
+        assertThrows(IllegalArgumentException.class, () -> SortField.fromName("birthday"));
+    }
+
+    @Test
+    public void compare_name_ignoresCase() {
+        List<Person> persons = new ArrayList<>(List.of(CAROL, BOB, ALICE));
+        persons.sort(new PersonSortComparator(List.of(SortField.NAME)));
+        assertEquals(List.of(ALICE, BOB, CAROL), persons);
+    }
+
+    @Test
+    public void compare_multipleFields_laterFieldsBreakTies() {
+        List<Person> persons = new ArrayList<>(List.of(BOB, CAROL, BOB_OTHER_PHONE, ALICE));
+        persons.sort(new PersonSortComparator(List.of(SortField.NAME, SortField.PHONE)));
+        assertEquals(List.of(ALICE, BOB_OTHER_PHONE, BOB, CAROL), persons);
+    }
+
+    @Test
+    public void compare_tags_ordersBySortedTagNames() {
+        List<Person> persons = new ArrayList<>(List.of(BOB, CAROL, ALICE));
+        persons.sort(new PersonSortComparator(List.of(SortField.TAGS)));
+        // no tags, then "a owes", then "b"
+        assertEquals(List.of(ALICE, CAROL, BOB), persons);
+    }
+
+    @Test
+    public void compare_rankedAndUnrankedPersons_consistentWithKeys() {
+        PersonSortComparator comparator = new PersonSortComparator(List.of(SortField.PHONE));
+        comparator.rank(List.of(ALICE, BOB));
+
+        List<Person> persons = new ArrayList<>(List.of(ALICE, BOB, CAROL));
+        persons.sort(comparator);
+        assertEquals(List.of(CAROL, BOB, ALICE), persons);
+        assertEquals(0, comparator.compare(CAROL, BOB_OTHER_PHONE));
+    }
+
+    @Test
+    public void rank_aboveParallelThreshold_matchesSequentialOrder() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i <= PersonSortComparator.PARALLEL_SORT_THRESHOLD; i++) {
+            persons.add(new PersonBuilder().withName("Person " + i).withPhone(String.valueOf(100000 + i)).build());
+        }
+        Collections.shuffle(persons);
+
+        PersonSortComparator comparator = new PersonSortComparator(List.of(SortField.NAME));
+        comparator.rank(persons);
+        persons.sort(comparator);
+
+        Comparator<Person> byName = Comparator.comparing(person -> person.getName().fullName);
+        for (int i = 1; i < persons.size(); i++) {
+            assertTrue(byName.compare(persons.get(i - 1), persons.get(i)) <= 0);
+        }
+    }
+}
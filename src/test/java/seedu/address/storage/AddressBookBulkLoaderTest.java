@@ -0,0 +1,94 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Email;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.relationship.Relationship;
+import seedu.address.testutil.PersonBuilder;
+import seedu.address.testutil.RelationshipBuilder;
+
+public class AddressBookBulkLoaderTest {
+
+    private static final int MANY = 3 * AddressBookBulkLoader.PARALLEL_CONVERSION_THRESHOLD;
+
+    private static List<Person> getManyPersons() {
+        List<Person> persons = new ArrayList<>();
+        for (int i = 0; i < MANY; i++) {
+            persons.add(new PersonBuilder().withName("Person " + i).build());
+        }
+        return persons;
+    }
+
+    private static List<JsonAdaptedPerson> adapt(List<Person> persons) {
+        return new ArrayList<>(persons.stream().map(JsonAdaptedPerson::new).toList());
+    }
+
+    @Test
+    public void toAddressBook_manyPersonsInBatches_orderKept() throws Exception {
+        List<Person> persons = getManyPersons();
+        AddressBookBulkLoader loader = new AddressBookBulkLoader();
+        loader.addPersons(adapt(persons.subList(0, 10)));
+        loader.addPersons(adapt(persons.subList(10, MANY)));
+
+        AddressBook addressBook = loader.toAddressBook();
+        assertEquals(persons, addressBook.getPersonList());
+    }
+
+    @Test
+    public void addPersons_severalInvalid_throwsForFirstInvalid() {
+        List<JsonAdaptedPerson> adaptedPersons = adapt(getManyPersons());
+        adaptedPersons.set(MANY - 1, new JsonAdaptedPerson("R@chel", "91234567", "rachel@example.com", "Street",
+                null, null, null));
+        adaptedPersons.set(MANY / 2, new JsonAdaptedPerson("Rachel", "91234567", "example.com", "Street",
+                null, null, null));
+
+        assertThrows(IllegalValueException.class, Email.MESSAGE_CONSTRAINTS, () ->
+                new AddressBookBulkLoader().addPersons(adaptedPersons));
+    }
+
+    @Test
+    public void addPersons_invalidName_throwsIllegalValueException() {
+        List<JsonAdaptedPerson> adaptedPersons = adapt(getManyPersons());
+        adaptedPersons.set(MANY - 1, new JsonAdaptedPerson("R@chel", "91234567", "rachel@example.com", "Street",
+                null, null, null));
+
+        assertThrows(IllegalValueException.class, Name.MESSAGE_CONSTRAINTS, () ->
+                new AddressBookBulkLoader().addPersons(adaptedPersons));
+    }
+
+    @Test
+    public void toAddressBook_duplicatePersons_throwsIllegalValueException() throws Exception {
+        AddressBookBulkLoader loader = new AddressBookBulkLoader();
+        loader.addPersons(adapt(List.of(ALICE, BENSON)));
+        loader.addPersons(adapt(List.of(new PersonBuilder(ALICE).withPhone("99999999").build())));
+
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON,
+                loader::toAddressBook);
+    }
+
+    @Test
+    public void toAddressBook_relationshipStoredInReverse_throwsIllegalValueException() throws Exception {
+        Relationship relationship = new RelationshipBuilder().withUser1Id(ALICE.getId())
+                .withUser2Id(BENSON.getId()).withForwardName("Mentor").withReverseName("Mentee").build();
+        Relationship reversed = new RelationshipBuilder().withUser1Id(BENSON.getId())
+                .withUser2Id(ALICE.getId()).withForwardName("Mentee").withReverseName("Mentor").build();
+        AddressBookBulkLoader loader = new AddressBookBulkLoader();
+        loader.addRelationships(List.of(new JsonAdaptedRelationship(relationship),
+                new JsonAdaptedRelationship(reversed)));
+
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_RELATIONSHIP,
+                loader::toAddressBook);
+    }
+}
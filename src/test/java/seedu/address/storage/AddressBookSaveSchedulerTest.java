@@ -0,0 +1,151 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalEvents.BIRTHDAY;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.event.Event;
+
+public class AddressBookSaveSchedulerTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void scheduleSave_burstWhileSaving_mergedIntoOneWrite() throws Exception {
+        BlockingStorage storage = new BlockingStorage(testFolder.resolve("addressBook.json"));
+        AddressBookSaveScheduler scheduler = new AddressBookSaveScheduler(storage);
+        AddressBook addressBook = new AddressBook();
+
+        addressBook.addPerson(ALICE);
+        scheduler.scheduleSave(addressBook);
+        storage.awaitSaveStarted();
+
+        addressBook.addPerson(BENSON);
+        scheduler.scheduleSave(addressBook);
+        addressBook.addPerson(CARL);
+        scheduler.scheduleSave(addressBook);
+        storage.release();
+        scheduler.flush();
+
+        assertEquals(2, storage.saved.size());
+        assertEquals(List.of(ALICE), storage.saved.get(0).getPersonList());
+        assertEquals(List.of(ALICE, BENSON, CARL), storage.saved.get(1).getPersonList());
+    }
+
+    @Test
+    public void scheduleSave_addressBookChangedAfterwards_savesSnapshot() throws Exception {
+        BlockingStorage storage = new BlockingStorage(testFolder.resolve("addressBook.json"));
+        AddressBookSaveScheduler scheduler = new AddressBookSaveScheduler(storage);
+        AddressBook addressBook = new AddressBook();
+        Event event = new Event(BIRTHDAY);
+        addressBook.addEvent(event);
+
+        scheduler.scheduleSave(addressBook);
+        storage.awaitSaveStarted();
+        Event updatedEvent = new Event(event);
+        updatedEvent.addContact(ALICE);
+        addressBook.setEvent(event, updatedEvent);
+        storage.release();
+        scheduler.flush();
+
+        Event savedEvent = storage.saved.get(0).getEventList().get(0);
+        assertFalse(savedEvent.getContactIds().contains(ALICE.getId()));
+        assertTrue(addressBook.getEventList().get(0).getContactIds().contains(ALICE.getId()));
+    }
+
+    @Test
+    public void scheduleSave_storageThrowsIoException_failureHandlerCalled() throws Exception {
+        IOException exception = new IOException("dummy IO exception");
+        AddressBookSaveScheduler scheduler = new AddressBookSaveScheduler(
+                new FailingStorage(testFolder.resolve("addressBook.json"), exception));
+        AtomicReference<IOException> reported = new AtomicReference<>();
+        CountDownLatch failed = new CountDownLatch(1);
+        scheduler.setFailureHandler(e -> {
+            reported.set(e);
+            failed.countDown();
+        });
+
+        scheduler.scheduleSave(new AddressBook());
+
+        assertTrue(failed.await(5, TimeUnit.SECONDS));
+        assertSame(exception, reported.get());
+    }
+
+    @Test
+    public void shutdown_pendingSaveFails_throwsIoException() throws Exception {
+        AddressBookSaveScheduler scheduler = new AddressBookSaveScheduler(
+                new FailingStorage(testFolder.resolve("addressBook.json"), new IOException("dummy IO exception")));
+        scheduler.scheduleSave(new AddressBook());
+
+        assertThrows(IOException.class, scheduler::shutdown);
+    }
+
+    /**
+     * A storage that records each address book it saves, and holds up the first save until released.
+     */
+    private static class BlockingStorage extends JsonAddressBookStorage {
+        private final List<ReadOnlyAddressBook> saved = new CopyOnWriteArrayList<>();
+        private final CountDownLatch saveStarted = new CountDownLatch(1);
+        private final CountDownLatch released = new CountDownLatch(1);
+
+        BlockingStorage(Path filePath) {
+            super(filePath);
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            saveStarted.countDown();
+            try {
+                released.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            saved.add(addressBook);
+        }
+
+        void awaitSaveStarted() throws InterruptedException {
+            assertTrue(saveStarted.await(5, TimeUnit.SECONDS));
+        }
+
+        void release() {
+            released.countDown();
+        }
+    }
+
+    /**
+     * A storage whose saves always throw the given exception.
+     */
+    private static class FailingStorage extends JsonAddressBookStorage {
+        private final IOException exception;
+
+        FailingStorage(Path filePath, IOException exception) {
+            super(filePath);
+            this.exception = exception;
+        }
+
+        @Override
+        public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+            throw exception;
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalEvents.BIRTHDAY;
+import static seedu.address.testutil.TypicalEvents.MEETING;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalRelationships.ALICE_BEFRIENDS_BENSON;
+import static seedu.address.testutil.TypicalRelationships.BENSON_MENTORS_CARL;
+
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.event.Event;
+import seedu.address.model.person.Person;
+import seedu.address.testutil.PersonBuilder;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private AddressBook getAddressBookWithRelationshipsAndEvents() {
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.addPerson(new PersonBuilder().withName("Zoe Tan").withAddress("Straße 5, 東京")
+                .withTags("friends", "colleagues").withSocials("github.com/zoe").build());
+        addressBook.addRelationship(ALICE_BEFRIENDS_BENSON);
+        addressBook.addRelationship(BENSON_MENTORS_CARL);
+        addressBook.addEvent(new Event(BIRTHDAY.getId(), BIRTHDAY.getName(),
+                LocalDateTime.parse(BIRTHDAY.getDate()), BIRTHDAY.getLocation(),
+                BIRTHDAY.getDescription(), BIRTHDAY.getTags(), Set.of(ALICE.getId())));
+        addressBook.addEvent(new Event(MEETING));
+        return addressBook;
+    }
+
+    @Test
+    public void getBinaryFilePath_replacesExtension() {
+        assertEquals(Path.of("data", "addressbook.bin"),
+                BinaryAddressBookStorage.getBinaryFilePath(Path.of("data", "addressbook.json")));
+        assertEquals(Path.of("addressbook.bin"), BinaryAddressBookStorage.getBinaryFilePath(Path.of("addressbook")));
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("addressbook.json"));
+        AddressBook original = getAddressBookWithRelationshipsAndEvents();
+
+        storage.saveAddressBook(original);
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+
+        // Fields that are not part of equality survive too
+        Person zoe = readBack.getPersonList().get(readBack.getPersonList().size() - 1);
+        Person originalZoe = original.getPersonList().get(original.getPersonList().size() - 1);
+        assertEquals(originalZoe.getId(), zoe.getId());
+        assertEquals(originalZoe.getSocials().toString(), zoe.getSocials().toString());
+
+        original.removePerson(ALICE);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_noBinaryFile_importsJsonFile() throws Exception {
+        Path jsonFilePath = testFolder.resolve("addressbook.json");
+        AddressBook original = getAddressBookWithRelationshipsAndEvents();
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(original);
+
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(jsonFilePath);
+        assertEquals(original, storage.readAddressBook().get());
+    }
+
+    @Test
+    public void saveAddressBook_otherFile_exportsJson() throws Exception {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("addressbook.json"));
+        Path exportPath = testFolder.resolve("export.json");
+        AddressBook original = getAddressBookWithRelationshipsAndEvents();
+
+        storage.saveAddressBook(original, exportPath);
+        assertEquals(original, new JsonAddressBookStorage(exportPath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_missingFiles_emptyResult() throws Exception {
+        assertFalse(new BinaryAddressBookStorage(testFolder.resolve("addressbook.json")).readAddressBook()
+                .isPresent());
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataLoadingException() throws Exception {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("addressbook.json"));
+        storage.saveAddressBook(getAddressBookWithRelationshipsAndEvents());
+        Path filePath = storage.getAddressBookFilePath();
+        byte[] content = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(content, content.length / 2));
+
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void readAddressBook_fileTooLarge_throwsDataLoadingException() throws Exception {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("addressbook.json"));
+        // Sparse, so the file takes no disk space
+        try (RandomAccessFile file = new RandomAccessFile(storage.getAddressBookFilePath().toFile(), "rw")) {
+            file.setLength(BinaryAddressBookReader.MAX_FILE_SIZE + 1);
+        }
+
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void readAddressBook_notBinaryFormat_throwsDataLoadingException() throws Exception {
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(testFolder.resolve("addressbook.json"));
+        Files.writeString(storage.getAddressBookFilePath(), "{ \"persons\" : [ ] }");
+
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+    }
+}
@@ -0,0 +1,165 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalEvents.BIRTHDAY;
+import static seedu.address.testutil.TypicalEvents.MEETING;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+import static seedu.address.testutil.TypicalRelationships.ALICE_BEFRIENDS_BENSON;
+import static seedu.address.testutil.TypicalRelationships.BENSON_MENTORS_CARL;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.JournalSettings;
+import seedu.address.commons.core.JournalSettings.SyncPolicy;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.event.Event;
+import seedu.address.testutil.PersonBuilder;
+
+public class JournaledAddressBookStorageTest {
+
+    private static final JournalSettings SETTINGS = new JournalSettings(true, SyncPolicy.PER_COMMAND, 200,
+            1024 * 1024, 3600);
+
+    @TempDir
+    public Path testFolder;
+
+    private AddressBook getAddressBookWithRelationshipsAndEvents() {
+        AddressBook addressBook = getTypicalAddressBook();
+        addressBook.addRelationship(ALICE_BEFRIENDS_BENSON);
+        addressBook.addRelationship(BENSON_MENTORS_CARL);
+        addressBook.addEvent(new Event(BIRTHDAY));
+        addressBook.addEvent(new Event(MEETING));
+        return addressBook;
+    }
+
+    @Test
+    public void saveAddressBook_afterFirstSave_onlyAppendsToJournal() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        Path journalPath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, SETTINGS);
+        AddressBook original = getAddressBookWithRelationshipsAndEvents();
+
+        // First save writes the whole data file
+        storage.saveAddressBook(original);
+        String dataFile = Files.readString(filePath);
+        assertFalse(Files.exists(journalPath) && Files.size(journalPath) > 0);
+
+        // Later saves leave the data file alone
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        original.setPerson(CARL, new PersonBuilder(CARL).withPhone("91234567").build());
+        Event birthday = original.getEventList().get(0);
+        original.setEvent(birthday, birthday.withUpdatedLocation("Sentosa"));
+        storage.saveAddressBook(original);
+        storage.close();
+        assertEquals(dataFile, Files.readString(filePath));
+        assertTrue(Files.size(journalPath) > 0);
+
+        // Replaying the journal restores the latest data
+        JournaledAddressBookStorage reopened = new JournaledAddressBookStorage(filePath, SETTINGS);
+        assertEquals(original, new AddressBook(reopened.readAddressBook().get()));
+
+        // Saves after a replay continue the journal
+        original.addPerson(IDA);
+        reopened.saveAddressBook(original);
+        reopened.close();
+        assertEquals(original, new AddressBook(
+                new JournaledAddressBookStorage(filePath, SETTINGS).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_personMovedToEnd_journalsLoggedEdits() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        Path journalPath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, SETTINGS);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        String dataFile = Files.readString(filePath);
+
+        // Comparing the lists would see a reordering, but the change log knows it was a removal and an insertion
+        original.removePerson(ALICE);
+        original.addPerson(ALICE);
+        storage.saveAddressBook(original);
+        storage.close();
+
+        assertEquals(dataFile, Files.readString(filePath));
+        assertEquals(2, Files.readAllLines(journalPath).size());
+        assertEquals(original, new AddressBook(
+                new JournaledAddressBookStorage(filePath, SETTINGS).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_journalPastThreshold_rewritesDataFile() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        Path journalPath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        JournalSettings settings = new JournalSettings(true, SyncPolicy.OS_MANAGED, 200, 1, 3600);
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, settings);
+        AddressBook original = getTypicalAddressBook();
+
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        assertTrue(Files.size(journalPath) > 0);
+
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        storage.close();
+        assertEquals(0, Files.size(journalPath));
+        assertEquals(original, new JsonAddressBookStorage(filePath).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_partlyWrittenLastRecord_ignoresRecord() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        Path journalPath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        JournalSettings settings = new JournalSettings(true, SyncPolicy.GROUP_COMMIT, 10, 1024 * 1024, 3600);
+        JournaledAddressBookStorage storage = new JournaledAddressBookStorage(filePath, settings);
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        storage.close();
+
+        Files.writeString(journalPath, "{\"sequence\":99,\"target\":\"PER", StandardCharsets.UTF_8,
+                StandardOpenOption.APPEND);
+        JournaledAddressBookStorage reopened = new JournaledAddressBookStorage(filePath, settings);
+        assertEquals(original, reopened.readAddressBook().get());
+
+        // The partly written record is dropped, so later records can be read back
+        original.addPerson(IDA);
+        reopened.saveAddressBook(original);
+        reopened.close();
+        assertEquals(original, new JournaledAddressBookStorage(filePath, settings).readAddressBook().get());
+    }
+
+    @Test
+    public void readAddressBook_recordNotMatchingDataFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        Path journalPath = JournaledAddressBookStorage.getJournalFilePath(filePath);
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        Files.writeString(journalPath, "{\"sequence\":1,\"target\":\"PERSON\",\"action\":\"REMOVE\",\"index\":42}\n");
+
+        assertThrows(DataLoadingException.class, () ->
+                new JournaledAddressBookStorage(filePath, SETTINGS).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_missingDataFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("missing.json");
+        assertFalse(new JournaledAddressBookStorage(filePath, SETTINGS).readAddressBook().isPresent());
+    }
+}
@@ -0,0 +1,55 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.event.Event;
+import seedu.address.testutil.TypicalPersons;
+
+public class JsonAddressBookStreamReaderTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookStreamReaderTest");
+    private static final Path SERIALIZABLE_TEST_DATA_FOLDER =
+            Paths.get("src", "test", "data", "JsonSerializableAddressBookTest");
+
+    @Test
+    public void read_typicalPersonsFile_success() throws Exception {
+        AddressBook addressBook = new JsonAddressBookStreamReader()
+                .read(SERIALIZABLE_TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json"));
+        assertEquals(TypicalPersons.getTypicalAddressBook(), addressBook);
+    }
+
+    @Test
+    public void read_eventsBeforePersons_contactsResolved() throws Exception {
+        JsonAddressBookStreamReader reader = new JsonAddressBookStreamReader();
+        AddressBook addressBook = reader.read(TEST_DATA_FOLDER.resolve("eventsBeforePersonsAddressBook.json"));
+
+        Event event = addressBook.getEventById("00000042");
+        assertEquals(Set.of(TypicalPersons.ALICE.getId()), event.getContactIds());
+        assertEquals(List.of(event), addressBook.getEventsForPerson(TypicalPersons.ALICE));
+        assertEquals(7, reader.getJournalSequence());
+    }
+
+    @Test
+    public void read_duplicatePersons_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON, () ->
+                new JsonAddressBookStreamReader()
+                        .read(SERIALIZABLE_TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json")));
+    }
+
+    @Test
+    public void read_notAnObject_throwsIoException() {
+        assertThrows(IOException.class, () ->
+                new JsonAddressBookStreamReader().read(TEST_DATA_FOLDER.resolve("notAnObjectAddressBook.json")));
+    }
+}
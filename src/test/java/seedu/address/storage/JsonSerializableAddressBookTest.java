@@ -6,9 +6,12 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import java.nio.file.Path;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
@@ -16,6 +19,7 @@ import org.junit.jupiter.api.Test;
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.AddressBook;
+import seedu.address.model.event.Event;
 import seedu.address.testutil.TypicalEvents;
 import seedu.address.testutil.TypicalPersons;
 import seedu.address.testutil.TypicalRelationships;
@@ -55,6 +59,32 @@ public class JsonSerializableAddressBookTest {
         assertEquals(addressBookFromFile, typicalPersonsAddressBook);
     }
 
+    @Test
+    public void toModelType_legacyEventContacts_resolvedToPersonIds() throws Exception {
+        JsonSerializableAddressBook dataFromFile = JsonUtil.readJsonFile(
+                Path.of(TEST_DATA_FOLDER + "legacyEventContactsAddressBook.json"),
+                JsonSerializableAddressBook.class).get();
+        AddressBook addressBookFromFile = dataFromFile.toModelType();
+
+        Event event = addressBookFromFile.getEventById("00000042");
+        assertEquals(Set.of(TypicalPersons.ALICE.getId()), event.getContactIds());
+        assertEquals(List.of(event), addressBookFromFile.getEventsForPerson(TypicalPersons.ALICE));
+    }
+
+    @Test
+    public void toModelType_eventContactIds_roundTrip() throws Exception {
+        AddressBook original = new AddressBook();
+        original.addPerson(TypicalPersons.ALICE);
+        Event event = new Event(TypicalEvents.MEETING.getName(), LocalDateTime.of(2024, 1, 2, 14, 0),
+                TypicalEvents.MEETING.getLocation(), TypicalEvents.MEETING.getDescription(), new HashSet<>(),
+                Set.of(TypicalPersons.ALICE.getId()));
+        original.addEvent(event);
+
+        String json = JsonUtil.toJsonString(new JsonSerializableAddressBook(original));
+        AddressBook reloaded = JsonUtil.fromJsonString(json, JsonSerializableAddressBook.class).toModelType();
+        assertEquals(event.getContactIds(), reloaded.getEventById(event.getId()).getContactIds());
+    }
+
     @Test
     public void toModelType_invalidPersonFile_throwsIllegalValueException() throws Exception {
         Optional<JsonSerializableAddressBook> optionalData = JsonUtil.readJsonFile(
@@ -2,6 +2,7 @@ package seedu.address.testutil;
 
 import java.nio.file.Path;
 import java.util.Comparator;
+import java.util.List;
 import java.util.function.Predicate;
 
 import javafx.collections.FXCollections;
@@ -11,6 +12,7 @@ import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.event.Event;
+import seedu.address.model.person.Name;
 import seedu.address.model.person.Person;
 import seedu.address.model.relationship.Relationship;
 import seedu.address.model.relationship.exceptions.RelationshipNotFoundException;
@@ -54,6 +56,11 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void addPersons(List<Person> persons) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void setAddressBook(ReadOnlyAddressBook newData) {
         throw new AssertionError("This method should not be called.");
@@ -130,6 +137,11 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void addRelationships(List<Relationship> relationships) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void deleteRelationship(String userId1, String userId2, String relationshipName)
             throws RelationshipNotFoundException {
@@ -146,6 +158,11 @@ public class ModelStub implements Model {
         throw new AssertionError("This method should not be called.");
     }
 
+    @Override
+    public void addEvents(List<Event> events) {
+        throw new AssertionError("This method should not be called.");
+    }
+
     @Override
     public void deleteEvent(Event event) {
         throw new AssertionError("This method should not be called.");
@@ -185,4 +202,14 @@ public class ModelStub implements Model {
     public Event getEventById(String id) {
         throw new AssertionError("This method should not be called.");
     }
+
+    @Override
+    public Person getPersonByName(Name name) {
+        throw new AssertionError("This method should not be called.");
+    }
+
+    @Override
+    public List<Event> getEventsForPerson(Person person) {
+        throw new AssertionError("This method should not be called.");
+    }
 }
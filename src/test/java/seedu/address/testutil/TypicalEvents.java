@@ -7,7 +7,6 @@ import java.util.HashSet;
 import java.util.List;
 
 import seedu.address.model.event.Event;
-import seedu.address.model.person.UniquePersonList;
 
 /**
  * A utility class containing a list of {@code Event} objects to be used in tests.
@@ -20,7 +19,7 @@ public class TypicalEvents {
             "Marina Bay Sands",
             "Annual birthday celebration",
             new HashSet<>(),
-            new UniquePersonList()
+            new HashSet<>()
     );
 
     public static final Event MEETING = new Event(
@@ -29,7 +28,7 @@ public class TypicalEvents {
             "COM1-02-01",
             "Weekly team sync-up",
             new HashSet<>(),
-            new UniquePersonList()
+            new HashSet<>()
     );
 
     public static final Event CONFERENCE = new Event(
@@ -38,7 +37,7 @@ public class TypicalEvents {
             "Suntec Convention Centre",
             "Annual tech conference",
             new HashSet<>(),
-            new UniquePersonList()
+            new HashSet<>()
     );
 
     private TypicalEvents() {} // prevents instantiation